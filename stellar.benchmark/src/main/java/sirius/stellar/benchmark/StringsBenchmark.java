@@ -0,0 +1,51 @@
+package sirius.stellar.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import sirius.stellar.facility.Strings;
+
+import java.text.MessageFormat;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link Strings#format(String, Object...)} against the implementation it replaced, which parsed
+ * every pattern with a new {@link MessageFormat} and passed the result through {@link String#format} as well.
+ * <p>
+ * Each pattern kind is benchmarked separately, as only simple placeholders and {@code %s} specifiers
+ * are formatted by hand; any other pattern still goes through {@link MessageFormat}, parsed once.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringsBenchmark {
+
+	@Param({"Request {0} for {1} completed with {2}", "Request %s for %s completed with %s", "Request {0} for {1} took {2,number,#.##}ms"})
+	private String pattern;
+
+	private Object[] arguments;
+
+	@Setup
+	public void setup() {
+		this.arguments = new Object[] {"GET /index", "alice", 12.5};
+	}
+
+	@Benchmark
+	public String current() {
+		return Strings.format(this.pattern, this.arguments);
+	}
+
+	@Benchmark
+	public String previous() {
+		return Optional.of(this.pattern)
+				.map(MessageFormat::new)
+				.map(format -> format.format(this.arguments))
+				.map(message -> String.format(message, this.arguments))
+				.orElseThrow(IllegalStateException::new);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,111 @@
+package sirius.stellar.logging.collect;
+
+import org.openjdk.jmh.annotations.*;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Compares the throughput of {@link CsvFormat} against the encoding used by {@link FileCollector} before it, which
+ * built each line with regular expressions, a stream and string concatenation, and copied every line into a new
+ * heap buffer for each batch. The number of bytes encoded is reported as {@code bytes}, in bytes per second.
+ * <p>
+ * This is in the same package as the format, as it is not part of the API.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CsvFormatBenchmark {
+
+	@Param({"Request GET /index for alice completed in 12ms", "Request \"GET /index\" failed:\njava.lang.IllegalStateException: 'closed'"})
+	private String text;
+
+	private List<LoggerMessage> batch;
+	private CsvFormat format;
+	private FileBuffer buffer;
+
+	@Setup
+	public void setup() {
+		this.batch = new ArrayList<>();
+		Instant time = Instant.now();
+		for (int i = 0; i < 256; i++) this.batch.add(new LoggerMessage(time.plusNanos(i * 1_000L), LoggerLevel.INFORMATION, "worker-" + (i % 8), "sirius.stellar.benchmark.Handler", this.text));
+
+		this.format = new CsvFormat();
+		this.buffer = new FileBuffer();
+	}
+
+	@Benchmark
+	public int current(Counters counters) {
+		this.buffer.clear();
+		for (LoggerMessage message : this.batch) this.format.encode(message, this.buffer);
+
+		int length = this.buffer.flip().remaining();
+		counters.bytes += length;
+		return length;
+	}
+
+	@Benchmark
+	public int previous(Counters counters) {
+		byte[][] encoded = new byte[this.batch.size()][];
+		int length = 0;
+		for (int i = 0; i < encoded.length; i++) {
+			encoded[i] = encode(this.batch.get(i));
+			length += encoded[i].length;
+		}
+
+		ByteBuffer buffer = ByteBuffer.allocate(length);
+		for (byte[] text : encoded) buffer.put(text);
+		buffer.flip();
+
+		counters.bytes += length;
+		return buffer.remaining();
+	}
+
+	/**
+	 * The encoding used by {@link FileCollector} before {@link CsvFormat}.
+	 */
+	private static byte[] encode(LoggerEvent event) {
+		return ("\"" +
+				event.time() + "\",\"" +
+				event.level() + "\",\"" +
+				event.thread() + "\",\"" +
+				event.name() + "\",\"" +
+				Arrays.stream(event.text().toString()
+						.replaceAll("\"", "`")
+						.replaceAll("'", "`")
+						.split("\n"))
+						.map(string -> "'" + string + "'")
+						.collect(Collectors.joining()) +
+		"\"\n").getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * The number of bytes encoded, reported by JMH as a rate alongside the number of batches.
+	 */
+	@State(Scope.Thread)
+	@AuxCounters(AuxCounters.Type.OPERATIONS)
+	public static class Counters {
+
+		public long bytes;
+
+		@Setup(Level.Iteration)
+		public void reset() {
+			this.bytes = 0;
+		}
+	}
+}
\ No newline at end of file
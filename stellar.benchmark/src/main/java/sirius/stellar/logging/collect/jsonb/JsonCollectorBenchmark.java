@@ -0,0 +1,71 @@
+package sirius.stellar.logging.collect.jsonb;
+
+import org.openjdk.jmh.annotations.*;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.collect.Collector;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Compares the throughput of {@link JsonCollector} against the CSV collector returned by {@link Collector#file(Path, Duration)},
+ * both writing the same batches to a file in a temporary directory, which is deleted after each trial.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonCollectorBenchmark {
+
+	@Param({"Request GET /index for alice completed in 12ms", "Request \"GET /index\" failed:\njava.lang.IllegalStateException: 'closed'"})
+	private String text;
+
+	private List<LoggerMessage> batch;
+	private Path directory;
+	private Collector json;
+	private Collector csv;
+
+	@Setup
+	public void setup() throws IOException {
+		this.batch = new ArrayList<>();
+		Instant time = Instant.now();
+		for (int i = 0; i < 256; i++) this.batch.add(new LoggerMessage(time.plusNanos(i * 1_000L), LoggerLevel.INFORMATION, "worker-" + (i % 8), "sirius.stellar.benchmark.Handler", this.text));
+
+		this.directory = Files.createTempDirectory("stellar-benchmark");
+		this.json = new JsonCollector(this.directory.resolve("json").resolve("log.jsonl"));
+		this.csv = Collector.file(this.directory.resolve("csv"), Duration.ofDays(1));
+	}
+
+	@TearDown
+	public void teardown() throws Exception {
+		this.json.close();
+		this.csv.close();
+		try (Stream<Path> stream = Files.walk(this.directory)) {
+			for (Path path : stream.sorted(Comparator.reverseOrder()).toList()) Files.delete(path);
+		}
+	}
+
+	@Benchmark
+	public void json() {
+		this.json.collect(this.batch);
+	}
+
+	@Benchmark
+	public void csv() {
+		this.csv.collect(this.batch);
+	}
+}
\ No newline at end of file
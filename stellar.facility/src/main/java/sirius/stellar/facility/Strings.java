@@ -6,7 +6,6 @@ import java.security.SecureRandom;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Locale;
-import java.util.Optional;
 import java.util.Random;
 import java.util.random.RandomGenerator;
 
@@ -55,22 +54,21 @@ public final class Strings {
 	 * This method invokes both {@link MessageFormat} and {@link String#format},
 	 * allowing for both types of formatting to be applied to the message (as they
 	 * do not clash with each other's syntax).
+	 * <p>
+	 * Each format string is only parsed once, and format strings that only use simple placeholders
+	 * (e.g. {@code {0}}) or only use {@code %s} are formatted without invoking either of them at all,
+	 * while still producing exactly the same result, so this is suitable for very frequent use.
 	 *
 	 * @return The provided string, formatted, or null if the provided string is null,
 	 * or the provided string if the argument array is null.
 	 * @see Strings#format(Locale, String, Object...)
 	 * @since 1u1
 	 */
-	@Contract(value = "null, _ -> null; _, null -> param1; !null, !null -> new", pure = true)
+	@Contract(value = "null, _ -> null; _, null -> param1; !null, !null -> !null", pure = true)
 	public static String format(String string, Object... arguments) {
 		if (string == null) return null;
 		if (arguments == null) return string;
-
-		return Optional.of(string)
-				.map(MessageFormat::new)
-				.map(format -> format.format(arguments))
-				.map(message -> String.format(message, arguments))
-				.orElseThrow(IllegalStateException::new);
+		return StringsTemplate.of(string).format(Locale.getDefault(Locale.Category.FORMAT), arguments);
 	}
 
 	/**
@@ -88,17 +86,35 @@ public final class Strings {
 	 * @see Strings#format(String, Object...)
 	 * @since 1u1
 	 */
-	@Contract(value = "_, null, _ -> null; _, _, null -> param2; _, !null, !null -> new", pure = true)
+	@Contract(value = "_, null, _ -> null; _, _, null -> param2; _, !null, !null -> !null", pure = true)
 	public static String format(Locale locale, String string, Object... arguments) {
 		if (string == null) return null;
 		if (arguments == null) return string;
 
 		Locale effectiveLocale = (locale == null) ? Locale.ENGLISH : locale;
-		return Optional.of(string)
-				.map(pattern -> new MessageFormat(pattern, effectiveLocale))
-				.map(format -> format.format(arguments))
-				.map(message -> String.format(effectiveLocale, message, arguments))
-				.orElseThrow(IllegalStateException::new);
+		return StringsTemplate.of(string).format(effectiveLocale, arguments);
+	}
+
+	/**
+	 * Appends a formatted string to the provided builder, using the provided format string and arguments.
+	 * <p>
+	 * This appends exactly the same result as {@link Strings#format(String, Object...)} returns, however,
+	 * it is formatted straight into the provided builder where possible, rather than into a new string,
+	 * which is suitable for reusing a builder across many calls.
+	 *
+	 * @return The provided builder, or null if the provided builder is null. Nothing is appended if the
+	 * provided string is null, and the provided string is appended as is if the argument array is null.
+	 * @see Strings#format(String, Object...)
+	 * @since 1u1
+	 */
+	@Contract(value = "null, _, _ -> null; !null, _, _ -> param1")
+	public static StringBuilder append(StringBuilder builder, String string, Object... arguments) {
+		if (builder == null) return null;
+		if (string == null) return builder;
+		if (arguments == null) return builder.append(string);
+
+		StringsTemplate.of(string).format(builder, Locale.getDefault(Locale.Category.FORMAT), arguments);
+		return builder;
 	}
 
 	/**
@@ -0,0 +1,295 @@
+package sirius.stellar.facility;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Represents a pattern accepted by {@link Strings#format(String, Object...)}, parsed once and cached.
+ * <p>
+ * Formatting produces exactly the same result as passing the pattern to {@link MessageFormat} and then passing the
+ * result to {@link String#format(Locale, String, Object...)}, however, the most common patterns are formatted by hand
+ * into a reusable {@link StringBuilder} rather than through either of them:
+ * <ul>
+ *     <li>Patterns that only contain simple placeholders (e.g. {@code {0}}) and no quotes are formatted directly,
+ *     with numbers and dates being formatted in the same way as {@link MessageFormat} would.</li>
+ *     <li>Patterns that do not contain braces or quotes are left as they are by {@link MessageFormat}, so they only
+ *     need {@link String#format(Locale, String, Object...)} if they contain {@code %} at all; if the only format
+ *     specifier they contain is {@code %s}, they are formatted directly as well.</li>
+ * </ul>
+ * Any other pattern is formatted with a copy of a {@link MessageFormat} parsed once for it.
+ */
+@Internal
+final class StringsTemplate {
+
+	private static final int MAXIMUM = 1024;
+	private static final int RETAINED = 8192;
+
+	private static final Map<String, StringsTemplate> templates = new ConcurrentHashMap<>();
+	private static final ThreadLocal<Context> contexts = ThreadLocal.withInitial(Context::new);
+
+	private static final int LITERAL = 0;
+	private static final int PLACEHOLDERS = 1;
+	private static final int COMPLEX = 2;
+
+	private final String pattern;
+	private final int kind;
+	private final String[] literals;
+	private final int[] indices;
+
+	private volatile MessageFormat prototype;
+
+	private StringsTemplate(String pattern, int kind, String[] literals, int[] indices) {
+		this.pattern = pattern;
+		this.kind = kind;
+		this.literals = literals;
+		this.indices = indices;
+	}
+
+	/**
+	 * Returns the template for the provided pattern, parsing it if it is not already cached.
+	 * The cache is cleared whenever it becomes full, so that patterns built at runtime cannot grow it without limit.
+	 */
+	static StringsTemplate of(String pattern) {
+		StringsTemplate template = templates.get(pattern);
+		if (template != null) return template;
+
+		template = parse(pattern);
+		if (templates.size() >= MAXIMUM) templates.clear();
+		templates.put(pattern, template);
+		return template;
+	}
+
+	/**
+	 * Formats this template with the provided arguments and locale.
+	 */
+	String format(Locale locale, Object[] arguments) {
+		if (this.kind == LITERAL && this.pattern.indexOf('%') == -1) return this.pattern;
+
+		Context context = Context.acquire();
+		try {
+			this.format(context, context.builder, locale, arguments);
+			return context.builder.toString();
+		} finally {
+			context.release();
+		}
+	}
+
+	/**
+	 * Formats this template with the provided arguments and locale, appending the result to the provided builder.
+	 * If formatting fails, the builder is left as it was.
+	 */
+	void format(StringBuilder target, Locale locale, Object[] arguments) {
+		Context context = Context.acquire();
+		try {
+			this.format(context, target, locale, arguments);
+		} finally {
+			context.release();
+		}
+	}
+
+	/**
+	 * Formats this template with the provided arguments and locale, appending the result to the provided builder,
+	 * which may be the builder of the provided context.
+	 */
+	private void format(Context context, StringBuilder target, Locale locale, Object[] arguments) {
+		int start = target.length();
+		try {
+			if (this.kind == LITERAL && this.literals != null && this.indices.length <= arguments.length && this.plain(arguments)) {
+				this.specifiers(target, arguments);
+				return;
+			}
+
+			switch (this.kind) {
+				case LITERAL -> target.append(this.pattern);
+				case PLACEHOLDERS -> this.placeholders(context, target, locale, arguments);
+				default -> target.append(this.message(locale).format(arguments));
+			}
+			if (target.indexOf("%", start) == -1) return;
+
+			String message = target.substring(start);
+			target.setLength(start);
+			target.append(String.format(locale, message, arguments));
+		} catch (RuntimeException exception) {
+			target.setLength(start);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Appends the simple placeholders of this template, formatted in the same way as {@link MessageFormat} would.
+	 */
+	private void placeholders(Context context, StringBuilder target, Locale locale, Object[] arguments) {
+		for (int i = 0; i < this.indices.length; i++) {
+			target.append(this.literals[i]);
+
+			int index = this.indices[i];
+			if (index >= arguments.length) {
+				target.append('{').append(index).append('}');
+				continue;
+			}
+
+			Object argument = arguments[index];
+			if (argument == null) target.append("null");
+			else if (argument instanceof Number) target.append(context.numbers(locale).format(argument));
+			else if (argument instanceof Date) target.append(context.dates(locale).format(argument));
+			else if (argument instanceof String string) target.append(string);
+			else target.append(String.valueOf(argument.toString()));
+		}
+		target.append(this.literals[this.indices.length]);
+	}
+
+	/**
+	 * Appends the {@code %s} specifiers of this template, formatted in the same way as {@link String#format} would.
+	 * This must only be used if {@link StringsTemplate#plain(Object[])} is true for the arguments.
+	 */
+	private void specifiers(StringBuilder target, Object[] arguments) {
+		for (int i = 0; i < this.indices.length; i++) target.append(this.literals[i]).append(arguments[this.indices[i]]);
+		target.append(this.literals[this.indices.length]);
+	}
+
+	/**
+	 * Returns whether none of the arguments used by the {@code %s} specifiers of this
+	 * template are {@link Formattable}, which must be formatted by {@link String#format}.
+	 */
+	private boolean plain(Object[] arguments) {
+		for (int index : this.indices) if (arguments[index] instanceof Formattable) return false;
+		return true;
+	}
+
+	/**
+	 * Returns a {@link MessageFormat} for this template, copied from one that is only parsed once.
+	 * A {@link MessageFormat} cannot be used by multiple threads at once, hence the copy.
+	 */
+	private MessageFormat message(Locale locale) {
+		MessageFormat prototype = this.prototype;
+		if (prototype != null && prototype.getLocale().equals(locale)) return (MessageFormat) prototype.clone();
+
+		MessageFormat format = new MessageFormat(this.pattern, locale);
+		this.prototype = format;
+		return (MessageFormat) format.clone();
+	}
+
+	/**
+	 * Parses the provided pattern, determining whether it can be formatted by hand.
+	 */
+	private static StringsTemplate parse(String pattern) {
+		if (pattern.indexOf('\'') != -1) return new StringsTemplate(pattern, COMPLEX, null, null);
+		if (pattern.indexOf('{') == -1 && pattern.indexOf('}') == -1) return literal(pattern);
+
+		List<String> literals = new ArrayList<>();
+		List<Integer> indices = new ArrayList<>();
+
+		int start = 0;
+		for (int i = 0; i < pattern.length(); i++) {
+			char character = pattern.charAt(i);
+			if (character == '}') return new StringsTemplate(pattern, COMPLEX, null, null);
+			if (character != '{') continue;
+
+			int end = i + 1;
+			while (end < pattern.length() && pattern.charAt(end) >= '0' && pattern.charAt(end) <= '9') end++;
+			int digits = end - (i + 1);
+			if (digits == 0 || digits > 4 || end >= pattern.length() || pattern.charAt(end) != '}') return new StringsTemplate(pattern, COMPLEX, null, null);
+
+			literals.add(pattern.substring(start, i));
+			indices.add(Integer.parseInt(pattern, i + 1, end, 10));
+			start = end + 1;
+			i = end;
+		}
+		literals.add(pattern.substring(start));
+		return new StringsTemplate(pattern, PLACEHOLDERS, literals.toArray(String[]::new), indices.stream().mapToInt(Integer::intValue).toArray());
+	}
+
+	/**
+	 * Parses the provided pattern, which {@link MessageFormat} leaves as it is, splitting it
+	 * around any {@code %s} specifiers if there are no other format specifiers in it.
+	 */
+	private static StringsTemplate literal(String pattern) {
+		List<String> literals = new ArrayList<>();
+
+		int start = 0;
+		for (int i = pattern.indexOf('%'); i != -1; i = pattern.indexOf('%', i + 2)) {
+			if (i + 1 >= pattern.length() || pattern.charAt(i + 1) != 's') return new StringsTemplate(pattern, LITERAL, null, null);
+			literals.add(pattern.substring(start, i));
+			start = i + 2;
+		}
+		literals.add(pattern.substring(start));
+
+		int[] indices = new int[literals.size() - 1];
+		for (int i = 0; i < indices.length; i++) indices[i] = i;
+		return new StringsTemplate(pattern, LITERAL, literals.toArray(String[]::new), indices);
+	}
+
+	/**
+	 * Represents the state reused by one thread for formatting.
+	 * <p>
+	 * Formatting an argument can call {@link Strings#format(String, Object...)} again, e.g., in its implementation of
+	 * {@link Object#toString()}, so a context that is already in use is never shared, and virtual threads (which are
+	 * usually not reused) never retain one.
+	 */
+	private static final class Context {
+
+		private StringBuilder builder = new StringBuilder();
+		private boolean using;
+
+		private Locale locale;
+		private NumberFormat numbers;
+		private DateFormat dates;
+
+		/**
+		 * Returns a context for the current thread that is not in use.
+		 */
+		static Context acquire() {
+			if (Thread.currentThread().isVirtual()) return new Context();
+			Context context = contexts.get();
+			if (context.using) return new Context();
+			context.using = true;
+			return context;
+		}
+
+		/**
+		 * Releases this context, clearing the builder for reuse.
+		 */
+		void release() {
+			if (this.builder.capacity() > RETAINED) this.builder = new StringBuilder();
+			this.builder.setLength(0);
+			this.using = false;
+		}
+
+		/**
+		 * Returns the format used by {@link MessageFormat} for numbers in the provided locale.
+		 */
+		NumberFormat numbers(Locale locale) {
+			if (!locale.equals(this.locale)) this.localize(locale);
+			if (this.numbers == null) this.numbers = NumberFormat.getInstance(locale);
+			return this.numbers;
+		}
+
+		/**
+		 * Returns the format used by {@link MessageFormat} for dates in the provided locale.
+		 */
+		DateFormat dates(Locale locale) {
+			if (!locale.equals(this.locale)) this.localize(locale);
+			if (this.dates == null) this.dates = DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale);
+			return this.dates;
+		}
+
+		/**
+		 * Switches this context to the provided locale, discarding the formats for the previous one.
+		 */
+		private void localize(Locale locale) {
+			this.locale = locale;
+			this.numbers = null;
+			this.dates = null;
+		}
+	}
+}
\ No newline at end of file
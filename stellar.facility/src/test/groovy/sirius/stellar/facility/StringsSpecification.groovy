@@ -2,6 +2,8 @@ package sirius.stellar.facility
 
 import spock.lang.Specification
 
+import java.text.MessageFormat
+
 class StringsSpecification extends Specification {
 
 	//#region format(String, Object...)
@@ -25,6 +27,49 @@ class StringsSpecification extends Specification {
 			result == "Lorem ipsum dolor sit amet."
 	}
 
+	def "format(String, Object,,,) produces the same result as MessageFormat and String#format"() {
+		given:
+			Object[] arguments = ["ipsum", 1234.5, null]
+		when:
+			def result = Strings.format(format, arguments)
+		then:
+			result == String.format(new MessageFormat(format).format(arguments), arguments)
+		where:
+			format << [
+					"Lorem {0} dolor {1} sit {2} amet {3}.",
+					"Lorem %s dolor %s sit %s amet.",
+					"Lorem {0} dolor %s sit amet.",
+					"Lorem '{0}' dolor {1,number,#} sit amet.",
+					'Lorem %2$s%% dolor sit amet.',
+					"Lorem ipsum dolor sit amet."
+			]
+	}
+
+	def "format(String, Object,,,) formats String#format specifiers introduced by arguments"() {
+		given:
+			String format = "Lorem {0} dolor sit amet."
+			Object[] arguments = ["%s"]
+		when:
+			def result = Strings.format(format, arguments)
+		then:
+			result == "Lorem %s dolor sit amet."
+	}
+
+	def "format(String, Object,,,) can be called while formatting an argument"() {
+		given:
+			String format = "Lorem {0} dolor sit amet."
+			Object argument = new Object() {
+				@Override
+				String toString() {
+					return Strings.format("{0}{1}", "ip", "sum")
+				}
+			}
+		when:
+			def result = Strings.format(format, argument)
+		then:
+			result == "Lorem ipsum dolor sit amet."
+	}
+
 	def "format(String, Object,,,) with null inputs doesn't throw NullPointerException"() {
 		when:
 			Strings.format(null, null)
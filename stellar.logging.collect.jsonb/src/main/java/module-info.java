@@ -0,0 +1,9 @@
+module sirius.stellar.logging.collect.jsonb {
+
+	requires sirius.stellar.facility;
+	requires sirius.stellar.logging;
+
+	requires io.avaje.jsonb;
+
+	exports sirius.stellar.logging.collect.jsonb;
+}
\ No newline at end of file
@@ -0,0 +1,263 @@
+package sirius.stellar.logging.collect.jsonb;
+
+import io.avaje.json.JsonWriter;
+import io.avaje.json.PropertyNames;
+import io.avaje.jsonb.Jsonb;
+import sirius.stellar.logging.LoggerContext;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerFields;
+import sirius.stellar.logging.LoggerMessage;
+import sirius.stellar.logging.collect.Collector;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Implementation of {@link Collector} that writes JSON lines with avaje-jsonb, i.e., a JSON object for each message,
+ * each on its own line.
+ * <p>
+ * Messages are written with the streaming {@link JsonWriter} of avaje-jsonb, with the property names encoded ahead of
+ * time with {@link Jsonb#properties(String...)}, so each field of the message is written straight into the buffer of the
+ * writer without any reflection, adapters or intermediate map. The writer flushes into a direct buffer that is only
+ * written to the channel once it is full or the batch has been written, so a batch usually costs a single write.
+ * <p>
+ * Each line contains the {@code time} as an ISO-8601 timestamp with nanoseconds, the {@code level}, the {@code thread},
+ * the {@code threadId} (if known), the {@code carrier} (only if the thread was virtual), the {@code name} and the
+ * {@code text} of the message, followed by its structured {@code fields} and the keys and values of its diagnostic
+ * {@code context} as objects (only if it has any), e.g.:
+ * <pre>{@code
+ * {"time":"2024-02-29T23:59:59.123456789Z","level":"WARNING","thread":"main","threadId":1,"name":"sirius.stellar.Orders","text":"Slow order","fields":{"order":"A-17","latency":412},"context":{"request":"7f3a"}}
+ * }</pre>
+ * Fields with a primitive value are written as a JSON number or boolean, and any other value (including every value
+ * of the context) as a string, or {@code null}.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class JsonCollector implements Collector {
+
+	@Serial
+	private static final long serialVersionUID = 7405512830960437105L;
+
+	private static final Jsonb jsonb = Jsonb.builder().build();
+	private static final PropertyNames names = jsonb.properties("time", "level", "thread", "threadId", "carrier", "name", "text");
+	private static final DateTimeFormatter seconds = DateTimeFormatter.ofPattern("uuuu-MM-dd'T'HH:mm:ss").withZone(ZoneOffset.UTC);
+
+	private final transient WritableByteChannel channel;
+	private final transient ChannelOutput output;
+	private final transient JsonWriter writer;
+	private final transient ReentrantLock lock;
+
+	private final transient StringBuilder time;
+	private transient long second;
+	private transient int prefix;
+
+	/**
+	 * Creates a collector appending to the provided file, which is created if it does not exist.
+	 * @since 1u1
+	 */
+	public JsonCollector(Path path) {
+		this(open(path));
+	}
+
+	/**
+	 * Creates a collector writing to the provided channel, which is closed along with it.
+	 * @since 1u1
+	 */
+	public JsonCollector(WritableByteChannel channel) {
+		if (channel == null) throw new NullPointerException("Attempted to set channel to null");
+		this.channel = channel;
+		this.output = new ChannelOutput(channel);
+		this.writer = jsonb.writer(this.output);
+		this.writer.serializeNulls(true);
+		this.lock = new ReentrantLock();
+
+		this.time = new StringBuilder(32);
+		this.second = Long.MIN_VALUE;
+	}
+
+	/**
+	 * Opens the provided file for appending, creating it and any parent directories if they do not exist.
+	 */
+	private static FileChannel open(Path path) {
+		if (path == null) throw new NullPointerException("Attempted to set path to null");
+		try {
+			Path parent = path.toAbsolutePath().getParent();
+			if (parent != null) Files.createDirectories(parent);
+			return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to open file for collector", exception);
+		}
+	}
+
+	@Override
+	public void collect(LoggerMessage message) {
+		this.collect(List.of(message));
+	}
+
+	@Override
+	public void collect(List<? extends LoggerEvent> events) {
+		this.lock.lock();
+		try {
+			if (!this.channel.isOpen()) return;
+			for (LoggerEvent event : events) this.write(event);
+			this.writer.flush();
+			this.output.flush();
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to write to channel", exception);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Writes the provided event as a single line, in the order of {@link JsonCollector#names}.
+	 * The fields and context are written last, as nested objects, with their names written as strings, as the
+	 * encoded property names only apply to the outermost object.
+	 */
+	private void write(LoggerEvent event) {
+		this.writer.beginObject(names);
+		this.writer.name(0);
+		this.writer.value(this.time(event.nanos()));
+		this.writer.name(1);
+		this.writer.value(event.level().name());
+		this.writer.name(2);
+		this.writer.value(event.thread());
+		if (event.threadId() != -1) {
+			this.writer.name(3);
+			this.writer.value(event.threadId());
+		}
+		if (event.carrier() != null) {
+			this.writer.name(4);
+			this.writer.value(event.carrier());
+		}
+		this.writer.name(5);
+		this.writer.value(event.name());
+		this.writer.name(6);
+		this.writer.value(event.text().toString());
+
+		LoggerFields fields = event.fields();
+		if (!fields.isEmpty()) {
+			this.writer.name("fields");
+			this.writer.beginObject();
+			for (int i = 0; i < fields.size(); i++) {
+				this.writer.name(fields.key(i));
+				switch (fields.type(i)) {
+					case LONG -> this.writer.value(fields.longValue(i));
+					case DOUBLE -> this.writer.value(fields.doubleValue(i));
+					case BOOLEAN -> this.writer.value(fields.booleanValue(i));
+					case OBJECT -> {
+						Object value = fields.value(i);
+						if (value == null) this.writer.nullValue();
+						else this.writer.value(String.valueOf(value));
+					}
+				}
+			}
+			this.writer.endObject();
+		}
+
+		LoggerContext context = event.context();
+		if (context.size() != 0) {
+			this.writer.name("context");
+			this.writer.beginObject();
+			for (int i = 0; i < context.size(); i++) {
+				this.writer.name(context.key(i));
+				this.writer.value(String.valueOf(context.value(i)));
+			}
+			this.writer.endObject();
+		}
+		this.writer.endObject();
+		this.writer.writeNewLine();
+	}
+
+	/**
+	 * Returns the provided time in nanoseconds since the epoch as an ISO-8601 timestamp in UTC, with nanoseconds.
+	 * Everything up to the seconds is only formatted again once the second changes.
+	 */
+	private String time(long nanos) {
+		long second = Math.floorDiv(nanos, 1_000_000_000L);
+		if (second != this.second) {
+			this.second = second;
+			this.time.setLength(0);
+			seconds.formatTo(Instant.ofEpochSecond(second), this.time);
+			this.time.append('.');
+			this.prefix = this.time.length();
+		}
+
+		this.time.setLength(this.prefix);
+		int fraction = (int) Math.floorMod(nanos, 1_000_000_000L);
+		for (int divisor = 100_000_000; divisor > 0; divisor /= 10) this.time.append((char) ('0' + (fraction / divisor) % 10));
+		return this.time.append('Z').toString();
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.lock.lock();
+		try {
+			if (!this.channel.isOpen()) return;
+			this.writer.flush();
+			this.output.flush();
+			this.channel.close();
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return format("JsonCollector[channel={0}]", this.channel);
+	}
+
+	/**
+	 * Represents a stream that collects anything written to it into a direct buffer, which is only written to the
+	 * provided channel once it is full or this is flushed. Anything larger than the buffer is written straight through.
+	 */
+	private static final class ChannelOutput extends OutputStream {
+
+		private final WritableByteChannel channel;
+		private final ByteBuffer buffer;
+
+		private ChannelOutput(WritableByteChannel channel) {
+			this.channel = channel;
+			this.buffer = ByteBuffer.allocateDirect(64 * 1024);
+		}
+
+		@Override
+		public void write(int value) throws IOException {
+			if (!this.buffer.hasRemaining()) this.flush();
+			this.buffer.put((byte) value);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			if (length > this.buffer.remaining()) this.flush();
+			if (length > this.buffer.capacity()) {
+				ByteBuffer wrapped = ByteBuffer.wrap(bytes, offset, length);
+				while (wrapped.hasRemaining()) this.channel.write(wrapped);
+				return;
+			}
+			this.buffer.put(bytes, offset, length);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			this.buffer.flip();
+			while (this.buffer.hasRemaining()) this.channel.write(this.buffer);
+			this.buffer.clear();
+		}
+	}
+}
\ No newline at end of file
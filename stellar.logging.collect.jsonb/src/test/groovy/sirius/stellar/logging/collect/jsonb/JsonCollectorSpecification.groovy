@@ -0,0 +1,160 @@
+package sirius.stellar.logging.collect.jsonb
+
+import io.avaje.jsonb.Jsonb
+import sirius.stellar.logging.Logger
+import sirius.stellar.logging.LoggerContext
+import sirius.stellar.logging.LoggerLevel
+import sirius.stellar.logging.LoggerMessage
+import sirius.stellar.logging.collect.Collector
+import spock.lang.Shared
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.channels.WritableByteChannel
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Instant
+import java.util.concurrent.CopyOnWriteArrayList
+
+class JsonCollectorSpecification extends Specification {
+
+	@Shared
+	Jsonb jsonb = Jsonb.builder().build()
+
+	@Shared
+	List<LoggerMessage> dispatched = new CopyOnWriteArrayList<>()
+
+	@TempDir
+	Path directory
+
+	def setupSpec() {
+		Logger.synchronous()
+		Logger.collector({ LoggerMessage message -> this.dispatched << message } as Collector)
+	}
+
+	//#region collect(List)
+	def "collect(List) writes each message as a line that parses back into the same values"() {
+		given:
+			def path = this.directory.resolve("log.jsonl")
+			def collector = new JsonCollector(path)
+			def texts = ['Quoted "text" with a \\ backslash', "Multiple\nlines\r\nand\ttabs", "Non-BMP 🚀 and \u0000 control", "Lörem ipsum"]
+			def messages = texts.withIndex().collect { text, i -> new LoggerMessage(Instant.parse("2024-02-29T23:59:59Z").plusNanos(i), LoggerLevel.WARNING, 'thread "' + i + '"', "name," + i, text) }
+		when:
+			collector.collect(messages)
+			collector.close()
+			def lines = Files.readAllLines(path)
+		then:
+			lines.size() == texts.size()
+			lines.every { !it.contains("\n") }
+			lines.withIndex().every { line, i -> this.parse(line).text == texts[i] }
+			lines.withIndex().every { line, i -> this.parse(line).thread == 'thread "' + i + '"' }
+			lines.withIndex().every { line, i -> this.parse(line).name == "name," + i }
+			lines.every { this.parse(it).level == "WARNING" }
+	}
+
+	def "collect(List) writes the time with nine digits of fraction, even when they are zero"() {
+		given:
+			def path = this.directory.resolve("log.jsonl")
+			def collector = new JsonCollector(path)
+			def times = ["2024-02-29T23:59:59Z", "2024-02-29T23:59:59.000000001Z", "2024-02-29T23:59:59.120Z", "2024-03-01T00:00:00.999999999Z", "1969-12-31T23:59:59.5Z"]
+		when:
+			collector.collect(times.collect { new LoggerMessage(Instant.parse(it), LoggerLevel.INFORMATION, "thread", "name", "Text") })
+			collector.close()
+		then:
+			Files.readAllLines(path).collect { this.parse(it).time } == ["2024-02-29T23:59:59.000000000Z", "2024-02-29T23:59:59.000000001Z", "2024-02-29T23:59:59.120000000Z", "2024-03-01T00:00:00.999999999Z", "1969-12-31T23:59:59.500000000Z"]
+	}
+
+	def "collect(List) only writes the threadId if it is known, and the carrier if the thread was virtual"() {
+		given:
+			def path = this.directory.resolve("log.jsonl")
+			def collector = new JsonCollector(path)
+			def time = Instant.parse("2024-02-29T23:59:59Z").epochSecond * 1_000_000_000L
+		when:
+			collector.collect([
+				new LoggerMessage(time, LoggerLevel.INFORMATION, "unknown", "name", "Text", -1, null),
+				new LoggerMessage(time, LoggerLevel.INFORMATION, "platform", "name", "Text", 1, null),
+				new LoggerMessage(time, LoggerLevel.INFORMATION, "virtual", "name", "Text", 42, "ForkJoinPool-1-worker-1")
+			])
+			collector.close()
+			def lines = Files.readAllLines(path).collect { this.parse(it) }
+		then:
+			!lines[0].containsKey("threadId") && !lines[0].containsKey("carrier")
+			lines[1].threadId == 1 && !lines[1].containsKey("carrier")
+			lines[2].threadId == 42 && lines[2].carrier == "ForkJoinPool-1-worker-1"
+	}
+
+	def "collect(List) writes fields with primitive values as native numbers and booleans, and the context as strings"() {
+		given:
+			def path = this.directory.resolve("log.jsonl")
+			def collector = new JsonCollector(path)
+			this.dispatched.clear()
+			LoggerContext.put("request", 7)
+		when:
+			Logger.at(LoggerLevel.WARNING).with("order", "A-17").with("latency", 412L).with("ratio", 0.5d).with("retried", true).with("missing", (Object) null).log("Slow order")
+			collector.collect(this.dispatched)
+			collector.close()
+			def line = Files.readAllLines(path).first()
+			def parsed = this.parse(line)
+		then:
+			line.contains('"fields":{"order":"A-17","latency":412,"ratio":0.5,"retried":true,"missing":null}')
+			line.contains('"context":{"request":"7"}')
+			parsed.fields.latency == 412
+			parsed.fields.ratio == 0.5
+			parsed.fields.retried == true
+			parsed.context.request == "7"
+		cleanup:
+			LoggerContext.remove("request")
+	}
+
+	def "collect(List) writes output larger than its buffer in full and in order"() {
+		given:
+			def channel = new RecordingChannel()
+			def collector = new JsonCollector(channel)
+			def large = "x" * (200 * 1024) + "🚀"
+			def messages = (0..<2_000).collect { i -> new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", (i == 1_000) ? large : "Lorem ipsum " + i) }
+		when:
+			collector.collect(messages)
+			collector.close()
+			def lines = new String(channel.bytes.toByteArray(), "UTF-8").split("\n")
+		then:
+			channel.writes > 1
+			lines.length == messages.size()
+			lines.collect { this.parse(it).text } == messages*.text
+	}
+	//#endregion
+
+	private Map<String, Object> parse(String line) {
+		return (Map<String, Object>) this.jsonb.type(Object).fromJson(line)
+	}
+
+	/**
+	 * Represents a channel that retains everything written to it, counting the number of writes.
+	 */
+	private static final class RecordingChannel implements WritableByteChannel {
+
+		final ByteArrayOutputStream bytes = new ByteArrayOutputStream()
+		int writes
+		boolean open = true
+
+		@Override
+		int write(ByteBuffer source) {
+			def length = source.remaining()
+			def array = new byte[length]
+			source.get(array)
+			this.bytes.write(array)
+			this.writes++
+			return length
+		}
+
+		@Override
+		boolean isOpen() {
+			return this.open
+		}
+
+		@Override
+		void close() {
+			this.open = false
+		}
+	}
+}
\ No newline at end of file
@@ -4,7 +4,6 @@ import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerLevel;
 
 import java.text.MessageFormat;
-import java.time.Instant;
 
 import static sirius.stellar.facility.Throwables.*;
 
@@ -25,19 +24,19 @@ public final class JbossDispatcher extends org.jboss.logging.Logger {
 		if (!isEnabled(level)) return;
 		String text = String.valueOf(object);
 		if (throwable != null) text += "\n" + stacktrace(throwable);
-		Logger.dispatch(Instant.now(), convert(level), Thread.currentThread().getName(), this.getName(), MessageFormat.format(text, arguments));
+		Logger.dispatch(convert(level), Thread.currentThread().getName(), this.getName(), MessageFormat.format(text, arguments));
 	}
 
 	@Override
 	protected void doLogf(org.jboss.logging.Logger.Level level, String name, String text, Object[] arguments, Throwable throwable) {
 		if (!isEnabled(level)) return;
 		if (throwable != null) text += "\n" + stacktrace(throwable);
-		Logger.dispatch(Instant.now(), convert(level), Thread.currentThread().getName(), this.getName(), String.format(String.valueOf(text), arguments));
+		Logger.dispatch(convert(level), Thread.currentThread().getName(), this.getName(), String.format(String.valueOf(text), arguments));
 	}
 
 	@Override
 	public boolean isEnabled(org.jboss.logging.Logger.Level level) {
-		return Logger.enabled(convert(level));
+		return Logger.enabled(this.getName(), convert(level));
 	}
 
 	/**
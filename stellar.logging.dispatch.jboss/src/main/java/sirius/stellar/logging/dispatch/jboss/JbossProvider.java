@@ -1,23 +1,21 @@
 package sirius.stellar.logging.dispatch.jboss;
 
 import sirius.stellar.facility.Strings;
+import sirius.stellar.logging.LoggerContext;
 
-import java.util.Deque;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentLinkedDeque;
 
 /**
  * Implementation of {@link org.jboss.logging.LoggerProvider} used for obtaining instances of {@link JbossDispatcher}.
+ * <p>
+ * The MDC and NDC are backed by the {@link LoggerContext} of the current thread, so {@link JbossProvider#getMdcMap()}
+ * returns an unmodifiable copy.
  *
  * @since 1u1
  * @author Mechite
  */
 public final class JbossProvider implements org.jboss.logging.LoggerProvider {
 
-	private final Map<String, Object> mdc = new ConcurrentHashMap<>();
-	private final Deque<JbossNdcEntry> ndc = new ConcurrentLinkedDeque<>();
-
 	@Override
 	public org.jboss.logging.Logger getLogger(String name) {
 		return new JbossDispatcher(name);
@@ -25,64 +23,64 @@ public final class JbossProvider implements org.jboss.logging.LoggerProvider {
 
 	@Override
 	public void clearMdc() {
-		this.mdc.clear();
+		LoggerContext.clear();
 	}
 
 	@Override
 	public Object putMdc(String key, Object value) {
-		return this.mdc.put(key, value);
+		return LoggerContext.put(key, value);
 	}
 
 	@Override
 	public Object getMdc(String key) {
-		return this.mdc.get(key);
+		return LoggerContext.get(key);
 	}
 
 	@Override
 	public void removeMdc(String key) {
-		this.mdc.remove(key);
+		LoggerContext.remove(key);
 	}
 
 	@Override
 	public Map<String, Object> getMdcMap() {
-		return this.mdc;
+		return LoggerContext.current().map();
 	}
 
 	@Override
 	public void clearNdc() {
-		this.ndc.clear();
+		LoggerContext.truncate(0);
 	}
 
 	@Override
 	public String getNdc() {
-		if (this.ndc.isEmpty()) return null;
-		return this.ndc.peek().merged;
+		if (LoggerContext.depth() == 0) return null;
+		return String.join(" ", LoggerContext.current().stack());
 	}
 
 	@Override
 	public int getNdcDepth() {
-		return this.ndc.size();
+		return LoggerContext.depth();
 	}
 
 	@Override
 	public String popNdc() {
-		if (this.ndc.isEmpty()) return Strings.EMPTY;
-		return this.ndc.pop().current;
+		String message = LoggerContext.pop();
+		return (message == null) ? Strings.EMPTY : message;
 	}
 
 	@Override
 	public String peekNdc() {
-		if (this.ndc.isEmpty()) return Strings.EMPTY;
-		return this.ndc.peek().current;
+		String message = LoggerContext.peek();
+		return (message == null) ? Strings.EMPTY : message;
 	}
 
 	@Override
 	public void pushNdc(String message) {
-		this.ndc.push(this.ndc.isEmpty() ? new JbossNdcEntry(message) : new JbossNdcEntry(this.ndc.peek(), message));
+		LoggerContext.push(message);
 	}
 
 	@Override
 	public void setNdcMaxDepth(int ndcMaxDepth) {
-		while (this.ndc.size() > ndcMaxDepth) this.ndc.pop();
+		LoggerContext.truncate(Math.max(0, ndcMaxDepth));
 	}
 }
\ No newline at end of file
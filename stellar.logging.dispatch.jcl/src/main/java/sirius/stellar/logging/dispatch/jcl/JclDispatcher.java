@@ -7,7 +7,6 @@ import sirius.stellar.logging.LoggerLevel;
 import java.io.ObjectStreamException;
 import java.io.Serial;
 import java.io.Serializable;
-import java.time.Instant;
 
 /**
  * Implementation of {@link org.apache.commons.logging.Log} which dispatches to {@link Logger}.
@@ -34,32 +33,32 @@ public final class JclDispatcher implements org.apache.commons.logging.Log, Seri
 	//#region is*Enabled
 	@Override
 	public boolean isDebugEnabled() {
-		return Logger.enabled(LoggerLevel.DEBUGGING);
+		return Logger.enabled(this.name, LoggerLevel.DEBUGGING);
 	}
 
 	@Override
 	public boolean isErrorEnabled() {
-		return Logger.enabled(LoggerLevel.ERROR);
+		return Logger.enabled(this.name, LoggerLevel.ERROR);
 	}
 
 	@Override
 	public boolean isFatalEnabled() {
-		return Logger.enabled(LoggerLevel.ERROR);
+		return Logger.enabled(this.name, LoggerLevel.ERROR);
 	}
 
 	@Override
 	public boolean isInfoEnabled() {
-		return Logger.enabled(LoggerLevel.INFORMATION);
+		return Logger.enabled(this.name, LoggerLevel.INFORMATION);
 	}
 
 	@Override
 	public boolean isTraceEnabled() {
-		return Logger.enabled(LoggerLevel.STACKTRACE);
+		return Logger.enabled(this.name, LoggerLevel.STACKTRACE);
 	}
 
 	@Override
 	public boolean isWarnEnabled() {
-		return Logger.enabled(LoggerLevel.WARNING);
+		return Logger.enabled(this.name, LoggerLevel.WARNING);
 	}
 	//#endregion
 
@@ -67,78 +66,78 @@ public final class JclDispatcher implements org.apache.commons.logging.Log, Seri
 	@Override
 	public void trace(Object message) {
 		if (!isTraceEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, message.toString());
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, message.toString());
 	}
 
 	@Override
 	public void trace(Object message, Throwable throwable) {
 		if (!isTraceEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
 	}
 	//#endregion
 	//#region debug*
 	@Override
 	public void debug(Object message) {
 		if (!isDebugEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, message.toString());
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, message.toString());
 	}
 
 	@Override
 	public void debug(Object message, Throwable throwable) {
 		if (!isDebugEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
 	}
 	//#endregion
 	//#region info*
 	@Override
 	public void info(Object message) {
 		if (!isInfoEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, message.toString());
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, message.toString());
 	}
 
 	@Override
 	public void info(Object message, Throwable throwable) {
 		if (!isInfoEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
 	}
 	//#endregion
 	//#region warn*
 	@Override
 	public void warn(Object message) {
 		if (!isWarnEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, message.toString());
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, message.toString());
 	}
 
 	@Override
 	public void warn(Object message, Throwable throwable) {
 		if (!isWarnEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
 	}
 	//#endregion
 	//#region error*
 	@Override
 	public void error(Object message) {
 		if (!isErrorEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString());
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString());
 	}
 
 	@Override
 	public void error(Object message, Throwable throwable) {
 		if (!isErrorEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
 	}
 	//#endregion
 	//#region fatal*
 	@Override
 	public void fatal(Object message) {
 		if (!isFatalEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString());
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString());
 	}
 
 	@Override
 	public void fatal(Object message, Throwable throwable) {
 		if (!isFatalEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message.toString() + "\n" + Throwables.stacktrace(throwable));
 	}
 	//#endregion
 }
\ No newline at end of file
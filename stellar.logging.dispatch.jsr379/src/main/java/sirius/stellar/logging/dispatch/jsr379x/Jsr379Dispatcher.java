@@ -6,7 +6,6 @@ import sirius.stellar.logging.LoggerLevel;
 import java.io.ObjectStreamException;
 import java.io.Serial;
 import java.io.Serializable;
-import java.time.Instant;
 import java.util.ResourceBundle;
 
 import static sirius.stellar.facility.Strings.*;
@@ -32,20 +31,20 @@ public record Jsr379Dispatcher(String name) implements System.Logger, Serializab
 
 	@Override
 	public boolean isLoggable(Level level) {
-		return Logger.enabled(convert(level));
+		return Logger.enabled(this.name, convert(level));
 	}
 
 	@Override
 	public void log(Level level, ResourceBundle bundle, String text, Throwable throwable) {
 		if (!isLoggable(level)) return;
 		if (throwable != null) text += "\n" + stacktrace(throwable);
-		Logger.dispatch(Instant.now(), convert(level), Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(convert(level), Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void log(Level level, ResourceBundle bundle, String text, Object... arguments) {
 		if (!isLoggable(level)) return;
-		Logger.dispatch(Instant.now(), convert(level), Thread.currentThread().getName(), this.name, format(text, arguments));
+		Logger.dispatch(convert(level), Thread.currentThread().getName(), this.name, format(text, arguments));
 	}
 
 	/**
@@ -11,6 +11,11 @@ import java.util.Map;
 
 /**
  * Implementation of {@link java.util.logging.Handler} which dispatches to {@link Logger}.
+ * <p>
+ * Once wired, the level of the root {@link java.util.logging.Logger} is set to {@link java.util.logging.Level#ALL},
+ * so that records reach this handler regardless of the level of JUL, and whether they are logged is decided by
+ * {@link JulDispatcher#isLoggable(java.util.logging.LogRecord)} according to {@link Logger#severity(String, int)}
+ * for the name of the logger, which JUL loggers usually share with the class they log from.
  *
  * <table>
  *     <caption>Level Mapping</caption>
@@ -50,16 +55,33 @@ public final class JulDispatcher extends java.util.logging.Handler implements Di
 
 	@Override
 	public void wire() {
-		manager.getLogger("").addHandler(this);
+		java.util.logging.Logger root = manager.getLogger("");
+		root.setLevel(java.util.logging.Level.ALL);
+		root.addHandler(this);
 	}
 
 	@Override
-	public void publish(java.util.logging.LogRecord record) {
+	public boolean isLoggable(java.util.logging.LogRecord record) {
 		java.util.logging.Level original = record.getLevel();
-		if (original == null) return;
+		if (original == null) return false;
 		LoggerLevel level = conversions.get(original);
-		if (level == null) return;
-		Logger.dispatch(record.getInstant(), level, Thread.currentThread().getName(), record.getSourceClassName(), MessageFormat.format(record.getMessage(), record.getParameters()));
+		if (level == null) return false;
+		return Logger.enabled(name(record), level);
+	}
+
+	@Override
+	public void publish(java.util.logging.LogRecord record) {
+		if (!this.isLoggable(record)) return;
+		LoggerLevel level = conversions.get(record.getLevel());
+		Logger.dispatch(record.getInstant(), level, Thread.currentThread().getName(), name(record), MessageFormat.format(record.getMessage(), record.getParameters()));
+	}
+
+	/**
+	 * Returns the name of the logger the provided record was logged with, or its source class if it is anonymous.
+	 */
+	private static String name(java.util.logging.LogRecord record) {
+		String name = record.getLoggerName();
+		return (name == null || name.isEmpty()) ? record.getSourceClassName() : name;
 	}
 
 	@Override
@@ -4,7 +4,6 @@ import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerLevel;
 
 import java.nio.ByteBuffer;
-import java.time.Instant;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -28,7 +27,7 @@ public final class KwikDispatcher extends tech.kwik.core.log.BaseLogger {
 	protected void log(String text) {
 		try {
 			this.lock.lock();
-			Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
+			Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
 		} finally {
 			this.lock.unlock();
 		}
@@ -39,7 +38,7 @@ public final class KwikDispatcher extends tech.kwik.core.log.BaseLogger {
 		try {
 			this.lock.lock();
 			if (throwable != null) text += "\n" + stacktrace(throwable);
-			Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
+			Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
 		} finally {
 			this.lock.unlock();
 		}
@@ -51,7 +50,7 @@ public final class KwikDispatcher extends tech.kwik.core.log.BaseLogger {
 			this.lock.lock();
 			text += "\n" + this.byteToHexBlock(data, length);
 
-			Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
+			Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
 		} finally {
 			this.lock.unlock();
 		}
@@ -63,7 +62,7 @@ public final class KwikDispatcher extends tech.kwik.core.log.BaseLogger {
 			this.lock.lock();
 			text += "\n" + this.byteToHexBlock(data, offset, length);
 
-			Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
+			Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), "tech.kwik", text);
 		} finally {
 			this.lock.unlock();
 		}
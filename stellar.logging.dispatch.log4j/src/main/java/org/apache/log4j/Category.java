@@ -4,7 +4,6 @@ import org.apache.log4j.spi.LoggingEvent;
 import sirius.stellar.logging.LoggerLevel;
 
 import java.text.MessageFormat;
-import java.time.Instant;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.ResourceBundle;
@@ -21,11 +20,6 @@ public class Category {
 
 	protected static final int STACKTRACE_DEPTH = 2;
 
-	private static final boolean MINIMUM_LEVEL_COVERS_DEBUG = sirius.stellar.logging.Logger.enabled(LoggerLevel.DEBUGGING);
-	private static final boolean MINIMUM_LEVEL_COVERS_INFO = sirius.stellar.logging.Logger.enabled(LoggerLevel.INFORMATION);
-	private static final boolean MINIMUM_LEVEL_COVERS_WARN = sirius.stellar.logging.Logger.enabled(LoggerLevel.WARNING);
-	private static final boolean MINIMUM_LEVEL_COVERS_ERROR = sirius.stellar.logging.Logger.enabled(LoggerLevel.ERROR);
-
 	private final Category parent;
 	private final String name;
 
@@ -45,9 +39,8 @@ public class Category {
 	}
 
 	public void assertLog(boolean assertion, String string) {
-		if (!assertion && MINIMUM_LEVEL_COVERS_ERROR) {
-			if (!MINIMUM_LEVEL_COVERS_INFO) return;
-			sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, (string));
+		if (!assertion && this.enabled(LoggerLevel.ERROR)) {
+			sirius.stellar.logging.Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, (string));
 		}
 	}
 
@@ -56,27 +49,27 @@ public class Category {
 	}
 
 	public void debug(Object object) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, String.valueOf(object));
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, String.valueOf(object));
 	}
 
 	public void debug(Object object, Throwable throwable) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, message);
 	}
 
 	public void error(Object object) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, String.valueOf(object));
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, String.valueOf(object));
 	}
 
 	public void error(Object object, Throwable throwable) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
+		if (!this.enabled(LoggerLevel.ERROR)) return;
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message);
 	}
 
 	public static Logger exists(String name) {
@@ -84,21 +77,21 @@ public class Category {
 	}
 
 	public void fatal(Object object) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, String.valueOf(object));
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, String.valueOf(object));
 	}
 
 	public void fatal(Object object, Throwable throwable) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
+		if (!this.enabled(LoggerLevel.ERROR)) return;
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, message);
 	}
 
 	protected void forcedLog(String caller, Priority priority, Object object, Throwable throwable) {
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(priority), Thread.currentThread().getName(), caller, message);
+		sirius.stellar.logging.Logger.dispatch(convert(priority), Thread.currentThread().getName(), this.name, message);
 	}
 
 	public boolean getAdditivity() {
@@ -158,15 +151,15 @@ public class Category {
 	}
 
 	public void info(Object object) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, String.valueOf(object));
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, String.valueOf(object));
 	}
 
 	public void info(Object object, Throwable throwable) {
-		if (!MINIMUM_LEVEL_COVERS_INFO) return;
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, message);
 	}
 
 	public boolean isAttached(Appender appender) {
@@ -174,15 +167,15 @@ public class Category {
 	}
 
 	public boolean isDebugEnabled() {
-		return MINIMUM_LEVEL_COVERS_DEBUG && sirius.stellar.logging.Logger.enabled(LoggerLevel.DEBUGGING);
+		return this.enabled(LoggerLevel.DEBUGGING);
 	}
 
 	public boolean isEnabledFor(Priority priority) {
-		return sirius.stellar.logging.Logger.enabled(convert(priority));
+		return this.enabled(convert(priority));
 	}
 
 	public boolean isInfoEnabled() {
-		return MINIMUM_LEVEL_COVERS_INFO && sirius.stellar.logging.Logger.enabled(LoggerLevel.INFORMATION);
+		return this.enabled(LoggerLevel.INFORMATION);
 	}
 
 	public void l7dlog(Priority priority, String key, Throwable throwable) {
@@ -190,7 +183,7 @@ public class Category {
 		String message = bundle == null ? key : bundle.getString(key);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
 
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(priority), Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(convert(priority), Thread.currentThread().getName(), this.name, message);
 	}
 
 	public void l7dlog(Priority priority, String key, Object[] arguments, Throwable throwable) {
@@ -198,23 +191,23 @@ public class Category {
 		String message = bundle == null ? key : MessageFormat.format(bundle.getString(key), arguments);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
 
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(priority), Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(convert(priority), Thread.currentThread().getName(), this.name, message);
 	}
 
 	public void log(Priority priority, Object object, Throwable throwable) {
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(priority), Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(convert(priority), Thread.currentThread().getName(), this.name, message);
 	}
 
 	public void log(Priority priority, Object object) {
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(priority), Thread.currentThread().getName(), this.name, String.valueOf(object));
+		sirius.stellar.logging.Logger.dispatch(convert(priority), Thread.currentThread().getName(), this.name, String.valueOf(object));
 	}
 
 	public void log(String caller, Priority priority, Object object, Throwable throwable) {
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(priority), Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(convert(priority), Thread.currentThread().getName(), this.name, message);
 	}
 
 	public void removeAllAppenders() {
@@ -250,15 +243,25 @@ public class Category {
 	}
 
 	public void warn(Object object) {
-		if (!MINIMUM_LEVEL_COVERS_WARN) return;
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(Level.WARN), Thread.currentThread().getName(), this.name, String.valueOf(object));
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		sirius.stellar.logging.Logger.dispatch(convert(Level.WARN), Thread.currentThread().getName(), this.name, String.valueOf(object));
 	}
 
 	public void warn(Object object, Throwable throwable) {
-		if (!MINIMUM_LEVEL_COVERS_WARN) return;
+		if (!this.enabled(LoggerLevel.WARNING)) return;
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), convert(Level.WARN), Thread.currentThread().getName(), this.name, message);
+		sirius.stellar.logging.Logger.dispatch(convert(Level.WARN), Thread.currentThread().getName(), this.name, message);
+	}
+
+	/**
+	 * Returns whether the provided level is enabled for the name of this category.
+	 * The severity set for the name of any parent category applies, as names are hierarchical in the same way.
+	 *
+	 * @see sirius.stellar.logging.Logger#severity(String, int)
+	 */
+	boolean enabled(LoggerLevel level) {
+		return sirius.stellar.logging.Logger.enabled(this.name, level);
 	}
 
 	/**
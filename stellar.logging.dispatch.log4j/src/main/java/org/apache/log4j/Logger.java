@@ -3,7 +3,6 @@ package org.apache.log4j;
 import org.apache.log4j.spi.LoggerFactory;
 import sirius.stellar.logging.LoggerLevel;
 
-import java.time.Instant;
 
 import static sirius.stellar.facility.Throwables.*;
 
@@ -15,8 +14,6 @@ import static sirius.stellar.facility.Throwables.*;
  */
 public class Logger extends Category {
 
-	private static final boolean MINIMUM_LEVEL_COVERS_TRACE = sirius.stellar.logging.Logger.enabled(LoggerLevel.STACKTRACE);
-
 	Logger(Logger parent, String name) {
 		super(parent, name);
 	}
@@ -42,18 +39,18 @@ public class Logger extends Category {
 	}
 
 	public void trace(Object object) {
-		if (!MINIMUM_LEVEL_COVERS_TRACE) return;
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.getName(), String.valueOf(object));
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.getName(), String.valueOf(object));
 	}
 
 	public void trace(Object object, Throwable throwable) {
-		if (!MINIMUM_LEVEL_COVERS_TRACE) return;
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
 		String message = String.valueOf(object);
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		sirius.stellar.logging.Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.getName(), message);
+		sirius.stellar.logging.Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.getName(), message);
 	}
 
 	public boolean isTraceEnabled() {
-		return MINIMUM_LEVEL_COVERS_TRACE && sirius.stellar.logging.Logger.enabled(LoggerLevel.STACKTRACE);
+		return this.enabled(LoggerLevel.STACKTRACE);
 	}
 }
\ No newline at end of file
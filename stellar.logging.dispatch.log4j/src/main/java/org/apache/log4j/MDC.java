@@ -1,34 +1,39 @@
 package org.apache.log4j;
 
+import sirius.stellar.logging.LoggerContext;
+
 import java.util.Hashtable;
 
 /**
  * Shadow class for {@code org.apache.log4j.MDC}.
+ * <p>
+ * This is backed by the {@link LoggerContext} of the current thread, so {@link MDC#getContext()} returns a copy.
  *
  * @author Mechite
  * @since 1u1
  */
 public final class MDC {
 
-	private static final Hashtable<String, Object> mdc = new Hashtable<>();
+	private MDC() {
+	}
 
 	public static Hashtable getContext() {
-		return mdc;
+		return new Hashtable<>(LoggerContext.current().map());
 	}
 
 	public static Object get(String key) {
-		return mdc.get(key);
+		return LoggerContext.get(key);
 	}
 
 	public static void put(String key, Object value) {
-		mdc.put(key, value);
+		LoggerContext.put(key, value);
 	}
 
 	public static void remove(String key) {
-		mdc.remove(key);
+		LoggerContext.remove(key);
 	}
 
 	public static void clear() {
-		mdc.clear();
+		LoggerContext.clear();
 	}
 }
\ No newline at end of file
@@ -1,59 +1,63 @@
 package org.apache.log4j;
 
 import sirius.stellar.facility.Strings;
+import sirius.stellar.logging.LoggerContext;
 
 import java.util.Stack;
 
 /**
  * Shadow class for {@code org.apache.log4j.NDC}.
+ * <p>
+ * This is backed by the stack of the {@link LoggerContext} of the current thread, so {@link NDC#cloneStack()}
+ * returns a copy.
  *
  * @author Mechite
  * @since 1u1
  */
 public final class NDC {
 
-	private static final Stack<String> ndc = new Stack<>();
-
 	private NDC() {
 	}
 
 	public static void clear() {
-		ndc.clear();
+		LoggerContext.truncate(0);
 	}
 
 	public static Stack cloneStack() {
-		if (ndc.isEmpty()) return null;
-		return ndc;
+		if (LoggerContext.depth() == 0) return null;
+		Stack<String> stack = new Stack<>();
+		stack.addAll(LoggerContext.current().stack());
+		return stack;
 	}
 
 	public static void inherit(Stack stack) {
-        ndc.clear();
-        ndc.addAll(stack);
+		LoggerContext.truncate(0);
+		if (stack != null) for (Object message : stack) LoggerContext.push(String.valueOf(message));
 	}
 
 	public static int getDepth() {
-		return ndc.size();
+		return LoggerContext.depth();
 	}
 
 	public static String pop() {
-		if (ndc.isEmpty()) return Strings.EMPTY;
-		return ndc.pop();
+		String message = LoggerContext.pop();
+		return (message == null) ? Strings.EMPTY : message;
 	}
 
 	public static String peek() {
-		if (ndc.isEmpty()) return Strings.EMPTY;
-		return ndc.peek();
+		String message = LoggerContext.peek();
+		return (message == null) ? Strings.EMPTY : message;
 	}
 
 	public static void push(String message) {
-		ndc.push(message);
+		LoggerContext.push(message);
 	}
 
 	public static void remove() {
-		ndc.remove(ndc.get(0));
+		LoggerContext.truncate(0);
 	}
 
 	public static void setMaxDepth(int maxDepth) {
-		while (ndc.size() > maxDepth) ndc.pop();
+		LoggerContext.truncate(Math.max(0, maxDepth));
 	}
 }
\ No newline at end of file
@@ -1,10 +1,10 @@
 package sirius.stellar.logging.dispatch.log4j2x;
 
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerHandle;
 import sirius.stellar.logging.LoggerLevel;
 
 import java.io.Serial;
-import java.time.Instant;
 
 import static sirius.stellar.facility.Throwables.*;
 
@@ -19,12 +19,16 @@ public final class Log4j2Dispatcher extends org.apache.logging.log4j.spi.Abstrac
 	@Serial
 	private static final long serialVersionUID = 2981067707921701559L;
 
+	private final LoggerHandle handle;
+
 	Log4j2Dispatcher(String name) {
 		super(name);
+		this.handle = Logger.of(this.getName());
 	}
 
 	Log4j2Dispatcher(String name, org.apache.logging.log4j.message.MessageFactory factory) {
 		super(name, factory);
+		this.handle = Logger.of(this.getName());
 	}
 
 	/**
@@ -47,93 +51,93 @@ public final class Log4j2Dispatcher extends org.apache.logging.log4j.spi.Abstrac
 	//#region isEnabled*
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, org.apache.logging.log4j.message.Message message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, CharSequence message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, Object message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Throwable t) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object... params) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 
 	@Override
 	public boolean isEnabled(org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, String message, Object p0, Object p1, Object p2, Object p3, Object p4, Object p5, Object p6, Object p7, Object p8, Object p9) {
-		return Logger.enabled(convert(level));
+		return this.handle.enabled(convert(level));
 	}
 	//#endregion
 
 	@Override
 	public void logMessage(String caller, org.apache.logging.log4j.Level level, org.apache.logging.log4j.Marker marker, org.apache.logging.log4j.message.Message message, Throwable throwable) {
 		LoggerLevel loggerLevel = convert(level);
-		if (!Logger.enabled(loggerLevel)) return;
+		if (!this.handle.enabled(loggerLevel)) return;
 		String text = message.getFormattedMessage();
 		if (marker != null) text = "[" + marker.getName() + "] " + text;
 		if (throwable != null) text += "\n" + stacktrace(throwable);
-		Logger.dispatch(Instant.now(), loggerLevel, Thread.currentThread().getName(), caller, text);
+		Logger.dispatch(loggerLevel, Thread.currentThread().getName(), this.getName(), text);
 	}
 
 	@Override
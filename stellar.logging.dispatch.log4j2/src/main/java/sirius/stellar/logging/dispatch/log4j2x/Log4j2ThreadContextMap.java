@@ -0,0 +1,65 @@
+package sirius.stellar.logging.dispatch.log4j2x;
+
+import sirius.stellar.logging.LoggerContext;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link org.apache.logging.log4j.spi.ThreadContextMap} used by
+ * {@link org.apache.logging.log4j.ThreadContext}, registered in {@code META-INF/log4j-provider.properties}.
+ * <p>
+ * This is backed by the {@link LoggerContext} of the current thread, so values put with {@code ThreadContext}
+ * are captured by every message, whichever dispatcher it is dispatched from. The stack of {@code ThreadContext}
+ * cannot be replaced by a provider, so it is still held by Log4j 2 itself.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class Log4j2ThreadContextMap implements org.apache.logging.log4j.spi.ThreadContextMap {
+
+	@Override
+	public void clear() {
+		LoggerContext.clear();
+	}
+
+	@Override
+	public boolean containsKey(String key) {
+		return LoggerContext.get(key) != null;
+	}
+
+	@Override
+	public String get(String key) {
+		Object value = LoggerContext.get(key);
+		return (value == null) ? null : String.valueOf(value);
+	}
+
+	@Override
+	public Map<String, String> getCopy() {
+		LoggerContext context = LoggerContext.current();
+		Map<String, String> map = new HashMap<>(context.size() * 2);
+		for (int i = 0; i < context.size(); i++) map.put(context.key(i), String.valueOf(context.value(i)));
+		return map;
+	}
+
+	@Override
+	public Map<String, String> getImmutableMapOrNull() {
+		if (LoggerContext.current().size() == 0) return null;
+		return Map.copyOf(this.getCopy());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return LoggerContext.current().size() == 0;
+	}
+
+	@Override
+	public void put(String key, String value) {
+		LoggerContext.put(key, value);
+	}
+
+	@Override
+	public void remove(String key) {
+		LoggerContext.remove(key);
+	}
+}
\ No newline at end of file
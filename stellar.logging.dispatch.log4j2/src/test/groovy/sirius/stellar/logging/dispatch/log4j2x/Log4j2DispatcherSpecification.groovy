@@ -0,0 +1,52 @@
+package sirius.stellar.logging.dispatch.log4j2x
+
+import org.apache.logging.log4j.ThreadContext
+import sirius.stellar.logging.Logger
+import sirius.stellar.logging.LoggerContext
+import sirius.stellar.logging.LoggerLevel
+import sirius.stellar.logging.LoggerMessage
+import sirius.stellar.logging.collect.Collector
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+
+class Log4j2DispatcherSpecification extends Specification {
+
+	//#region logMessage(String, Level, Marker, Message, Throwable)
+	def "logMessage(String, Level, Marker, Message, Throwable) dispatches with the name of the logger, so the severity set for it applies"() {
+		given:
+			def messages = new CopyOnWriteArrayList<LoggerMessage>()
+			Logger.synchronous()
+			Logger.collector({ LoggerMessage message -> messages << message } as Collector)
+			Logger.severity(LoggerLevel.DEBUGGING.severity())
+			Logger.severity("com.acme.billing", LoggerLevel.DEBUGGING.severity() + 1)
+		when:
+			new Log4j2Dispatcher("com.acme.billing.Invoices").debug("Charged {}", 42)
+			new Log4j2Dispatcher("com.acme.shipping.Parcels").debug("Shipped {}", 42)
+			new Log4j2Dispatcher("com.acme.shipping.Parcels").info("Delivered {}", 42)
+		then:
+			messages*.name == ["com.acme.billing.Invoices", "com.acme.shipping.Parcels"]
+			messages*.text == ["Charged 42", "Delivered 42"]
+		cleanup:
+			Logger.severity("com.acme.billing", Integer.MAX_VALUE)
+			Logger.severity(Integer.MAX_VALUE)
+	}
+	//#endregion
+
+	//#region ThreadContext
+	def "ThreadContext binds to the LoggerContext of the current thread, so its values are captured by every message"() {
+		given:
+			def messages = new CopyOnWriteArrayList<LoggerMessage>()
+			Logger.synchronous()
+			Logger.collector({ LoggerMessage message -> messages << message } as Collector)
+		when:
+			ThreadContext.put("request", "42")
+			Logger.information("Handling request")
+		then:
+			LoggerContext.get("request") == "42"
+			messages*.context()*.value("request") == ["42"]
+		cleanup:
+			ThreadContext.clearMap()
+	}
+	//#endregion
+}
\ No newline at end of file
@@ -6,7 +6,6 @@ import sirius.stellar.logging.dispatch.Dispatcher;
 
 import java.io.ObjectStreamException;
 import java.io.Serial;
-import java.time.Instant;
 
 import static sirius.stellar.facility.Throwables.*;
 
@@ -49,7 +48,7 @@ public final class MinlogDispatcher extends com.esotericsoftware.minlog.Log.Logg
 
 		if (throwable != null) message += "\n" + stacktrace(throwable);
 		String caller = String.valueOf(walker.walk(stream -> stream.limit(3).toList()).get(2).getClassName());
-		Logger.dispatch(Instant.now(), loggerLevel, Thread.currentThread().getName(), caller, message);
+		Logger.dispatch(loggerLevel, Thread.currentThread().getName(), caller, message);
 	}
 
 	@Serial
@@ -7,7 +7,6 @@ import sirius.stellar.logging.LoggerLevel;
 import java.io.ObjectStreamException;
 import java.io.Serial;
 import java.io.Serializable;
-import java.time.Instant;
 
 /**
  * Implementation of {@link org.slf4j.Logger} which dispatches to {@link Logger}.
@@ -38,41 +37,41 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger, Serializ
 	//#region trace*
 	@Override
 	public boolean isTraceEnabled() {
-		return Logger.enabled(LoggerLevel.STACKTRACE);
+		return Logger.enabled(this.name, LoggerLevel.STACKTRACE);
 	}
 
 	@Override
 	public void trace(String text) {
 		if (!isTraceEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void trace(String text, Object argument) {
 		if (!isTraceEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void trace(String text, Object argument1, Object argument2) {
 		if (!isTraceEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void trace(String text, Object... arguments) {
 		if (!isTraceEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void trace(String text, Throwable throwable) {
 		if (!isTraceEnabled()) return;
 		if (throwable != null) text += "\n" + Throwables.stacktrace(throwable);
-		Logger.dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
 	}
 	//#endregion
 	//#region trace* [Marker]
@@ -115,41 +114,41 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger, Serializ
 	//#region debug*
 	@Override
 	public boolean isDebugEnabled() {
-		return Logger.enabled(LoggerLevel.DEBUGGING);
+		return Logger.enabled(this.name, LoggerLevel.DEBUGGING);
 	}
 
 	@Override
 	public void debug(String text) {
 		if (!isDebugEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void debug(String text, Object argument) {
 		if (!isDebugEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void debug(String text, Object argument1, Object argument2) {
 		if (!isDebugEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void debug(String text, Object... arguments) {
 		if (!isDebugEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void debug(String text, Throwable throwable) {
 		if (!isDebugEnabled()) return;
 		if (throwable != null) text += "\n" + Throwables.stacktrace(throwable);
-		Logger.dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
 	}
 	//#endregion
 	//#region debug* [Marker]
@@ -192,41 +191,41 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger, Serializ
 	//#region info*
 	@Override
 	public boolean isInfoEnabled() {
-		return Logger.enabled(LoggerLevel.INFORMATION);
+		return Logger.enabled(this.name, LoggerLevel.INFORMATION);
 	}
 
 	@Override
 	public void info(String text) {
 		if (!isInfoEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void info(String text, Object argument) {
 		if (!isInfoEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void info(String text, Object argument1, Object argument2) {
 		if (!isInfoEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void info(String text, Object... arguments) {
 		if (!isInfoEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void info(String text, Throwable throwable) {
 		if (!isInfoEnabled()) return;
 		if (throwable != null) text += "\n" + Throwables.stacktrace(throwable);
-		Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
 	}
 	//#endregion
 	//#region info* [Marker]
@@ -269,41 +268,41 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger, Serializ
 	//#region warn*
 	@Override
 	public boolean isWarnEnabled() {
-		return Logger.enabled(LoggerLevel.WARNING);
+		return Logger.enabled(this.name, LoggerLevel.WARNING);
 	}
 
 	@Override
 	public void warn(String text) {
 		if (!isWarnEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void warn(String text, Object argument) {
 		if (!isWarnEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void warn(String text, Object argument1, Object argument2) {
 		if (!isWarnEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void warn(String text, Object... arguments) {
 		if (!isWarnEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void warn(String text, Throwable throwable) {
 		if (!isWarnEnabled()) return;
 		if (throwable != null) text += "\n" + Throwables.stacktrace(throwable);
-		Logger.dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
 	}
 	//#endregion
 	//#region warn* [Marker]
@@ -346,41 +345,41 @@ public record Slf4jDispatcher(String name) implements org.slf4j.Logger, Serializ
 	//#region error*
 	@Override
 	public boolean isErrorEnabled() {
-		return Logger.enabled(LoggerLevel.ERROR);
+		return Logger.enabled(this.name, LoggerLevel.ERROR);
 	}
 
 	@Override
 	public void error(String text) {
 		if (!isErrorEnabled()) return;
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void error(String text, Object argument) {
 		if (!isErrorEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void error(String text, Object argument1, Object argument2) {
 		if (!isErrorEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, argument1, argument2).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void error(String text, Object... arguments) {
 		if (!isErrorEnabled()) return;
 		text = org.slf4j.helpers.MessageFormatter.format(text, arguments).getMessage();
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
 	}
 
 	@Override
 	public void error(String text, Throwable throwable) {
 		if (!isErrorEnabled()) return;
 		if (throwable != null) text += "\n" + Throwables.stacktrace(throwable);
-		Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
 	}
 	//#endregion
 	//#region error* [Marker]
@@ -0,0 +1,80 @@
+package sirius.stellar.logging.dispatch.slf4j;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerContext;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link org.slf4j.spi.MDCAdapter} used by {@link Slf4jServiceProvider}.
+ * <p>
+ * This is backed by the {@link LoggerContext} of the current thread, except for the stacks of values by key,
+ * which have no equivalent in it, and are held per thread by {@link org.slf4j.helpers.ThreadLocalMapOfStacks}.
+ * <p>
+ * Unlike {@link org.slf4j.helpers.BasicMDCAdapter}, which this replaces, the context is not inherited by threads
+ * started after a value is put, in line with the MDC of Logback and Log4j 2; a context is handed over to another
+ * thread explicitly, with {@link LoggerContext#wrap(Runnable)} or {@link LoggerContext#run(Runnable)}.
+ */
+@Internal
+final class Slf4jMdcAdapter implements org.slf4j.spi.MDCAdapter {
+
+	private final org.slf4j.helpers.ThreadLocalMapOfStacks stacks = new org.slf4j.helpers.ThreadLocalMapOfStacks();
+
+	@Override
+	public void put(String key, String value) {
+		if (key == null) throw new IllegalArgumentException("Key must not be null");
+		LoggerContext.put(key, value);
+	}
+
+	@Override
+	public String get(String key) {
+		Object value = LoggerContext.get(key);
+		return (value == null) ? null : String.valueOf(value);
+	}
+
+	@Override
+	public void remove(String key) {
+		LoggerContext.remove(key);
+	}
+
+	@Override
+	public void clear() {
+		LoggerContext.clear();
+	}
+
+	@Override
+	public Map<String, String> getCopyOfContextMap() {
+		LoggerContext context = LoggerContext.current();
+		Map<String, String> map = new HashMap<>(context.size() * 2);
+		for (int i = 0; i < context.size(); i++) map.put(context.key(i), String.valueOf(context.value(i)));
+		return map;
+	}
+
+	@Override
+	public void setContextMap(Map<String, String> contextMap) {
+		LoggerContext.clear();
+		if (contextMap != null) contextMap.forEach(LoggerContext::put);
+	}
+
+	@Override
+	public void pushByKey(String key, String value) {
+		this.stacks.pushByKey(key, value);
+	}
+
+	@Override
+	public String popByKey(String key) {
+		return this.stacks.popByKey(key);
+	}
+
+	@Override
+	public Deque<String> getCopyOfDequeByKey(String key) {
+		return this.stacks.getCopyOfDequeByKey(key);
+	}
+
+	@Override
+	public void clearDequeByKey(String key) {
+		this.stacks.clearDequeByKey(key);
+	}
+}
\ No newline at end of file
@@ -37,6 +37,6 @@ public final class Slf4jServiceProvider implements org.slf4j.spi.SLF4JServicePro
 	public void initialize() {
 		this.loggerFactory = new Slf4jFactory();
 		this.markerFactory = new org.slf4j.helpers.BasicMarkerFactory();
-		this.mdcAdapter = new org.slf4j.helpers.BasicMDCAdapter();
+		this.mdcAdapter = new Slf4jMdcAdapter();
 	}
 }
@@ -1,45 +1,46 @@
 package sirius.stellar.logging.dispatch.tinylog;
 
 import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerContext;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Implementation of {@link org.tinylog.provider.ContextProvider} used by {@link TinylogDispatcher}.
+ * This is backed by the {@link LoggerContext} of the current thread.
  */
 @Internal
 final class TinylogContextProvider implements org.tinylog.provider.ContextProvider {
 
-	private final Map<String, String> map;
-
-	TinylogContextProvider() {
-		this.map = new ConcurrentHashMap<>();
-	}
-
 	@Override
 	public Map<String, String> getMapping() {
-		return this.map;
+		LoggerContext context = LoggerContext.current();
+		Map<String, String> mapping = new LinkedHashMap<>(context.size() * 2);
+		for (int i = 0; i < context.size(); i++) mapping.put(context.key(i), String.valueOf(context.value(i)));
+		return Collections.unmodifiableMap(mapping);
 	}
 
 	@Override
 	public String get(String key) {
-		return this.map.get(key);
+		Object value = LoggerContext.get(key);
+		return (value == null) ? null : String.valueOf(value);
 	}
 
 	@Override
 	public void put(String key, Object value) {
 		if (key == null || key.isEmpty() || key.isBlank()) throw new NullPointerException("Key must not be null, empty or blank");
-		this.map.put(key, String.valueOf(value));
+		LoggerContext.put(key, String.valueOf(value));
 	}
 
 	@Override
 	public void remove(String key) {
-		this.map.remove(key);
+		LoggerContext.remove(key);
 	}
 
 	@Override
 	public void clear() {
-		this.map.clear();
+		LoggerContext.clear();
 	}
 }
\ No newline at end of file
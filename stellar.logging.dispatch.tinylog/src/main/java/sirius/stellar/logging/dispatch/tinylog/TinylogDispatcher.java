@@ -4,7 +4,6 @@ import org.tinylog.format.AdvancedMessageFormatter;
 import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerLevel;
 
-import java.time.Instant;
 import java.util.Locale;
 
 import static sirius.stellar.facility.Throwables.*;
@@ -52,7 +51,8 @@ public final class TinylogDispatcher implements org.tinylog.provider.LoggingProv
 	@Override
 	public void log(String caller, String tag, org.tinylog.Level level, Throwable throwable, org.tinylog.format.MessageFormatter formatter, Object o, Object... objects) {
 		if (level == null) return;
-		if (!Logger.enabled(this.convert(level))) return;
+		LoggerLevel loggerLevel = this.convert(level);
+		if (loggerLevel == null || !Logger.enabled(caller, loggerLevel)) return;
 		if (formatter == null) formatter = new AdvancedMessageFormatter(Locale.getDefault(), true);
 
 		String message = String.valueOf(o);
@@ -60,7 +60,7 @@ public final class TinylogDispatcher implements org.tinylog.provider.LoggingProv
 
 		if (tag != null && !tag.isEmpty() && !tag.isBlank()) message = "[" + tag + "] " + message;
 		if (throwable != null) message += "\n" + stacktrace(throwable);
-		Logger.dispatch(Instant.now(), this.convert(level), Thread.currentThread().getName(), caller, message);
+		Logger.dispatch(loggerLevel, Thread.currentThread().getName(), caller, message);
 	}
 
 	/**
@@ -0,0 +1,52 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.concurrent.locks.LockSupport;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Implementation of {@link LoggerClock#cached()}.
+ * The cached time is only written by the ticker thread, so reading it is a single volatile read.
+ */
+@Internal
+final class CachedClock implements LoggerClock, Runnable {
+
+	private static final long TICK_NANOS = 1_000_000L;
+
+	private final Thread ticker;
+
+	private volatile long nanos;
+	private volatile boolean closed;
+
+	CachedClock() {
+		this.nanos = System.currentTimeMillis() * TICK_NANOS;
+		this.ticker = Thread.ofPlatform().name("logging-clock").daemon().unstarted(this);
+		this.ticker.start();
+	}
+
+	@Override
+	public long nanos() {
+		return this.nanos;
+	}
+
+	@Override
+	public void run() {
+		while (!this.closed) {
+			this.nanos = System.currentTimeMillis() * TICK_NANOS;
+			LockSupport.parkNanos(this, TICK_NANOS);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		LockSupport.unpark(this.ticker);
+	}
+
+	@Override
+	public String toString() {
+		return format("CachedClock[nanos={0}]", String.valueOf(this.nanos));
+	}
+}
\ No newline at end of file
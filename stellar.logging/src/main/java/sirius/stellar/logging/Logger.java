@@ -10,15 +10,29 @@ import sirius.stellar.logging.dispatch.Dispatcher;
 import sirius.stellar.logging.supplier.ObjectSupplier;
 import sirius.stellar.logging.supplier.ThrowableSupplier;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import static sirius.stellar.facility.Strings.*;
 
@@ -29,6 +43,10 @@ import static sirius.stellar.facility.Strings.*;
  * user might want to run {@code Logger.collector(Collector.console())} to ensure logs are appended into the console and
  * {@link System#out} and {@link System#err} are overridden. This is not called by default to allow for full flexibility.
  * <p>
+ * The static logging methods on this class retrieve the name of the caller with a {@link StackWalker} on every call for
+ * convenience. Code that logs frequently should instead obtain a {@link LoggerHandle} with {@link Logger#of(Class)}, which
+ * offers the same logging methods with the name fixed when the handle is obtained.
+ * <p>
  * All logging methods are asynchronous and executed against a single logging thread (a platform thread). Virtual
  * threads are not used in this case (in favor of {@code Executors.newFixedThreadPool(1)}) as only one single thread
  * is needed to achieve fast logging performance even over a very involved application. This can be changed with
@@ -46,19 +64,76 @@ import static sirius.stellar.facility.Strings.*;
  * it could benefit the performance of your business logic to use a virtual thread executor as if you are using virtual threads
  * elsewhere, they will complement each other when any heavy IO takes place and free up the carrier threads for more work to be
  * performed, while also allowing for a low amount of memory to be consumed due to the lack of actual platform threads.
+ * <p>
+ * Alternatively, {@link Logger#collector(Collector, int, LoggerOverflow)} can be used to give only the collectors that
+ * perform heavy lifting their own queue and thread, so that they cannot delay the collectors that do not.
+ * <p>
+ * For applications that log very heavily from many threads at once, {@link Logger#ring(int, LoggerWaitStrategy)} can be
+ * used instead of an executor, which switches to a preallocated ring drained by a dedicated logging thread, avoiding any
+ * allocation or lock contention for handing each message over to the logging thread.
+ * <p>
+ * Messages are formatted on the thread that logs them by default; {@link Logger#formatting(LoggerFormatting)} can be used
+ * to defer formatting to the logging thread as well, provided that the arguments are not mutated after being logged.
+ * <p>
+ * Statements that can be logged very often, e.g., a warning for every failed request, can be limited with
+ * {@link Logger#every(Duration)}, {@link Logger#limited(int, Duration)} or {@link Logger#sampled(int, int)}, which
+ * suppress them before they are formatted and count how many were suppressed. Bursts of the same message logged from
+ * anywhere can also be collapsed on the logging thread with {@link Logger#collapse(Duration, int)}.
  *
  * @since 1u1
  * @author Mechite
  */
 public final class Logger {
 
-	private static final List<Collector> collectors = new ArrayList<>();
+	private static volatile LoggerRouting routing = new LoggerRouting(new Collector[0], new LoggerRouting.Route[0], new boolean[0]);
+	private static final List<List<LoggerEvent>> partitions = new ArrayList<>();
 	private static final StackWalker walker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
 
-	private static int severity = Integer.MAX_VALUE;
+	private static final Map<String, LoggerHandle> handles = new ConcurrentHashMap<>();
+	private static final ClassValue<LoggerHandle> types = new ClassValue<>() {
+		@Override
+		protected LoggerHandle computeValue(Class<?> type) {
+			return of(type.getName());
+		}
+	};
+
+	private static final LoggerQueue queue = new LoggerQueue();
+	private static final ReentrantLock collecting = new ReentrantLock();
+
+	private static final LongAdder batches = new LongAdder();
+	private static final LongAdder messages = new LongAdder();
+	private static final AtomicLong largest = new AtomicLong();
+
+	private static final LongAdder[] dropped = new LongAdder[LoggerLevel.values().length];
+	private static final LongAdder[] unreported = new LongAdder[LoggerLevel.values().length];
+	private static final AtomicBoolean dropping = new AtomicBoolean();
+	private static volatile long latest;
+
+	private static final LoggerTrie severities = new LoggerTrie();
+	private static volatile int severity = Integer.MAX_VALUE;
+	private static volatile int ceiling = Integer.MAX_VALUE;
+	static volatile int generation = 1;
+
+	static volatile int batch = 256;
+	private static volatile int capacity = Integer.MAX_VALUE;
+	private static volatile LoggerOverflow overflow = LoggerOverflow.BLOCK;
 	private static ExecutorService executor = Executors.newFixedThreadPool(1);
+	private static volatile LoggerRing ring;
+	private static volatile boolean pooling;
+	static volatile boolean carriers;
+	private static volatile LoggerCollapse collapse;
+
+	static volatile LoggerFormatting formatting = LoggerFormatting.EAGER;
+	static volatile LoggerClock clock = LoggerClock.precise();
+	private static volatile UnaryOperator<Object> snapshot = UnaryOperator.identity();
+	private static volatile ClassValue<Boolean> eager = assignable(List.of());
 
 	static {
+		for (int i = 0; i < dropped.length; i++) {
+			dropped[i] = new LongAdder();
+			unreported[i] = new LongAdder();
+		}
+
 		try {
 			ServiceLoader<Dispatcher.Provider> loader = ServiceLoader.load(Dispatcher.Provider.class);
 			for (Dispatcher.Provider provider : loader) provider.create().wire();
@@ -71,22 +146,321 @@ public final class Logger {
 	 * Set the severity of the logger to the provided value.
 	 * If the severity of a message is above this value, it will not be emitted.
 	 *
+	 * <p>
+	 * This applies to every name that does not have a severity set for it with {@link Logger#severity(String, int)}.
+	 *
 	 * @see LoggerLevel
 	 * @since 1u1
 	 */
-	public static void severity(int value) {
+	public static synchronized void severity(int value) {
 		if (value < 0) throw new UnsupportedOperationException("Logger severity must be between 0 and Integer#MAX_VALUE");
 		severity = value;
+		ceiling = severities.ceiling(value);
+		generation++;
+	}
+
+	/**
+	 * Set the severity of the logger to the provided value for the provided name, and every name below it.
+	 * <p>
+	 * Names are hierarchical, with each segment separated by a dot, so setting the severity for {@code com.example}
+	 * applies to {@code com.example.Example} and {@code com.example.nested.Example}, but not to {@code com.examples}.
+	 * The severity set for the most specific name always applies, and an empty name is equivalent to calling
+	 * {@link Logger#severity(int)}.
+	 * <p>
+	 * Every {@link LoggerHandle} caches the severity that applies to its name, only resolving it again after a
+	 * severity has been changed, so checking whether a level is enabled costs the same regardless of how many
+	 * severities have been set.
+	 *
+	 * @see LoggerLevel
+	 * @since 1u1
+	 */
+	@Contract("null, _ -> fail")
+	public static synchronized void severity(String name, int value) {
+		if (name == null) throw new NullPointerException("Attempted to set severity for null name");
+		if (value < 0) throw new UnsupportedOperationException("Logger severity must be between 0 and Integer#MAX_VALUE");
+		if (name.isEmpty()) {
+			severity(value);
+			return;
+		}
+		severities.severity(name, value);
+		ceiling = severities.ceiling(severity);
+		generation++;
+	}
+
+	/**
+	 * Set the maximum number of messages handed over to collectors at once with {@link Collector#collect(List)}.
+	 * <p>
+	 * The logging thread drains every message that has been dispatched so far in a single pass, so batches are
+	 * only as large as this when the logging thread is falling behind. Larger batches amortize the I/O performed
+	 * by collectors better, at the cost of messages being held before collection for longer. The default is 256.
+	 *
+	 * @see Logger#statistics()
+	 * @since 1u1
+	 */
+	public static void batch(int value) {
+		if (value <= 0) throw new UnsupportedOperationException("Logger batch size must be between 1 and Integer#MAX_VALUE");
+		batch = value;
+	}
+
+	/**
+	 * Returns a snapshot of the counters maintained by the logger.
+	 * This is intended to be used for tuning, e.g., the size of batches set with {@link Logger#batch(int)}.
+	 *
+	 * @since 1u1
+	 */
+	public static LoggerStatistics statistics() {
+		Map<LoggerLevel, Long> counts = new EnumMap<>(LoggerLevel.class);
+		for (LoggerLevel level : LoggerLevel.values()) counts.put(level, dropped[level.ordinal()].sum());
+		return new LoggerStatistics(batches.sum(), messages.sum(), largest.get(), Collections.unmodifiableMap(counts));
+	}
+
+	/**
+	 * Returns a snapshot of the counters maintained for the provided collector, which must have been registered
+	 * with its own queue through {@link Logger#collector(Collector, int, LoggerOverflow)}.
+	 *
+	 * @since 1u1
+	 */
+	public static LoggerLaneStatistics statistics(Collector collector) {
+		if (collector == null) throw new NullPointerException("Attempted to get statistics of null collector");
+		int index = index(collector);
+		if (index != -1 && routing.collectors()[index] instanceof LoggerLane lane) return lane.statistics();
+		throw new UnsupportedOperationException("Cannot get statistics of a collector not registered with its own queue");
+	}
+
+	/**
+	 * Set the maximum number of messages that can be dispatched but not yet drained by the logging thread.
+	 * <p>
+	 * When this is reached, the policy set with {@link Logger#overflow(LoggerOverflow)} decides what happens to
+	 * any further messages. By default, this is {@link Integer#MAX_VALUE}, i.e., the logger is unbounded, which
+	 * means a collector that is slower than the rate messages are dispatched at grows the heap without limit.
+	 * <p>
+	 * When {@link Logger#ring(int, LoggerWaitStrategy)} is used, the capacity of the ring is used instead.
+	 *
+	 * @since 1u1
+	 */
+	public static void capacity(int value) {
+		if (value <= 0) throw new UnsupportedOperationException("Logger capacity must be between 1 and Integer#MAX_VALUE");
+		capacity = value;
+	}
+
+	/**
+	 * Set the policy applied to messages dispatched while the logger is at capacity.
+	 * By default, this is {@link LoggerOverflow#BLOCK}.
+	 * <p>
+	 * {@link LoggerOverflow#DROP_OLDEST} cannot be used while {@link Logger#ring(int, LoggerWaitStrategy)} is used,
+	 * as only the logging thread can free a slot of the ring.
+	 *
+	 * @see Logger#capacity(int)
+	 * @since 1u1
+	 */
+	public static void overflow(LoggerOverflow value) {
+		if (value == null) throw new NullPointerException("Attempted to set overflow policy to null");
+		if (value == LoggerOverflow.DROP_OLDEST && ring != null) throw new UnsupportedOperationException("Logger overflow policy must not be DROP_OLDEST while a ring is used");
+		overflow = value;
+	}
+
+	/**
+	 * Set the clock that the time of each message is read from, on the thread that dispatches it.
+	 * By default, this is {@link LoggerClock#precise()}. The previous clock is closed.
+	 *
+	 * @see LoggerClock#cached()
+	 * @see LoggerClock#monotonic()
+	 * @since 1u1
+	 */
+	public static synchronized void clock(LoggerClock value) {
+		if (value == null) throw new NullPointerException("Attempted to set clock to null");
+		LoggerClock previous = clock;
+		clock = value;
+		if (previous != value) previous.close();
+	}
+
+	/**
+	 * Set which thread formats the arguments provided to the logging methods.
+	 * By default, this is {@link LoggerFormatting#EAGER}.
+	 *
+	 * @see LoggerFormatting#DEFERRED
+	 * @since 1u1
+	 */
+	public static void formatting(LoggerFormatting value) {
+		if (value == null) throw new NullPointerException("Attempted to set formatting to null");
+		formatting = value;
+	}
+
+	/**
+	 * Set the function applied to every argument before it is handed over to the logging thread, when formatting
+	 * is {@link LoggerFormatting#DEFERRED}. This can be used to copy mutable arguments, e.g., collections, so that
+	 * they can be safely formatted at a later point; the function is called on the thread that logs the message,
+	 * and is never called with {@code null}. By default, every argument is handed over as is.
+	 *
+	 * @see Logger#formatting(LoggerFormatting)
+	 * @since 1u1
+	 */
+	public static void snapshot(UnaryOperator<Object> value) {
+		if (value == null) throw new NullPointerException("Attempted to set snapshot to null");
+		snapshot = value;
+	}
+
+	/**
+	 * Set the types of arguments that are converted to a string with {@link String#valueOf(Object)} on the thread
+	 * that logs the message, when formatting is {@link LoggerFormatting#DEFERRED}, replacing those previously set.
+	 * This applies to subtypes of the provided types too, and takes precedence over {@link Logger#snapshot(UnaryOperator)}.
+	 * <p>
+	 * This should be used for arguments that are mutable or not safe to call {@link Object#toString()} on from another
+	 * thread, e.g., {@code Logger.eager(StringBuilder.class, Map.class)}. Note that numbers and dates converted with
+	 * this method are not formatted according to the pattern they are logged with.
+	 *
+	 * @see Logger#formatting(LoggerFormatting)
+	 * @since 1u1
+	 */
+	public static void eager(Class<?>... types) {
+		if (types == null) throw new NullPointerException("Attempted to set eager types to null");
+		for (Class<?> type : types) if (type == null) throw new NullPointerException("Attempted to set eager type to null");
+		eager = assignable(List.of(types));
 	}
 
 	/**
 	 * Set the {@link ExecutorService} used by the logger to the provided value.
+	 * <p>
+	 * Dispatched messages are queued, and a single task is submitted to the executor to drain them whenever it is
+	 * not already running, so that they are handed over to collectors in batches (and never out of order, even if
+	 * the provided executor runs tasks concurrently). The number of queued messages is bounded by the value set
+	 * with {@link Logger#capacity(int)}.
+	 * <p>
+	 * If {@link Logger#ring(int, LoggerWaitStrategy)} was previously called, the ring is closed
+	 * (blocking until every message it accepted has been collected) and the logger falls back to
+	 * submitting each message to this executor.
+	 *
 	 * @since 1u1
 	 */
 	public static void executor(ExecutorService value) {
 		if (value == null) throw new NullPointerException("Attempted to set executor to null");
 		if (value.isShutdown() || value.isTerminated()) throw new UnsupportedOperationException("Attempted to set executor to a terminated executor");
 		executor = value;
+		replace(null);
+	}
+
+	/**
+	 * Switches the logger to a preallocated ring of the provided capacity, drained by a dedicated logging thread.
+	 * <p>
+	 * Dispatching a message to the ring costs a single atomic increment and copying the message into a reusable
+	 * slot, rather than allocating a task and contending on the lock of the queue of an {@link ExecutorService},
+	 * which makes this preferable for applications that log heavily from many threads at once. When the ring is
+	 * full, dispatching threads wait for the logging thread according to the provided strategy; the strategy is
+	 * also used by the logging thread itself when there are no messages to collect.
+	 * <p>
+	 * This is not used by default as the logging thread is never shared, and with {@link LoggerWaitStrategy#SPIN}
+	 * or {@link LoggerWaitStrategy#YIELD}, it occupies a core even when the application is idle. Calling any of
+	 * {@link Logger#executor(ExecutorService)} or {@link Logger#synchronous()} returns to the executor.
+	 * <p>
+	 * The ring cannot be used with {@link LoggerOverflow#DROP_OLDEST}, as only the logging thread can free a slot
+	 * without racing with it reading that slot, so the oldest message could only be dropped once the logging thread
+	 * reaches it, and the dispatching thread would wait for it regardless.
+	 *
+	 * @param capacity The number of slots in the ring, rounded up to the next power of two.
+	 * @param strategy How threads wait when the ring is full or empty.
+	 *
+	 * @since 1u1
+	 */
+	public static void ring(int capacity, LoggerWaitStrategy strategy) {
+		if (capacity <= 0 || capacity > (1 << 30)) throw new UnsupportedOperationException("Logger ring capacity must be between 1 and 2^30");
+		if (strategy == null) throw new NullPointerException("Attempted to set ring wait strategy to null");
+		if (overflow == LoggerOverflow.DROP_OLDEST) throw new UnsupportedOperationException("Logger overflow policy must not be DROP_OLDEST while a ring is used");
+		replace(new LoggerRing(capacity, strategy, pooling));
+	}
+
+	/**
+	 * Set whether the ring used by the logger hands over its own reusable slots to collectors, rather than a new
+	 * {@link LoggerMessage} for each message.
+	 * <p>
+	 * When enabled, messages are formatted straight into a reusable {@link StringBuilder} owned by their slot, and
+	 * the time is stored as primitives, so collecting a message does not allocate. Collectors receive each slot as
+	 * a {@link LoggerEvent} that is only valid until {@link Collector#collect(List)} returns, and must call
+	 * {@link LoggerEvent#message()} to retain it. The slots of a batch are only made available to dispatching
+	 * threads again once the batch has been handed over to every collector.
+	 * <p>
+	 * This only applies when {@link Logger#ring(int, LoggerWaitStrategy)} is used, and is most effective together with
+	 * {@link LoggerFormatting#DEFERRED}, as messages formatted eagerly are formatted into a new string regardless.
+	 * If a ring is already in use, it is closed and replaced with a new one of the same capacity and strategy.
+	 *
+	 * @since 1u1
+	 */
+	public static synchronized void pooling(boolean value) {
+		pooling = value;
+		LoggerRing ring = Logger.ring;
+		if (ring != null) replace(new LoggerRing(ring.capacity(), ring.strategy(), value));
+	}
+
+	/**
+	 * Set whether the name of the carrier of a virtual thread is captured for every message dispatched from it,
+	 * as returned by {@link LoggerEvent#carrier()}.
+	 * <p>
+	 * The JDK only exposes the carrier through {@link Thread#toString()}, which takes a lock on the virtual thread
+	 * and builds a new string every time, so this is disabled by default, and messages dispatched from a virtual
+	 * thread have an empty carrier instead (still indicating that the thread was virtual). Reading the carrier from
+	 * that description is best-effort, as its format is not specified, and may stop working with a future release.
+	 *
+	 * @since 1u1
+	 */
+	public static void carriers(boolean value) {
+		carriers = value;
+	}
+
+	/**
+	 * Set the window within which repeats of a message are collapsed into a single message, on the logging thread.
+	 * <p>
+	 * Messages with the same level, name, text and structured fields are considered repeats of each other, e.g., when
+	 * a downstream dependency is unavailable and every request logs the same error. The first occurrence is handed
+	 * over to collectors as usual, and any repeat within the window that follows is held back; once the window has
+	 * passed (measured with {@link Logger#clock(LoggerClock)}, whether or not anything else is logged meanwhile), a single
+	 * message with the text of the first and the number of repeats appended, e.g.,
+	 * {@code Failed to reach example.com (repeated 4210 times)}, is handed over in their place. This cuts down the I/O performed by collectors by orders of magnitude during such an incident.
+	 * <p>
+	 * Up to the provided number of distinct messages are remembered at once, and the least recently repeated message is
+	 * forgotten when a new one is collected (handing over its repeats first, if it has any). A window of zero disables
+	 * this, which is the default. Any repeats held back when this is changed, or the logger is closed, are handed over.
+	 *
+	 * @since 1u1
+	 */
+	public static void collapse(Duration window, int capacity) {
+		if (window == null) throw new NullPointerException("Attempted to set collapse window to null");
+		if (window.isNegative()) throw new UnsupportedOperationException("Collapse window must not be negative");
+		if (capacity <= 0) throw new UnsupportedOperationException("Collapse capacity must be between 1 and Integer#MAX_VALUE");
+
+		long nanos = (window.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0) ? Long.MAX_VALUE : window.toNanos();
+		collapse((nanos == 0) ? null : new LoggerCollapse(nanos, capacity));
+	}
+
+	/**
+	 * Replaces the stage that collapses repeated messages, handing over any repeats held back by the previous one.
+	 */
+	private static void collapse(LoggerCollapse value) {
+		collecting.lock();
+		try {
+			LoggerCollapse previous = collapse;
+			collapse = value;
+			if (previous == null) return;
+
+			previous.close();
+			List<LoggerEvent> repeats = previous.flush();
+			if (!repeats.isEmpty()) handover(routing, repeats);
+		} finally {
+			collecting.unlock();
+		}
+	}
+
+	/**
+	 * Hands over the repeats held back by the provided stage whose window has passed, if it is still in use.
+	 * This is called by the thread owned by the stage once its deadline has passed.
+	 */
+	static void expire(LoggerCollapse stage) {
+		collecting.lock();
+		try {
+			if (collapse != stage) return;
+			List<LoggerEvent> repeats = stage.expired(clock.nanos());
+			if (!repeats.isEmpty()) handover(routing, repeats);
+		} finally {
+			collecting.unlock();
+		}
 	}
 
 	/**
@@ -111,7 +485,10 @@ public final class Logger {
 	 * Dispatches a message.
 	 *
 	 * @param thread The name of the thread this message was dispatched from.
-	 * This should never be the identifier of the thread {@link Thread#threadId()}.
+	 * This should never be the identifier of the thread {@link Thread#threadId()}, which is
+	 * recorded separately, along with whether the thread is virtual; the message must
+	 * therefore be dispatched on the thread it originates from. If this is empty, e.g., for an
+	 * unnamed virtual thread, a name derived from the identifier of the thread is used instead.
 	 *
 	 * @param name The original caller that caused this dispatch. This is retrieved
 	 * quickly with each call using {@link StackWalker#getCallerClass()}.
@@ -125,15 +502,287 @@ public final class Logger {
 	 * delegate should be called instead, and this argument should be null.
 	 */
 	@Internal
+	public static void dispatch(LoggerLevel level, String thread, String name, String text, Object... arguments) {
+		dispatch(clock.nanos(), level, thread, name, text, arguments);
+	}
+
+	/**
+	 * Dispatches a message with the provided time, rather than reading it from the clock set with
+	 * {@link Logger#clock(LoggerClock)}. This should only be used if the logger or facade that the
+	 * dispatcher is to delegate provides the time of the message itself.
+	 *
+	 * @see Logger#dispatch(LoggerLevel, String, String, String, Object...)
+	 */
+	@Internal
 	public static void dispatch(Instant time, LoggerLevel level, String thread, String name, String text, Object... arguments) {
+		dispatch(time.getEpochSecond() * 1_000_000_000L + time.getNano(), level, thread, name, text, arguments);
+	}
+
+	/**
+	 * Dispatches a message with the provided time, in nanoseconds since the epoch.
+	 * @see Logger#dispatch(LoggerLevel, String, String, String, Object...)
+	 */
+	@Internal
+	public static void dispatch(long time, LoggerLevel level, String thread, String name, String text, Object... arguments) {
+		dispatch(time, level, thread, name, text, arguments, LoggerFields.empty());
+	}
+
+	/**
+	 * Dispatches a message with the provided time, in nanoseconds since the epoch, and structured fields,
+	 * capturing the {@link LoggerContext} of the current thread.
+	 *
+	 * @see LoggerEventBuilder
+	 */
+	static void dispatch(long time, LoggerLevel level, String thread, String name, String text, Object[] arguments, LoggerFields fields) {
+		Thread current = Thread.currentThread();
+		thread = LoggerThreads.name(current, thread);
+		long identifier = current.threadId();
+		String carrier = LoggerThreads.carrier(current);
+		LoggerContext context = LoggerContext.current();
+
+		LoggerRing ring = Logger.ring;
+		if (ring != null) {
+			long occupancy = ring.occupancy();
+			if (occupancy >= ring.capacity() && overflow(ring.logging(), time, level, thread, identifier, carrier, name, text, arguments, fields, context)) return;
+			if (ring.publish(time, level, thread, identifier, carrier, name, text, arguments, fields, context)) {
+				if (occupancy < ring.capacity() / 2 && dropping.get()) summarize();
+				return;
+			}
+		}
+
+		ExecutorService executor = Logger.executor;
 		if (executor.isShutdown() || executor.isTerminated()) return;
-		executor.submit(() -> {
-			if (!enabled(level)) return;
-			if (text == null || text.isEmpty() || text.isBlank() || text.equalsIgnoreCase("null")) return;
 
-			LoggerMessage message = new LoggerMessage(time, level, thread, name, (arguments == null || arguments.length == 0) ? text : format(text, arguments));
-			collectors.forEach(collector -> collector.collect(message));
-		});
+		long occupancy = queue.occupancy();
+		if (occupancy >= capacity && overflow(queue.logging(), time, level, thread, identifier, carrier, name, text, arguments, fields, context)) return;
+		queue.publish(executor, time, level, thread, identifier, carrier, name, text, arguments, fields, context);
+		if (occupancy < capacity / 2 && dropping.get()) summarize();
+	}
+
+	/**
+	 * Applies the policy set with {@link Logger#overflow(LoggerOverflow)} to a message dispatched at capacity.
+	 *
+	 * @param logging Whether the message was dispatched by the logging thread itself, which must never wait.
+	 * @return Whether the message has been handled (dropped or collected), or false if it should still be published.
+	 */
+	private static boolean overflow(boolean logging, long time, LoggerLevel level, String thread, long identifier, String carrier, String name, String text, Object[] arguments, LoggerFields fields, LoggerContext context) {
+		LoggerOverflow overflow = Logger.overflow;
+		if (overflow == LoggerOverflow.RETAIN_ERRORS) overflow = (level == LoggerLevel.ERROR || level == LoggerLevel.STACKTRACE) ? LoggerOverflow.BLOCK : LoggerOverflow.DROP_NEWEST;
+
+		switch (overflow) {
+			case DROP_NEWEST -> {
+				drop(level);
+				return true;
+			}
+			case DROP_OLDEST -> {
+				if (logging) break;
+				if (Logger.ring != null) {
+					drop(level); // only reachable if the policy was set while racing with the ring being set, see Logger#overflow
+					return true;
+				}
+				queue.evict();
+				return false;
+			}
+			case BLOCK -> {
+				if (logging) break;
+				if (Logger.ring != null) return false;
+				for (int attempt = 0; queue.occupancy() >= capacity && !executor.isShutdown(); attempt++) {
+					if (attempt < 100) Thread.onSpinWait();
+					else LockSupport.parkNanos(attempt < 1_000 ? 1_000L : 1_000_000L);
+				}
+				return false;
+			}
+		}
+
+		LoggerMessage message = message(time, level, thread, identifier, carrier, name, text, arguments, fields, context);
+		if (message != null) collect(Collections.singletonList(message));
+		return true;
+	}
+
+	/**
+	 * Counts a message that was dropped due to the logger being at capacity.
+	 * @see LoggerOverflow
+	 */
+	static void drop(LoggerLevel level) {
+		dropped[level.ordinal()].increment();
+		unreported[level.ordinal()].increment();
+		latest = System.nanoTime();
+		dropping.set(true);
+	}
+
+	/**
+	 * Dispatches a summary of the messages that have been dropped since the previous summary.
+	 * <p>
+	 * This is called when a message is dispatched while the logger is below half of its capacity, but only
+	 * dispatches the summary once no messages have been dropped for a second, so that a logger which is
+	 * repeatedly reaching capacity does not dispatch a summary every time it briefly recovers.
+	 */
+	private static void summarize() {
+		if (System.nanoTime() - latest < TimeUnit.SECONDS.toNanos(1)) return;
+		if (!dropping.compareAndSet(true, false)) return;
+
+		long total = 0;
+		StringJoiner levels = new StringJoiner(", ");
+		for (LoggerLevel level : LoggerLevel.values()) {
+			long count = unreported[level.ordinal()].sumThenReset();
+			if (count == 0) continue;
+			total += count;
+			levels.add(level.display() + "=" + count);
+		}
+		if (total == 0) return;
+		dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), Logger.class.getName(), "Dropped " + total + " messages while the logger was at capacity (" + levels + ")");
+	}
+
+	/**
+	 * Captures the provided arguments to be formatted on the logging thread, applying the types set with
+	 * {@link Logger#eager(Class[])} and the function set with {@link Logger#snapshot(UnaryOperator)}.
+	 * The provided array is only copied if any argument is replaced.
+	 */
+	static Object[] capture(Object[] arguments) {
+		ClassValue<Boolean> eager = Logger.eager;
+		UnaryOperator<Object> snapshot = Logger.snapshot;
+
+		Object[] captured = arguments;
+		for (int i = 0; i < arguments.length; i++) {
+			Object argument = arguments[i];
+			if (argument == null) continue;
+
+			Object value = eager.get(argument.getClass()) ? String.valueOf(argument) : snapshot.apply(argument);
+			if (value == argument) continue;
+			if (captured == arguments) captured = arguments.clone();
+			captured[i] = value;
+		}
+		return captured;
+	}
+
+	/**
+	 * Returns a lookup of whether a type is assignable to any of the provided types.
+	 * @see Logger#eager(Class[])
+	 */
+	private static ClassValue<Boolean> assignable(List<Class<?>> types) {
+		return new ClassValue<>() {
+			@Override
+			protected Boolean computeValue(Class<?> type) {
+				for (Class<?> eager : types) if (eager.isAssignableFrom(type)) return true;
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Creates a message that was previously dispatched, on the logging thread.
+	 * @return The message, or null if it should not be collected.
+	 * @see Logger#dispatch(long, LoggerLevel, String, String, String, Object...)
+	 */
+	static LoggerMessage message(long time, LoggerLevel level, String thread, long identifier, String carrier, String name, String text, Object[] arguments, LoggerFields fields, LoggerContext context) {
+		if (!accepts(level, name, text)) return null;
+		return new LoggerMessage(time, level, thread, name, (arguments == null || arguments.length == 0) ? text : format(text, arguments), identifier, carrier, fields, context);
+	}
+
+	/**
+	 * Returns whether a message that was previously dispatched should be collected, on the logging thread.
+	 * Messages are not collected if their level is not enabled for their name, or if their text is empty.
+	 */
+	static boolean accepts(LoggerLevel level, String name, String text) {
+		if (!enabled(name, level)) return false;
+		return text != null && !text.isEmpty() && !text.isBlank() && !text.equalsIgnoreCase("null");
+	}
+
+	/**
+	 * Hands over a batch of messages to every collector, on the logging thread.
+	 * A collector failing does not prevent the batch from being handed over to the remaining collectors.
+	 * <p>
+	 * Collectors are never invoked concurrently, even when a message is collected on the thread that
+	 * dispatched it due to {@link LoggerOverflow#SYNCHRONOUS}.
+	 */
+	static void collect(List<? extends LoggerEvent> batch) {
+		int size = batch.size();
+		batches.increment();
+		messages.add(size);
+		if (size > largest.get()) largest.accumulateAndGet(size, Math::max);
+
+		LoggerRouting routing = Logger.routing;
+		collecting.lock();
+		try {
+			LoggerCollapse collapse = Logger.collapse;
+			if (collapse != null) batch = collapse.apply(batch);
+			if (!batch.isEmpty()) handover(routing, batch);
+		} finally {
+			collecting.unlock();
+		}
+	}
+
+	/**
+	 * Hands over a batch of messages to the collectors that the routing hands each of them over to, on the logging
+	 * thread while holding the lock for collecting.
+	 */
+	private static void handover(LoggerRouting routing, List<? extends LoggerEvent> batch) {
+		if (routing.trivial()) {
+			for (Collector collector : routing.collectors()) collect(collector, batch);
+			return;
+		}
+		route(routing, batch);
+	}
+
+	/**
+	 * Splits a batch of messages by the collectors that the routing hands each of them over to, and then hands
+	 * over each part to its collector, on the logging thread while holding the lock for collecting.
+	 * <p>
+	 * The targets of a name are cached by its handle, but a handle is never created here, so that names which are
+	 * only ever dispatched (e.g., by a dispatcher, with a name built for every connection) are not held forever;
+	 * their targets are resolved again for each run of messages with that name instead.
+	 *
+	 * @see Logger#route(Collector, String, LoggerLevel...)
+	 */
+	private static void route(LoggerRouting routing, List<? extends LoggerEvent> batch) {
+		Collector[] collectors = routing.collectors();
+		while (partitions.size() < collectors.length) partitions.add(new ArrayList<>());
+
+		String previous = null;
+		LoggerRouting.Table table = null;
+		for (LoggerEvent event : batch) {
+			String name = (event.name() == null) ? "" : event.name();
+			LoggerHandle handle = handles.get(name);
+			if (handle == null && (table == null || !name.equals(previous))) table = routing.table(previous = name);
+
+			int[] targets = (handle == null) ? table.targets()[event.level().ordinal()] : handle.targets(routing, event.level());
+			for (int index : targets) partitions.get(index).add(event);
+		}
+		for (int i = 0; i < collectors.length; i++) {
+			List<LoggerEvent> partition = partitions.get(i);
+			if (partition.isEmpty()) continue;
+
+			collect(collectors[i], partition);
+			partition.clear();
+		}
+	}
+
+	/**
+	 * Hands over a batch of messages to the provided collector, ignoring any failure.
+	 */
+	private static void collect(Collector collector, List<? extends LoggerEvent> batch) {
+		try {
+			collector.collect(batch);
+		} catch (RuntimeException exception) {
+			assert true; // equivalent to a task failing on the executor, this must never end the logging thread
+		}
+	}
+
+	/**
+	 * Replaces the ring used by the logger, closing the previous one (if any).
+	 * Providing {@code null} returns the logger to submitting messages to the executor.
+	 */
+	private static synchronized void replace(LoggerRing value) {
+		LoggerRing previous = ring;
+		ring = value;
+		if (previous == null) return;
+
+		try {
+			previous.close();
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while closing logger ring", exception);
+		}
 	}
 
 	/**
@@ -157,11 +806,14 @@ public final class Logger {
 	 */
 	public static void close() {
 		try {
+			replace(null);
+
 			executor.shutdown();
 			executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
 			executor.close();
+			collapse(null);
 
-			for (Collector collector : collectors) collector.close();
+			for (Collector collector : routing.collectors()) collector.close();
 
 			Collector.executor.shutdown();
 			Collector.executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
@@ -173,18 +825,22 @@ public final class Logger {
 
 	//#region enabled*
 	/**
-	 * Returns whether the severity of the logger allows for the provided level to be logged.
+	 * Returns whether the severity of the logger allows for the provided level to be logged under any name.
+	 * <p>
+	 * This takes into account every severity set with {@link Logger#severity(String, int)}, so it can only be
+	 * used to rule out logging a message; {@link Logger#enabled(String, LoggerLevel)} (or
+	 * {@link LoggerHandle#enabled(LoggerLevel)}) should be used when the name is known.
 	 *
 	 * @see Logger#enabled(int)
 	 * @since 1u1
 	 */
 	@Contract("null -> fail")
 	public static boolean enabled(LoggerLevel level) {
-		return level.severity() < severity;
+		return level.severity() < ceiling;
 	}
 
 	/**
-	 * Returns whether the severity of the logger allows for the provided integer value level to be logged.
+	 * Returns whether the severity of the logger allows for the provided integer value level to be logged under any name.
 	 * Prefer to use the enumerator based method where possible. This is provided as a convenience method only.
 	 *
 	 * @see Logger#enabled(LoggerLevel)
@@ -192,7 +848,37 @@ public final class Logger {
 	 * @since 1u1
 	 */
 	public static boolean enabled(int level) {
-		return level < severity;
+		return level < ceiling;
+	}
+
+	/**
+	 * Returns whether the severity of the logger allows for the provided level to be logged under the provided name.
+	 * If the name is null, only the severity set with {@link Logger#severity(int)} is taken into account.
+	 * <p>
+	 * This does not create a handle for the name, so it can be called with names built at runtime (e.g., for every
+	 * connection) without them being held forever; the severity is only cached if a handle was already obtained for
+	 * the name with {@link Logger#of(String)}, and is otherwise resolved for every call.
+	 *
+	 * @see Logger#severity(String, int)
+	 * @see LoggerHandle#enabled(LoggerLevel)
+	 * @since 1u1
+	 */
+	@Contract("_, null -> fail")
+	public static boolean enabled(String name, LoggerLevel level) {
+		if (level.severity() >= ceiling) return false;
+		if (name == null) return level.severity() < severity;
+
+		LoggerHandle handle = handles.get(name);
+		if (handle != null) return handle.enabled(level);
+		return level.severity() < resolve(name);
+	}
+
+	/**
+	 * Resolves the severity that applies to the provided name.
+	 * @see LoggerHandle#enabled(LoggerLevel)
+	 */
+	static int resolve(String name) {
+		return severities.resolve(name, severity);
 	}
 	//#endregion
 
@@ -201,9 +887,38 @@ public final class Logger {
 	 * Registers the provided collector to run when things are being logged.
 	 * @since 1u1
 	 */
-	public static void collector(Collector collector) {
-		if (collectors.contains(collector)) throw new UnsupportedOperationException("Cannot register the same collector twice");
-		collectors.add(collector);
+	public static synchronized void collector(Collector collector) {
+		if (collector == null) throw new NullPointerException("Attempted to set collector to null");
+		if (index(collector) != -1) throw new UnsupportedOperationException("Cannot register the same collector twice");
+		register(collector);
+	}
+
+	/**
+	 * Registers the provided collector to run when things are being logged, with its own queue.
+	 * <p>
+	 * Rather than being invoked on the logging thread, the collector is handed over the messages from a queue of
+	 * the provided capacity, drained by a task scheduled with {@link Collector#task(java.util.concurrent.Callable)}
+	 * (a virtual thread by default). This means a collector that blocks, e.g., on a network or a facade with its
+	 * own synchronous appenders, only delays itself, rather than every other collector and, once the logger is at
+	 * capacity, the application. Messages are still handed over to the collector in the order they were dispatched.
+	 * <p>
+	 * When the queue is full, the provided policy decides what happens to further messages for this collector;
+	 * {@link LoggerOverflow#BLOCK} waits on the logging thread, which delays every other collector again, and
+	 * {@link LoggerOverflow#SYNCHRONOUS} is not supported. The lag of the collector can be monitored with
+	 * {@link Logger#statistics(Collector)}.
+	 *
+	 * @param capacity The maximum number of messages queued for the collector.
+	 * @param overflow What happens to messages for the collector once the queue is full.
+	 *
+	 * @since 1u1
+	 */
+	public static synchronized void collector(Collector collector, int capacity, LoggerOverflow overflow) {
+		if (collector == null) throw new NullPointerException("Attempted to set collector to null");
+		if (overflow == null) throw new NullPointerException("Attempted to set collector overflow policy to null");
+		if (capacity <= 0) throw new UnsupportedOperationException("Collector capacity must be between 1 and Integer#MAX_VALUE");
+		if (overflow == LoggerOverflow.SYNCHRONOUS) throw new UnsupportedOperationException("Collector overflow policy cannot be SYNCHRONOUS");
+		if (index(collector) != -1) throw new UnsupportedOperationException("Cannot register the same collector twice");
+		register(new LoggerLane(collector, capacity, overflow));
 	}
 
 	/**
@@ -220,6 +935,178 @@ public final class Logger {
 	public static void collectors(Iterable<Collector> collectors) {
 		collectors.forEach(Logger::collector);
 	}
+
+	/**
+	 * Routes the messages with a name at or below the provided prefix, at any of the provided levels (or at any level,
+	 * if none are provided), to the provided collector, which must already be registered.
+	 * <p>
+	 * By default, every registered collector is handed over every message, so any filtering has to be performed by the
+	 * collector itself. Once a route is set for a collector, it is only handed over the messages that any of the routes
+	 * set for it match, and a collector set with {@link Logger#fallback(Collector)} is only handed over the messages
+	 * that no route matches; collectors without either are still handed over every message. For example:
+	 * <pre>{@code
+	 * Logger.collector(alerting);
+	 * Logger.route(alerting, "", LoggerLevel.ERROR, LoggerLevel.STACKTRACE);
+	 *
+	 * Logger.collector(audit);
+	 * Logger.route(audit, "com.acme.audit");
+	 *
+	 * Collector console = Collector.console();
+	 * Logger.collector(console);
+	 * Logger.fallback(console);
+	 * }</pre>
+	 * Names are hierarchical, in the same way as with {@link Logger#severity(String, int)}, so the prefix
+	 * {@code com.acme.audit} matches {@code com.acme.audit} and {@code com.acme.audit.Example}, but not
+	 * {@code com.acme.auditing}. An empty prefix matches every name.
+	 * <p>
+	 * The collectors a message is handed over to only depend on its name and level, so they are resolved once for each
+	 * name and cached by its {@link LoggerHandle} (if one was obtained for it) until the routes change; the logging
+	 * thread performs a single lookup for each message, regardless of how many routes are set.
+	 *
+	 * @since 1u1
+	 */
+	@Contract("null, _, _ -> fail; _, null, _ -> fail")
+	public static synchronized void route(Collector collector, String prefix, LoggerLevel... levels) {
+		if (collector == null) throw new NullPointerException("Attempted to route to null collector");
+		if (prefix == null) throw new NullPointerException("Attempted to set route prefix to null");
+		if (levels == null) throw new NullPointerException("Attempted to set route levels to null");
+		for (LoggerLevel level : levels) if (level == null) throw new NullPointerException("Attempted to set route level to null");
+
+		int index = index(collector);
+		if (index == -1) throw new UnsupportedOperationException("Cannot route to a collector that is not registered");
+
+		Set<LoggerLevel> set = (levels.length == 0) ? EnumSet.allOf(LoggerLevel.class) : EnumSet.copyOf(Arrays.asList(levels));
+		LoggerRouting.Route[] routes = Arrays.copyOf(routing.routes(), routing.routes().length + 1);
+		routes[routes.length - 1] = new LoggerRouting.Route(index, prefix, Collections.unmodifiableSet(set));
+		routing = new LoggerRouting(routing.collectors(), routes, routing.fallbacks());
+	}
+
+	/**
+	 * Sets the provided collector, which must already be registered, to only be handed over the messages that are not
+	 * matched by any route set with {@link Logger#route(Collector, String, LoggerLevel...)}.
+	 *
+	 * @since 1u1
+	 */
+	@Contract("null -> fail")
+	public static synchronized void fallback(Collector collector) {
+		if (collector == null) throw new NullPointerException("Attempted to set fallback to null collector");
+
+		int index = index(collector);
+		if (index == -1) throw new UnsupportedOperationException("Cannot set a collector that is not registered as a fallback");
+
+		boolean[] fallbacks = routing.fallbacks().clone();
+		fallbacks[index] = true;
+		routing = new LoggerRouting(routing.collectors(), routing.routes(), fallbacks);
+	}
+
+	/**
+	 * Registers the provided collector, compiling the routing again to include it.
+	 */
+	private static void register(Collector collector) {
+		Collector[] collectors = Arrays.copyOf(routing.collectors(), routing.collectors().length + 1);
+		collectors[collectors.length - 1] = collector;
+		routing = new LoggerRouting(collectors, routing.routes(), Arrays.copyOf(routing.fallbacks(), collectors.length));
+	}
+
+	/**
+	 * Returns the index of the provided collector in the routing, whether it is registered directly or with its own
+	 * queue, or {@code -1} if it is not registered.
+	 */
+	private static int index(Collector collector) {
+		Collector[] collectors = routing.collectors();
+		for (int i = 0; i < collectors.length; i++) {
+			if (collectors[i].equals(collector)) return i;
+			if (collectors[i] instanceof LoggerLane lane && lane.collector().equals(collector)) return i;
+		}
+		return -1;
+	}
+	//#endregion
+
+	//#region of*
+	/**
+	 * Returns a handle for logging with the name of the provided class.
+	 * <p>
+	 * Logging with a handle avoids retrieving the name of the caller with a {@link StackWalker} on every call, as
+	 * the static logging methods on this class do, so this should be preferred for any code that logs frequently,
+	 * e.g., {@code private static final LoggerHandle logger = Logger.of(Example.class);}.
+	 *
+	 * @see Logger#of(String)
+	 * @since 1u1
+	 */
+	@Contract("null -> fail; !null -> !null")
+	public static LoggerHandle of(Class<?> type) {
+		if (type == null) throw new NullPointerException("Attempted to obtain logger handle for null class");
+		return types.get(type);
+	}
+
+	/**
+	 * Returns a handle for logging with the provided name.
+	 * Only one handle is ever created for each name, so this can be called as often as desired.
+	 *
+	 * @see Logger#of(Class)
+	 * @since 1u1
+	 */
+	@Contract("null -> fail; !null -> !null")
+	public static LoggerHandle of(String name) {
+		if (name == null) throw new NullPointerException("Attempted to obtain logger handle for null name");
+		return handles.computeIfAbsent(name, LoggerHandle::new);
+	}
+	//#endregion
+
+	//#region every*, limited*, sampled*
+	/**
+	 * Returns a limiter for logging with the name of the caller, which lets through one message of each statement
+	 * logged with it per provided period, suppressing the rest.
+	 *
+	 * @see LoggerHandle#every(Duration)
+	 * @since 1u1
+	 */
+	@Contract("null -> fail; !null -> new")
+	public static LoggerLimiter every(Duration period) {
+		return of(walker.getCallerClass()).every(period);
+	}
+
+	/**
+	 * Returns a limiter for logging with the name of the caller, which lets through up to the provided number of
+	 * messages of each statement logged with it per provided period, suppressing the rest.
+	 *
+	 * @see LoggerHandle#limited(int, Duration)
+	 * @since 1u1
+	 */
+	@Contract("_, null -> fail; _, !null -> new")
+	public static LoggerLimiter limited(int permits, Duration period) {
+		return of(walker.getCallerClass()).limited(permits, period);
+	}
+
+	/**
+	 * Returns a limiter for logging with the name of the caller, which lets through the first of the provided number
+	 * of messages of each statement logged with it in every period of the provided number of messages, e.g., one of
+	 * every thousand with {@code Logger.sampled(1, 1000)}, suppressing the rest.
+	 *
+	 * @see LoggerHandle#sampled(int, int)
+	 * @since 1u1
+	 */
+	@Contract("_, _ -> new")
+	public static LoggerLimiter sampled(int permits, int period) {
+		return of(walker.getCallerClass()).sampled(permits, period);
+	}
+	//#endregion
+
+	//#region at*
+	/**
+	 * Returns a builder for a message logged with the name of the caller at the provided level, with structured
+	 * fields, e.g., {@code Logger.at(LoggerLevel.WARNING).with("order", id).with("latency", ms).log("Slow order")},
+	 * or a shared builder that ignores everything if the level is not enabled.
+	 *
+	 * @see LoggerHandle#at(LoggerLevel)
+	 * @since 1u1
+	 */
+	@Contract("null -> fail; !null -> !null")
+	public static LoggerEventBuilder at(LoggerLevel level) {
+		if (level == null) throw new NullPointerException("Attempted to set level to null");
+		if (!enabled(level)) return LoggerEventBuilder.disabled();
+		return of(walker.getCallerClass()).at(level);
+	}
 	//#endregion
 
 	//#region Logging [information*]
@@ -231,7 +1118,7 @@ public final class Logger {
 	 */
 	public static void information(String text) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).information(text);
 	}
 
 	/**
@@ -242,7 +1129,7 @@ public final class Logger {
 	 */
 	public static void information(Object object) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(object));
+		of(walker.getCallerClass()).information(object);
 	}
 
 	/**
@@ -254,7 +1141,7 @@ public final class Logger {
 	 */
 	public static void information(String text, Object argument) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).information(text, argument);
 	}
 
 	/**
@@ -266,7 +1153,7 @@ public final class Logger {
 	 */
 	public static void information(String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).information(text, argument1, argument2);
 	}
 
 	/**
@@ -278,7 +1165,7 @@ public final class Logger {
 	 */
 	public static void information(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).information(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -289,7 +1176,7 @@ public final class Logger {
 	 */
 	public static void information(String text, Object... arguments) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).information(text, arguments);
 	}
 	//#endregion
 	//#region Logging [information*, Lambda]
@@ -304,8 +1191,7 @@ public final class Logger {
 	 */
 	public static void information(ObjectSupplier supplier) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		if (supplier == null) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(supplier.get()));
+		of(walker.getCallerClass()).information(supplier);
 	}
 
 	/**
@@ -321,8 +1207,7 @@ public final class Logger {
 	 */
 	public static void information(String text, ObjectSupplier argument) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		if (argument == null) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument.get()));
+		of(walker.getCallerClass()).information(text, argument);
 	}
 
 	/**
@@ -338,8 +1223,7 @@ public final class Logger {
 	 */
 	public static void information(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		if (argument1 == null || argument2 == null) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get()));
+		of(walker.getCallerClass()).information(text, argument1, argument2);
 	}
 
 	/**
@@ -355,8 +1239,7 @@ public final class Logger {
 	 */
 	public static void information(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		if (argument1 == null || argument2 == null || argument3 == null) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get(), argument3.get()));
+		of(walker.getCallerClass()).information(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -371,8 +1254,7 @@ public final class Logger {
 	 */
 	public static void information(String text, ObjectSupplier... arguments) {
 		if (!enabled(LoggerLevel.INFORMATION)) return;
-		if (arguments == null) return;
-		dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, Arrays.stream(arguments).map(Supplier::get).toArray()));
+		of(walker.getCallerClass()).information(text, arguments);
 	}
 	//#endregion
 
@@ -385,7 +1267,7 @@ public final class Logger {
 	 */
 	public static void warning(String text) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).warning(text);
 	}
 
 	/**
@@ -396,7 +1278,7 @@ public final class Logger {
 	 */
 	public static void warning(Object object) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(object));
+		of(walker.getCallerClass()).warning(object);
 	}
 
 	/**
@@ -408,7 +1290,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, Object argument) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).warning(text, argument);
 	}
 
 	/**
@@ -420,7 +1302,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).warning(text, argument1, argument2);
 	}
 
 	/**
@@ -432,7 +1314,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).warning(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -443,7 +1325,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, Object... arguments) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).warning(text, arguments);
 	}
 	//#endregion
 	//#region Logging [warning*, Lambda]
@@ -458,8 +1340,7 @@ public final class Logger {
 	 */
 	public static void warning(ObjectSupplier supplier) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		if (supplier == null) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(supplier.get()));
+		of(walker.getCallerClass()).warning(supplier);
 	}
 
 	/**
@@ -475,8 +1356,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, ObjectSupplier argument) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		if (argument == null) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument.get()));
+		of(walker.getCallerClass()).warning(text, argument);
 	}
 
 	/**
@@ -492,8 +1372,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		if (argument1 == null || argument2 == null) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get()));
+		of(walker.getCallerClass()).warning(text, argument1, argument2);
 	}
 
 	/**
@@ -509,8 +1388,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		if (argument1 == null || argument2 == null || argument3 == null) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get(), argument3.get()));
+		of(walker.getCallerClass()).warning(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -525,8 +1403,7 @@ public final class Logger {
 	 */
 	public static void warning(String text, ObjectSupplier... arguments) {
 		if (!enabled(LoggerLevel.WARNING)) return;
-		if (arguments == null) return;
-		dispatch(Instant.now(), LoggerLevel.WARNING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, Arrays.stream(arguments).map(Supplier::get).toArray()));
+		of(walker.getCallerClass()).warning(text, arguments);
 	}
 	//#endregion
 
@@ -539,7 +1416,7 @@ public final class Logger {
 	 */
 	public static void error(String text) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).error(text);
 	}
 
 	/**
@@ -550,7 +1427,7 @@ public final class Logger {
 	 */
 	public static void error(Object object) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(object));
+		of(walker.getCallerClass()).error(object);
 	}
 
 	/**
@@ -562,7 +1439,7 @@ public final class Logger {
 	 */
 	public static void error(String text, Object argument) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).error(text, argument);
 	}
 
 	/**
@@ -574,7 +1451,7 @@ public final class Logger {
 	 */
 	public static void error(String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).error(text, argument1, argument2);
 	}
 
 	/**
@@ -586,7 +1463,7 @@ public final class Logger {
 	 */
 	public static void error(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).error(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -597,7 +1474,7 @@ public final class Logger {
 	 */
 	public static void error(String text, Object... arguments) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).error(text, arguments);
 	}
 	//#endregion
 	//#region Logging [error*, Lambda]
@@ -612,8 +1489,7 @@ public final class Logger {
 	 */
 	public static void error(ObjectSupplier supplier) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		if (supplier == null) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(supplier.get()));
+		of(walker.getCallerClass()).error(supplier);
 	}
 
 	/**
@@ -629,8 +1505,7 @@ public final class Logger {
 	 */
 	public static void error(String text, ObjectSupplier argument) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		if (argument == null) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument.get()));
+		of(walker.getCallerClass()).error(text, argument);
 	}
 
 	/**
@@ -646,8 +1521,7 @@ public final class Logger {
 	 */
 	public static void error(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		if (argument1 == null || argument2 == null) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get()));
+		of(walker.getCallerClass()).error(text, argument1, argument2);
 	}
 
 	/**
@@ -663,8 +1537,7 @@ public final class Logger {
 	 */
 	public static void error(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		if (argument1 == null || argument2 == null || argument3 == null) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get(), argument3.get()));
+		of(walker.getCallerClass()).error(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -679,8 +1552,7 @@ public final class Logger {
 	 */
 	public static void error(String text, ObjectSupplier... arguments) {
 		if (!enabled(LoggerLevel.ERROR)) return;
-		if (arguments == null) return;
-		dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, Arrays.stream(arguments).map(Supplier::get).toArray()));
+		of(walker.getCallerClass()).error(text, arguments);
 	}
 	//#endregion
 
@@ -693,7 +1565,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).stacktrace(text);
 	}
 
 	/**
@@ -704,7 +1576,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Object object) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(object));
+		of(walker.getCallerClass()).stacktrace(object);
 	}
 
 	/**
@@ -716,7 +1588,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, Object argument) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).stacktrace(text, argument);
 	}
 
 	/**
@@ -728,7 +1600,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).stacktrace(text, argument1, argument2);
 	}
 
 	/**
@@ -740,7 +1612,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).stacktrace(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -751,7 +1623,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, Object... arguments) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).stacktrace(text, arguments);
 	}
 	//#endregion
 	//#region Logging [stacktrace*, Throwable]
@@ -764,7 +1636,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), Throwables.stacktrace(throwable));
+		of(walker.getCallerClass()).stacktrace(throwable);
 	}
 
 	/**
@@ -776,8 +1648,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable, String text) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable);
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).stacktrace(throwable, text);
 	}
 
 	/**
@@ -789,8 +1660,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable, Object object) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		String text = object + "\n" + Throwables.stacktrace(throwable);
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).stacktrace(throwable, object);
 	}
 
 	/**
@@ -803,8 +1673,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable, String text, Object argument) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable);
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).stacktrace(throwable, text, argument);
 	}
 
 	/**
@@ -817,8 +1686,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable);
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).stacktrace(throwable, text, argument1, argument2);
 	}
 
 	/**
@@ -831,8 +1699,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable);
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).stacktrace(throwable, text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -844,8 +1711,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(Throwable throwable, String text, Object... arguments) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable);
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).stacktrace(throwable, text, arguments);
 	}
 	//#endregion
 	//#region Logging [stacktrace*, Lambda for formatting]
@@ -860,8 +1726,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ObjectSupplier supplier) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		if (supplier == null) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(supplier.get()));
+		of(walker.getCallerClass()).stacktrace(supplier);
 	}
 
 	/**
@@ -877,8 +1742,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, ObjectSupplier argument) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		if (argument == null) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument.get()));
+		of(walker.getCallerClass()).stacktrace(text, argument);
 	}
 
 	/**
@@ -894,8 +1758,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		if (argument1 == null || argument2 == null) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get()));
+		of(walker.getCallerClass()).stacktrace(text, argument1, argument2);
 	}
 
 	/**
@@ -911,8 +1774,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		if (argument1 == null || argument2 == null || argument3 == null) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get(), argument3.get()));
+		of(walker.getCallerClass()).stacktrace(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -927,8 +1789,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(String text, ObjectSupplier... arguments) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		if (arguments == null) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, Arrays.stream(arguments).map(Supplier::get).toArray()));
+		of(walker.getCallerClass()).stacktrace(text, arguments);
 	}
 	//#endregion
 	//#region Logging [stacktrace*, Lambda for throwable]
@@ -949,7 +1810,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), Throwables.stacktrace(throwable.get()));
+		of(walker.getCallerClass()).stacktrace(throwable);
 	}
 
 	/**
@@ -969,8 +1830,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable, String text) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable.get());
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).stacktrace(throwable, text);
 	}
 
 	/**
@@ -990,8 +1850,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable, Object object) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		String text = object + "\n" + Throwables.stacktrace(throwable.get());
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).stacktrace(throwable, object);
 	}
 
 	/**
@@ -1012,8 +1871,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable, String text, Object argument) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable.get());
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).stacktrace(throwable, text, argument);
 	}
 
 	/**
@@ -1034,8 +1892,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable, String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable.get());
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).stacktrace(throwable, text, argument1, argument2);
 	}
 
 	/**
@@ -1056,8 +1913,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable, String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable.get());
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).stacktrace(throwable, text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -1077,8 +1933,7 @@ public final class Logger {
 	 */
 	public static void stacktrace(ThrowableSupplier throwable, String text, Object... arguments) {
 		if (!enabled(LoggerLevel.STACKTRACE)) return;
-		text += "\n" + Throwables.stacktrace(throwable.get());
-		dispatch(Instant.now(), LoggerLevel.STACKTRACE, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).stacktrace(throwable, text, arguments);
 	}
 	//#endregion
 
@@ -1091,7 +1946,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).debugging(text);
 	}
 
 	/**
@@ -1102,7 +1957,7 @@ public final class Logger {
 	 */
 	public static void debugging(Object object) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(object));
+		of(walker.getCallerClass()).debugging(object);
 	}
 
 	/**
@@ -1114,7 +1969,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, Object argument) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).debugging(text, argument);
 	}
 
 	/**
@@ -1126,7 +1981,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).debugging(text, argument1, argument2);
 	}
 
 	/**
@@ -1138,7 +1993,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).debugging(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -1149,7 +2004,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, Object... arguments) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).debugging(text, arguments);
 	}
 	//#endregion
 	//#region Logging [debugging*, Lambda]
@@ -1164,8 +2019,7 @@ public final class Logger {
 	 */
 	public static void debugging(ObjectSupplier supplier) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		if (supplier == null) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(supplier.get()));
+		of(walker.getCallerClass()).debugging(supplier);
 	}
 
 	/**
@@ -1181,8 +2035,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, ObjectSupplier argument) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		if (argument == null) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument.get()));
+		of(walker.getCallerClass()).debugging(text, argument);
 	}
 
 	/**
@@ -1198,8 +2051,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		if (argument1 == null || argument2 == null) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get()));
+		of(walker.getCallerClass()).debugging(text, argument1, argument2);
 	}
 
 	/**
@@ -1215,8 +2067,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		if (argument1 == null || argument2 == null || argument3 == null) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get(), argument3.get()));
+		of(walker.getCallerClass()).debugging(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -1231,8 +2082,7 @@ public final class Logger {
 	 */
 	public static void debugging(String text, ObjectSupplier... arguments) {
 		if (!enabled(LoggerLevel.DEBUGGING)) return;
-		if (arguments == null) return;
-		dispatch(Instant.now(), LoggerLevel.DEBUGGING, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, Arrays.stream(arguments).map(Supplier::get).toArray()));
+		of(walker.getCallerClass()).debugging(text, arguments);
 	}
 	//#endregion
 
@@ -1245,7 +2095,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), text);
+		of(walker.getCallerClass()).configuration(text);
 	}
 
 	/**
@@ -1256,7 +2106,7 @@ public final class Logger {
 	 */
 	public static void configuration(Object object) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(object));
+		of(walker.getCallerClass()).configuration(object);
 	}
 
 	/**
@@ -1268,7 +2118,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, Object argument) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument));
+		of(walker.getCallerClass()).configuration(text, argument);
 	}
 
 	/**
@@ -1280,7 +2130,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, Object argument1, Object argument2) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2));
+		of(walker.getCallerClass()).configuration(text, argument1, argument2);
 	}
 
 	/**
@@ -1292,7 +2142,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, Object argument1, Object argument2, Object argument3) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1, argument2, argument3));
+		of(walker.getCallerClass()).configuration(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -1303,7 +2153,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, Object... arguments) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, arguments));
+		of(walker.getCallerClass()).configuration(text, arguments);
 	}
 	//#endregion
 	//#region Logging [configuration*, Lambda]
@@ -1318,8 +2168,7 @@ public final class Logger {
 	 */
 	public static void configuration(ObjectSupplier supplier) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		if (supplier == null) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), String.valueOf(supplier.get()));
+		of(walker.getCallerClass()).configuration(supplier);
 	}
 
 	/**
@@ -1335,8 +2184,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, ObjectSupplier argument) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		if (argument == null) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument.get()));
+		of(walker.getCallerClass()).configuration(text, argument);
 	}
 
 	/**
@@ -1352,8 +2200,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		if (argument1 == null || argument2 == null) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get()));
+		of(walker.getCallerClass()).configuration(text, argument1, argument2);
 	}
 
 	/**
@@ -1369,8 +2216,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		if (argument1 == null || argument2 == null || argument3 == null) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, argument1.get(), argument2.get(), argument3.get()));
+		of(walker.getCallerClass()).configuration(text, argument1, argument2, argument3);
 	}
 
 	/**
@@ -1385,8 +2231,7 @@ public final class Logger {
 	 */
 	public static void configuration(String text, ObjectSupplier... arguments) {
 		if (!enabled(LoggerLevel.CONFIGURATION)) return;
-		if (arguments == null) return;
-		dispatch(Instant.now(), LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), walker.getCallerClass().getName(), format(text, Arrays.stream(arguments).map(Supplier::get).toArray()));
+		of(walker.getCallerClass()).configuration(text, arguments);
 	}
 	//#endregion
 }
\ No newline at end of file
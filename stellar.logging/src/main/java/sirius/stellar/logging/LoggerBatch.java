@@ -0,0 +1,46 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A reusable batch of messages that have been drained by the logging thread, but not yet handed over to collectors.
+ * <p>
+ * This is not thread-safe; every consumer of dispatched messages (either {@link LoggerRing} or the executor used by
+ * {@link Logger}) owns its own instance, which is only ever accessed by one thread at a time.
+ */
+@Internal
+final class LoggerBatch {
+
+	private final List<LoggerMessage> messages = new ArrayList<>();
+
+	/**
+	 * Adds a dispatched message to this batch, formatting it if required.
+	 * Messages which should not be collected, e.g., due to being empty, are discarded.
+	 *
+	 * @return Whether the batch has reached the size set by {@link Logger#batch(int)} and should be flushed.
+	 */
+	boolean add(long time, LoggerLevel level, String thread, long identifier, String carrier, String name, String text, Object[] arguments, LoggerFields fields, LoggerContext context) {
+		try {
+			LoggerMessage message = Logger.message(time, level, thread, identifier, carrier, name, text, arguments, fields, context);
+			if (message != null) this.messages.add(message);
+		} catch (RuntimeException exception) {
+			assert true; // a message that fails to be formatted is discarded, equivalent to a task failing on the executor
+		}
+		return this.messages.size() >= Logger.batch;
+	}
+
+	/**
+	 * Hands over all the messages in this batch to collectors, and then clears it for reuse.
+	 */
+	void flush() {
+		if (this.messages.isEmpty()) return;
+		try {
+			Logger.collect(this.messages);
+		} finally {
+			this.messages.clear();
+		}
+	}
+}
\ No newline at end of file
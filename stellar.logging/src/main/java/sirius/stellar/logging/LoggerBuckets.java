@@ -0,0 +1,120 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Holds the state of every {@link LoggerLimiter}, in a fixed table of stripes shared between all of them.
+ * <p>
+ * Each statement is keyed by the handle it is logged with, its level and its text, along with the kind and rate of
+ * the limiter, hashed into one of the stripes; the text is compared by its contents, so a text built for every call
+ * is limited as much as a constant one. Every stripe remembers the key that owns it, and a statement hashed into a
+ * stripe owned by a different key takes it over, resetting it, so that two colliding statements are limited less
+ * rather than suppressing each other, and the state left by one kind of limiter is never read as the state of another.
+ * <p>
+ * Stripes are updated without any locks, and are spaced 128 bytes apart, so that the state of two stripes never
+ * shares a cache line (or the pair of lines fetched together) however the table happens to be aligned, and statements
+ * logged from different threads do not contend with each other; the worst outcome of a race is a message being let
+ * through or suppressed when it should not have been, or a suppressed message not being counted.
+ */
+@Internal
+final class LoggerBuckets {
+
+	private static final int STRIPES = 4096;
+	private static final int STRIDE = 16;
+
+	private static final AtomicReferenceArray<Owner> owners = new AtomicReferenceArray<>(STRIPES);
+	private static final AtomicLongArray values = new AtomicLongArray(STRIPES * STRIDE);
+
+	static {
+		for (int i = 0; i < STRIPES; i++) values.set(i * STRIDE, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Takes a token from the bucket of the provided statement, which holds up to {@code burst} tokens and is refilled
+	 * with a token every {@code interval} nanoseconds, as a generic cell rate algorithm; the stripe only holds the
+	 * time at which the bucket will next be full. A time further ahead than a full bucket could ever be (e.g., left by
+	 * a racing limiter of another kind) is treated as unset, so that it can never suppress the statement indefinitely.
+	 *
+	 * @return The number of messages suppressed since the previous token was taken, or {@code -1} if the bucket
+	 * is empty and this message should be suppressed as well.
+	 */
+	static long acquire(LoggerHandle handle, LoggerLevel level, String text, long interval, int burst) {
+		int offset = claim(handle, level, text, interval, burst);
+		long tolerance = interval * (burst - 1);
+
+		while (true) {
+			long now = System.nanoTime();
+			long full = values.get(offset);
+			long ahead = full - now;
+
+			boolean unset = full == Long.MIN_VALUE || ahead > tolerance + interval;
+			if (!unset && ahead - tolerance > 0) return suppress(offset);
+
+			long next = ((unset || ahead < 0) ? now : full) + interval;
+			if (values.compareAndSet(offset, full, next)) return values.getAndSet(offset + 1, 0);
+		}
+	}
+
+	/**
+	 * Counts a message for the provided statement, letting through the first {@code permits} of every {@code period}.
+	 * The number of suppressed messages follows from the count alone, so it is not counted separately.
+	 *
+	 * @see LoggerBuckets#acquire(LoggerHandle, LoggerLevel, String, long, int)
+	 */
+	static long sample(LoggerHandle handle, LoggerLevel level, String text, int permits, int period) {
+		int offset = claim(handle, level, text, -period, permits);
+		long count = values.getAndIncrement(offset) - Long.MIN_VALUE;
+		long position = Long.remainderUnsigned(count, period);
+		if (position >= permits) return -1;
+		return (position == 0 && count != 0) ? period - permits : 0;
+	}
+
+	/**
+	 * Returns the offset of the stripe for the provided statement, taking it over and resetting it if it is owned by a
+	 * different one. The rate is the interval of a bucket, or the negated period of a sample, so that the two kinds
+	 * never match.
+	 */
+	private static int claim(LoggerHandle handle, LoggerLevel level, String text, long rate, int permits) {
+		int hash = System.identityHashCode(handle);
+		hash = 31 * hash + level.ordinal();
+		hash = 31 * hash + text.hashCode();
+		hash = 31 * hash + Long.hashCode(rate);
+		hash = (31 * hash + permits) * 0x9E3779B9;
+
+		int stripe = (hash ^ (hash >>> 16)) & (STRIPES - 1);
+		int offset = stripe * STRIDE;
+
+		Owner owner = owners.get(stripe);
+		if (owner != null && owner.matches(handle, level, text, rate, permits)) return offset;
+		if (!owners.compareAndSet(stripe, owner, new Owner(handle, level, text, rate, permits))) return offset;
+
+		values.set(offset, Long.MIN_VALUE);
+		values.set(offset + 1, 0);
+		return offset;
+	}
+
+	/**
+	 * Counts a suppressed message in the stripe at the provided offset.
+	 * @return {@code -1}, for convenience.
+	 */
+	private static long suppress(int offset) {
+		values.getAndIncrement(offset + 1);
+		return -1;
+	}
+
+	/**
+	 * Represents the statement and limiter that own a stripe, which is only created when a stripe is taken over.
+	 */
+	private record Owner(LoggerHandle handle, LoggerLevel level, String text, long rate, int permits) {
+
+		/**
+		 * Returns whether this is the owner of the provided statement and limiter.
+		 */
+		boolean matches(LoggerHandle handle, LoggerLevel level, String text, long rate, int permits) {
+			return this.handle == handle && this.level == level && this.rate == rate && this.permits == permits && this.text.equals(text);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package sirius.stellar.logging;
+
+import java.time.Instant;
+
+/**
+ * Represents the source of the time recorded for each message dispatched through {@link Logger}, which is
+ * set with {@link Logger#clock(LoggerClock)}. The time is read on the thread that dispatches the message.
+ * <p>
+ * Times are represented as the number of nanoseconds since the epoch of 1970-01-01T00:00:00Z, which is
+ * within the range of a {@code long} until the year 2262, so that no {@link Instant} has to be created for
+ * each message. Static methods are available under this interface for obtaining the default implementations.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+@FunctionalInterface
+public interface LoggerClock extends AutoCloseable {
+
+	/**
+	 * Returns the current time, in nanoseconds since the epoch.
+	 * @since 1u1
+	 */
+	long nanos();
+
+	/**
+	 * Runs when this clock is no longer used by {@link Logger}, i.e., when it is replaced with another clock.
+	 * <p>
+	 * This method is implemented by default to allow for simple clocks to be defined
+	 * by implementing only one abstract method, i.e., with a lambda.
+	 *
+	 * @since 1u1
+	 */
+	@Override
+	default void close() {
+		assert true;
+	}
+
+	/**
+	 * Returns a clock that reads the system clock for every message, with the best precision it offers.
+	 * This is the default.
+	 *
+	 * @since 1u1
+	 */
+	static LoggerClock precise() {
+		return () -> {
+			Instant now = Instant.now();
+			return now.getEpochSecond() * 1_000_000_000L + now.getNano();
+		};
+	}
+
+	/**
+	 * Returns a clock that reads a value cached with millisecond precision, which is updated every millisecond
+	 * by a dedicated daemon thread. This is the cheapest to read, but messages dispatched within the same
+	 * millisecond have the same time; the thread is stopped when the clock is closed.
+	 *
+	 * @since 1u1
+	 */
+	static LoggerClock cached() {
+		return new CachedClock();
+	}
+
+	/**
+	 * Returns a clock that reads {@link System#nanoTime()}, anchored to the system clock when it is created.
+	 * <p>
+	 * This is the most suitable for measuring latency, as the time recorded for messages never goes backward
+	 * and has the resolution of {@link System#nanoTime()}; however, it does not follow any adjustment made to
+	 * the system clock afterward, so it drifts away from it over time. Creating a new clock re-anchors it.
+	 *
+	 * @since 1u1
+	 */
+	static LoggerClock monotonic() {
+		return new MonotonicClock();
+	}
+}
\ No newline at end of file
@@ -0,0 +1,323 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.LockSupport;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Collapses bursts of repeated messages on the logging thread, as set with {@link Logger#collapse(java.time.Duration, int)}.
+ * <p>
+ * Messages are keyed by their level, name, text and structured fields, so messages with different fields are never
+ * collapsed into each other. The first occurrence of a message is handed over to collectors as usual, and any repeat
+ * of it within the window that follows is held back and counted instead; once the window has passed, a single message
+ * with the number of repeats appended to its text is handed over in their place. Windows are measured with the time
+ * of each message, and a daemon thread owned by this stage waits for the earliest window holding repeats to pass
+ * according to {@link Logger#clock(LoggerClock)}, so that repeats are handed over once their window has passed even
+ * if nothing else is logged afterward, rather than being held until the logger is closed.
+ * <p>
+ * The occurrences are held in a fixed table of entries, chained by hash and linked in order of use, so that when the
+ * table is full the least recently repeated entry is evicted (handing over its repeats first, if it has any). Looking
+ * up a message does not allocate; only the first occurrence of a message is copied with {@link LoggerEvent#message()}.
+ * This is only ever used while holding the lock for collecting, so it is not synchronized, other than the deadline
+ * read by the thread waiting for it.
+ */
+@Internal
+final class LoggerCollapse implements Runnable {
+
+	private final long window;
+	private final int capacity;
+
+	private final int[] buckets;
+	private final int[] chain;
+	private final int[] older;
+	private final int[] newer;
+
+	private final int[] hashes;
+	private final LoggerMessage[] messages;
+	private final long[] starts;
+	private final long[] lasts;
+	private final long[] counts;
+
+	private final List<LoggerEvent> output = new ArrayList<>();
+	private int size;
+	private int newest = -1;
+	private int oldest = -1;
+
+	private int pending;
+	private volatile long deadline = Long.MAX_VALUE;
+
+	private final Thread thread;
+	private volatile boolean closed;
+
+	/**
+	 * Creates a stage that collapses the repeats of a message within the provided window, in nanoseconds, holding
+	 * up to the provided number of messages.
+	 */
+	LoggerCollapse(long window, int capacity) {
+		this.window = window;
+		this.capacity = capacity;
+
+		this.buckets = new int[Integer.highestOneBit(Math.max(1, capacity - 1)) << 2];
+		Arrays.fill(this.buckets, -1);
+		this.chain = new int[capacity];
+		this.older = new int[capacity];
+		this.newer = new int[capacity];
+
+		this.hashes = new int[capacity];
+		this.messages = new LoggerMessage[capacity];
+		this.starts = new long[capacity];
+		this.lasts = new long[capacity];
+		this.counts = new long[capacity];
+
+		this.thread = Thread.ofPlatform().name("logging-collapse").daemon().unstarted(this);
+		this.thread.start();
+	}
+
+	/**
+	 * Returns the provided batch without the repeats that are held back, along with the messages standing in for any
+	 * repeats whose window has passed. The returned list is reused by the next call.
+	 */
+	List<? extends LoggerEvent> apply(List<? extends LoggerEvent> batch) {
+		this.output.clear();
+		long latest = Long.MIN_VALUE;
+
+		for (LoggerEvent event : batch) {
+			long nanos = event.nanos();
+			latest = Math.max(latest, nanos);
+
+			int hash = hash(event.level(), event.name(), event.text(), event.fields());
+			int entry = this.find(hash, event);
+			if (entry == -1) {
+				this.insert(hash, event.message());
+				this.output.add(event);
+				continue;
+			}
+
+			this.touch(entry);
+			if (nanos - this.starts[entry] < this.window) {
+				if (this.counts[entry]++ == 0) {
+					this.pending++;
+					this.schedule(this.end(entry));
+				}
+				this.lasts[entry] = nanos;
+				continue;
+			}
+
+			this.summarize(entry);
+			this.messages[entry] = event.message();
+			this.starts[entry] = nanos;
+			this.output.add(event);
+		}
+
+		if (this.pending != 0 && latest >= this.deadline) this.expire(latest);
+		return this.output;
+	}
+
+	/**
+	 * Returns the messages standing in for the repeats whose window has passed at the provided time.
+	 * The returned list is reused by the next call.
+	 */
+	List<LoggerEvent> expired(long nanos) {
+		this.output.clear();
+		if (this.pending == 0) this.deadline = Long.MAX_VALUE;
+		else if (nanos >= this.deadline) this.expire(nanos);
+		return this.output;
+	}
+
+	/**
+	 * Returns the messages standing in for every repeat that is held back, regardless of whether its window has passed.
+	 */
+	List<LoggerEvent> flush() {
+		this.output.clear();
+		for (int entry = this.oldest; entry != -1; entry = this.newer[entry]) this.summarize(entry);
+		this.deadline = Long.MAX_VALUE;
+		return this.output;
+	}
+
+	/**
+	 * Hands over the repeats of every entry whose window has passed at the provided time, and moves the deadline
+	 * on to the earliest window that has not.
+	 */
+	private void expire(long nanos) {
+		long deadline = Long.MAX_VALUE;
+		for (int entry = this.oldest; entry != -1; entry = this.newer[entry]) {
+			if (this.counts[entry] == 0) continue;
+
+			long end = this.end(entry);
+			if (end <= nanos) this.summarize(entry);
+			else deadline = Math.min(deadline, end);
+		}
+		this.deadline = deadline;
+	}
+
+	/**
+	 * Moves the deadline on to the provided time if it is earlier, waking the thread waiting for it.
+	 */
+	private void schedule(long end) {
+		if (end >= this.deadline) return;
+		this.deadline = end;
+		LockSupport.unpark(this.thread);
+	}
+
+	/**
+	 * Stops the thread waiting for the deadline. Any repeats still held back should be flushed beforehand.
+	 */
+	void close() {
+		this.closed = true;
+		LockSupport.unpark(this.thread);
+	}
+
+	/**
+	 * Waits for the deadline to pass, and then hands over the repeats whose window has passed.
+	 * This is the task of the thread owned by this stage, which ends once it has been closed.
+	 */
+	@Override
+	public void run() {
+		while (!this.closed) {
+			long deadline = this.deadline;
+			if (deadline == Long.MAX_VALUE) {
+				LockSupport.park(this);
+				continue;
+			}
+
+			long remaining = deadline - Logger.clock.nanos();
+			if (remaining > 0) {
+				LockSupport.parkNanos(this, remaining);
+				continue;
+			}
+			Logger.expire(this);
+		}
+	}
+
+	/**
+	 * Returns the time at which the window of the provided entry passes, clamped to the range of a {@code long}.
+	 */
+	private long end(int entry) {
+		long start = this.starts[entry];
+		return (start > Long.MAX_VALUE - this.window) ? Long.MAX_VALUE : start + this.window;
+	}
+
+	/**
+	 * Adds a message standing in for the repeats of the provided entry to the output, if it has any.
+	 */
+	private void summarize(int entry) {
+		long count = this.counts[entry];
+		if (count == 0) return;
+
+		LoggerMessage first = this.messages[entry];
+		String text = first.text() + " (repeated " + count + ((count == 1) ? " time)" : " times)");
+		this.output.add(new LoggerMessage(this.lasts[entry], first.level(), first.thread(), first.name(), text, first.threadId(), first.carrier(), first.fields(), first.context()));
+		this.counts[entry] = 0;
+		this.pending--;
+	}
+
+	/**
+	 * Returns the entry holding the same message as the provided event, or {@code -1} if there is none.
+	 */
+	private int find(int hash, LoggerEvent event) {
+		for (int entry = this.buckets[hash & (this.buckets.length - 1)]; entry != -1; entry = this.chain[entry]) {
+			if (this.hashes[entry] != hash) continue;
+
+			LoggerMessage message = this.messages[entry];
+			if (message.level() == event.level() && Objects.equals(message.name(), event.name()) && message.text().contentEquals(event.text()) && message.fields().equals(event.fields())) return entry;
+		}
+		return -1;
+	}
+
+	/**
+	 * Adds an entry for the provided message as the most recently used, evicting the least recently used entry
+	 * if the table is full.
+	 */
+	private void insert(int hash, LoggerMessage message) {
+		int entry;
+		if (this.size < this.capacity) {
+			entry = this.size++;
+		} else {
+			entry = this.oldest;
+			this.summarize(entry);
+			this.unlink(entry);
+			this.unchain(entry);
+		}
+
+		this.hashes[entry] = hash;
+		this.messages[entry] = message;
+		this.starts[entry] = message.nanos();
+		this.lasts[entry] = message.nanos();
+		this.counts[entry] = 0;
+
+		int bucket = hash & (this.buckets.length - 1);
+		this.chain[entry] = this.buckets[bucket];
+		this.buckets[bucket] = entry;
+		this.link(entry);
+	}
+
+	/**
+	 * Moves the provided entry to the most recently used end of the list.
+	 */
+	private void touch(int entry) {
+		if (entry == this.newest) return;
+		this.unlink(entry);
+		this.link(entry);
+	}
+
+	private void link(int entry) {
+		this.older[entry] = this.newest;
+		this.newer[entry] = -1;
+		if (this.newest != -1) this.newer[this.newest] = entry;
+		else this.oldest = entry;
+		this.newest = entry;
+	}
+
+	private void unlink(int entry) {
+		int older = this.older[entry];
+		int newer = this.newer[entry];
+		if (older != -1) this.newer[older] = newer;
+		else this.oldest = newer;
+		if (newer != -1) this.older[newer] = older;
+		else this.newest = older;
+	}
+
+	/**
+	 * Removes the provided entry from the chain of its bucket.
+	 */
+	private void unchain(int entry) {
+		int bucket = this.hashes[entry] & (this.buckets.length - 1);
+		if (this.buckets[bucket] == entry) {
+			this.buckets[bucket] = this.chain[entry];
+			return;
+		}
+		for (int previous = this.buckets[bucket]; previous != -1; previous = this.chain[previous]) {
+			if (this.chain[previous] != entry) continue;
+			this.chain[previous] = this.chain[entry];
+			return;
+		}
+	}
+
+	/**
+	 * Returns the hash of a message with the provided level, name, text and fields, hashing the text in the same way
+	 * as {@link String#hashCode()} so that it does not need to be converted into a string first.
+	 */
+	private static int hash(LoggerLevel level, String name, CharSequence text, LoggerFields fields) {
+		int hash = 31 * level.ordinal() + Objects.hashCode(name);
+		if (text instanceof String string) {
+			hash = 31 * hash + string.hashCode();
+		} else {
+			int value = 0;
+			for (int i = 0, length = text.length(); i < length; i++) value = 31 * value + text.charAt(i);
+			hash = 31 * hash + value;
+		}
+		if (!fields.isEmpty()) hash = 31 * hash + fields.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	@Override
+	public String toString() {
+		return format("LoggerCollapse[window={0}, capacity={1}, size={2}]", this.window, this.capacity, this.size);
+	}
+}
\ No newline at end of file
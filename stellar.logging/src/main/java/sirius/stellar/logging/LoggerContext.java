@@ -0,0 +1,375 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.Callable;
+
+/**
+ * Represents the diagnostic context of a thread, i.e., a map of keys to values (the "MDC") and a stack of
+ * messages (the "NDC"), which is shared by every dispatcher and captured by every message dispatched from it,
+ * obtained with {@link LoggerEvent#context()}.
+ * <p>
+ * Every instance is an immutable snapshot. The static methods of this class read and modify the context of the
+ * current thread by replacing its snapshot with a modified copy, so capturing the context for a message is a single
+ * read of a thread local, and values are never seen by any thread other than the one that set them, e.g.:
+ * <pre>{@code
+ * LoggerContext.put("request", id);
+ * try {
+ *     Logger.information("Handling request");
+ * } finally {
+ *     LoggerContext.remove("request");
+ * }
+ * }</pre>
+ * A snapshot can also be bound to the current thread for the extent of a call, much like a {@code ScopedValue},
+ * restoring the previous context once it returns. This is how the context is handed over to other threads, such
+ * as virtual threads, which do not inherit it, e.g.:
+ * <pre>{@code
+ * executor.submit(LoggerContext.current().with("request", id).wrap(() -> {
+ *     Logger.information("Handling request");
+ * }));
+ * }</pre>
+ * Entries are held in parallel arrays in the order they were first put, rather than in a map, as a context usually
+ * only has a handful of entries; {@code null} values are never held, as putting one removes the key instead.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class LoggerContext implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 7390718250472118533L;
+	private static final LoggerContext empty = new LoggerContext(new String[0], new Object[0], new String[0]);
+	private static final ThreadLocal<LoggerContext> current = ThreadLocal.withInitial(() -> empty);
+
+	private final String[] keys;
+	private final Object[] values;
+	private final String[] stack;
+
+	private LoggerContext(String[] keys, Object[] values, String[] stack) {
+		this.keys = keys;
+		this.values = values;
+		this.stack = stack;
+	}
+
+	//#region Current thread
+	/**
+	 * Returns the context of the current thread, without copying it.
+	 * @since 1u1
+	 */
+	public static LoggerContext current() {
+		return current.get();
+	}
+
+	/**
+	 * Returns an instance without any entries or stack, which is shared.
+	 * @since 1u1
+	 */
+	public static LoggerContext empty() {
+		return empty;
+	}
+
+	/**
+	 * Returns a snapshot with the provided entries and stack, e.g., when decoding a context that was written by a
+	 * collector. The arrays are not copied, and must never be modified afterward; values must not be {@code null}.
+	 */
+	@Internal
+	public static LoggerContext of(String[] keys, Object[] values, String[] stack) {
+		if (keys.length == 0 && stack.length == 0) return empty;
+		return new LoggerContext(keys, values, stack);
+	}
+
+	/**
+	 * Replaces the context of the current thread with the provided snapshot, or clears it if that is {@code null}.
+	 * @since 1u1
+	 */
+	public static void restore(LoggerContext context) {
+		current.set((context == null) ? empty : context);
+	}
+
+	/**
+	 * Returns the value of the provided key in the context of the current thread, or {@code null} if it has none.
+	 * @since 1u1
+	 */
+	public static Object get(String key) {
+		return current.get().value(key);
+	}
+
+	/**
+	 * Sets the value of the provided key in the context of the current thread, removing it if the value is {@code null}.
+	 * @return The previous value of the key, or {@code null} if it had none.
+	 *
+	 * @since 1u1
+	 */
+	public static Object put(String key, Object value) {
+		LoggerContext context = current.get();
+		Object previous = context.value(key);
+		current.set(context.with(key, value));
+		return previous;
+	}
+
+	/**
+	 * Removes the provided key from the context of the current thread.
+	 * @return The previous value of the key, or {@code null} if it had none.
+	 *
+	 * @since 1u1
+	 */
+	public static Object remove(String key) {
+		return put(key, null);
+	}
+
+	/**
+	 * Removes every key from the context of the current thread, retaining its stack.
+	 * @since 1u1
+	 */
+	public static void clear() {
+		LoggerContext context = current.get();
+		if (context.keys.length == 0) return;
+		current.set((context.stack.length == 0) ? empty : new LoggerContext(empty.keys, empty.values, context.stack));
+	}
+
+	/**
+	 * Pushes the provided message onto the stack of the context of the current thread.
+	 * @since 1u1
+	 */
+	public static void push(String message) {
+		if (message == null) throw new NullPointerException("Attempted to set message to null");
+		LoggerContext context = current.get();
+		String[] stack = Arrays.copyOf(context.stack, context.stack.length + 1);
+		stack[context.stack.length] = message;
+		current.set(new LoggerContext(context.keys, context.values, stack));
+	}
+
+	/**
+	 * Pops the most recently pushed message off the stack of the context of the current thread.
+	 * @return The message, or {@code null} if the stack is empty.
+	 *
+	 * @since 1u1
+	 */
+	public static String pop() {
+		LoggerContext context = current.get();
+		if (context.stack.length == 0) return null;
+		current.set(context.truncated(context.stack.length - 1));
+		return context.stack[context.stack.length - 1];
+	}
+
+	/**
+	 * Returns the most recently pushed message on the stack of the context of the current thread, or {@code null}
+	 * if the stack is empty.
+	 *
+	 * @since 1u1
+	 */
+	public static String peek() {
+		LoggerContext context = current.get();
+		return (context.stack.length == 0) ? null : context.stack[context.stack.length - 1];
+	}
+
+	/**
+	 * Returns the number of messages on the stack of the context of the current thread.
+	 * @since 1u1
+	 */
+	public static int depth() {
+		return current.get().stack.length;
+	}
+
+	/**
+	 * Pops messages off the stack of the context of the current thread until it holds no more than the provided number.
+	 * @since 1u1
+	 */
+	public static void truncate(int depth) {
+		if (depth < 0) throw new UnsupportedOperationException("Depth must be between 0 and Integer#MAX_VALUE");
+		LoggerContext context = current.get();
+		if (context.stack.length > depth) current.set(context.truncated(depth));
+	}
+	//#endregion
+
+	//#region Snapshot
+	/**
+	 * Returns a copy of this snapshot with the provided key set to the provided value, or removed if the value
+	 * is {@code null}. This snapshot is not modified.
+	 *
+	 * @since 1u1
+	 */
+	public LoggerContext with(String key, Object value) {
+		if (key == null) throw new NullPointerException("Attempted to set key to null");
+		int index = this.index(key);
+
+		if (value == null) {
+			if (index == -1) return this;
+			if (this.keys.length == 1 && this.stack.length == 0) return empty;
+
+			String[] keys = new String[this.keys.length - 1];
+			Object[] values = new Object[this.keys.length - 1];
+			System.arraycopy(this.keys, 0, keys, 0, index);
+			System.arraycopy(this.values, 0, values, 0, index);
+			System.arraycopy(this.keys, index + 1, keys, index, keys.length - index);
+			System.arraycopy(this.values, index + 1, values, index, values.length - index);
+			return new LoggerContext(keys, values, this.stack);
+		}
+
+		if (index != -1) {
+			if (this.values[index] == value) return this;
+			Object[] values = this.values.clone();
+			values[index] = value;
+			return new LoggerContext(this.keys, values, this.stack);
+		}
+
+		String[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+		Object[] values = Arrays.copyOf(this.values, this.values.length + 1);
+		keys[this.keys.length] = key;
+		values[this.values.length] = value;
+		return new LoggerContext(keys, values, this.stack);
+	}
+
+	/**
+	 * Runs the provided task with this snapshot as the context of the current thread, restoring the previous
+	 * context once it returns.
+	 *
+	 * @since 1u1
+	 */
+	public void run(Runnable runnable) {
+		LoggerContext previous = current.get();
+		current.set(this);
+		try {
+			runnable.run();
+		} finally {
+			current.set(previous);
+		}
+	}
+
+	/**
+	 * Calls the provided task with this snapshot as the context of the current thread, restoring the previous
+	 * context once it returns.
+	 *
+	 * @since 1u1
+	 */
+	public <T> T call(Callable<T> callable) throws Exception {
+		LoggerContext previous = current.get();
+		current.set(this);
+		try {
+			return callable.call();
+		} finally {
+			current.set(previous);
+		}
+	}
+
+	/**
+	 * Returns a task that runs the provided task with this snapshot as the context of whichever thread runs it.
+	 * @see LoggerContext#run(Runnable)
+	 *
+	 * @since 1u1
+	 */
+	public Runnable wrap(Runnable runnable) {
+		if (runnable == null) throw new NullPointerException("Attempted to set runnable to null");
+		return () -> this.run(runnable);
+	}
+
+	/**
+	 * Returns a task that calls the provided task with this snapshot as the context of whichever thread calls it.
+	 * @see LoggerContext#call(Callable)
+	 *
+	 * @since 1u1
+	 */
+	public <T> Callable<T> wrap(Callable<T> callable) {
+		if (callable == null) throw new NullPointerException("Attempted to set callable to null");
+		return () -> this.call(callable);
+	}
+
+	/**
+	 * Returns the number of keys in this snapshot.
+	 * @since 1u1
+	 */
+	public int size() {
+		return this.keys.length;
+	}
+
+	/**
+	 * Returns whether this snapshot has no keys and an empty stack.
+	 * @since 1u1
+	 */
+	public boolean isEmpty() {
+		return this.keys.length == 0 && this.stack.length == 0;
+	}
+
+	/**
+	 * Returns the key at the provided index, in the order the keys were first put.
+	 * @since 1u1
+	 */
+	public String key(int index) {
+		return this.keys[index];
+	}
+
+	/**
+	 * Returns the value of the key at the provided index, which is never {@code null}.
+	 * @since 1u1
+	 */
+	public Object value(int index) {
+		return this.values[index];
+	}
+
+	/**
+	 * Returns the value of the provided key in this snapshot, or {@code null} if it has none.
+	 * @since 1u1
+	 */
+	public Object value(String key) {
+		int index = this.index(key);
+		return (index == -1) ? null : this.values[index];
+	}
+
+	/**
+	 * Returns the keys and values of this snapshot as an unmodifiable map, which is a new copy every time.
+	 * @since 1u1
+	 */
+	public Map<String, Object> map() {
+		Map<String, Object> map = new LinkedHashMap<>(this.keys.length * 2);
+		for (int i = 0; i < this.keys.length; i++) map.put(this.keys[i], this.values[i]);
+		return Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Returns the messages on the stack of this snapshot as an unmodifiable list, from the first pushed to the most recently pushed.
+	 * @since 1u1
+	 */
+	public List<String> stack() {
+		return List.of(this.stack);
+	}
+	//#endregion
+
+	/**
+	 * Returns a copy of this snapshot with only the provided number of messages on its stack.
+	 */
+	private LoggerContext truncated(int depth) {
+		if (depth == 0 && this.keys.length == 0) return empty;
+		return new LoggerContext(this.keys, this.values, Arrays.copyOf(this.stack, depth));
+	}
+
+	/**
+	 * Returns the index of the provided key, or {@code -1} if this snapshot does not have it.
+	 */
+	private int index(String key) {
+		for (int i = 0; i < this.keys.length; i++) if (this.keys[i].equals(key)) return i;
+		return -1;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) return true;
+		if (!(object instanceof LoggerContext other)) return false;
+		return this.map().equals(other.map()) && Arrays.equals(this.stack, other.stack);
+	}
+
+	@Override
+	public int hashCode() {
+		return 31 * this.map().hashCode() + Arrays.hashCode(this.stack);
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "{", "}");
+		for (int i = 0; i < this.keys.length; i++) joiner.add(this.keys[i] + "=" + this.values[i]);
+		if (this.stack.length == 0) return joiner.toString();
+		return joiner + " " + String.join(" ", this.stack);
+	}
+}
\ No newline at end of file
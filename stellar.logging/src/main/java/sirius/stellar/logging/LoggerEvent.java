@@ -0,0 +1,131 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.logging.collect.Collector;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Represents a read-only view of a message emitted by {@link Logger}, as handed over to collectors with
+ * {@link Collector#collect(List)}.
+ * <p>
+ * When {@link Logger#pooling(boolean)} is enabled, events are reusable slots owned by the logging thread rather
+ * than instances of {@link LoggerMessage}, so an event (including the {@link CharSequence} returned by
+ * {@link LoggerEvent#text()}) is only valid until the collector it was handed over to returns, and must never
+ * be modified. Collectors that need to retain an event should use {@link LoggerEvent#message()}, which returns
+ * the event itself if it is already a {@link LoggerMessage}.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public interface LoggerEvent {
+
+	/**
+	 * Returns the severity of this event.
+	 * @since 1u1
+	 */
+	LoggerLevel level();
+
+	/**
+	 * Returns the name of the thread that dispatched this event.
+	 * For threads without a name, e.g., most virtual threads, this is derived from {@link LoggerEvent#threadId()}.
+	 *
+	 * @since 1u1
+	 */
+	String thread();
+
+	/**
+	 * Returns the identifier of the thread that dispatched this event, or {@code -1} if it is not known.
+	 * @see Thread#threadId()
+	 * @since 1u1
+	 */
+	long threadId();
+
+	/**
+	 * Returns whether the thread that dispatched this event is virtual.
+	 * @see Thread#isVirtual()
+	 * @since 1u1
+	 */
+	default boolean virtual() {
+		return this.carrier() != null;
+	}
+
+	/**
+	 * Returns the name of the platform thread that was carrying the thread that dispatched this event, if
+	 * it is virtual, or {@code null} if it is not. This is empty if the carrier could not be determined, or if
+	 * capturing it is not enabled with {@link Logger#carriers(boolean)}.
+	 *
+	 * @since 1u1
+	 */
+	String carrier();
+
+	/**
+	 * Returns the name of the logger.
+	 * @since 1u1
+	 */
+	String name();
+
+	/**
+	 * Returns the text content of this event.
+	 * This is only valid until the collector this event was handed over to returns.
+	 *
+	 * @since 1u1
+	 */
+	CharSequence text();
+
+	/**
+	 * Returns the time this event was created, in nanoseconds since the epoch of 1970-01-01T00:00:00Z, as
+	 * read from the {@link LoggerClock} set with {@link Logger#clock(LoggerClock)}.
+	 *
+	 * @since 1u1
+	 */
+	long nanos();
+
+	/**
+	 * Returns the time this event was created, in milliseconds since the epoch of 1970-01-01T00:00:00Z.
+	 * @see Instant#toEpochMilli()
+	 * @since 1u1
+	 */
+	default long epochMillis() {
+		return Math.floorDiv(this.nanos(), 1_000_000L);
+	}
+
+	/**
+	 * Returns the time this event was created.
+	 * This creates a new {@link Instant}, so {@link LoggerEvent#nanos()} or {@link LoggerEvent#epochMillis()}
+	 * should be preferred by collectors that do not need one.
+	 *
+	 * @since 1u1
+	 */
+	default Instant time() {
+		return Instant.ofEpochSecond(0, this.nanos());
+	}
+
+	/**
+	 * Returns the structured fields of this event, added with {@link LoggerEventBuilder}, which are empty for
+	 * any event that was not built with it.
+	 *
+	 * @since 1u1
+	 */
+	default LoggerFields fields() {
+		return LoggerFields.empty();
+	}
+
+	/**
+	 * Returns the diagnostic context of the thread that dispatched this event, as it was when the event was
+	 * dispatched, which is empty for any event that was not dispatched through {@link Logger}.
+	 *
+	 * @since 1u1
+	 */
+	default LoggerContext context() {
+		return LoggerContext.empty();
+	}
+
+	/**
+	 * Returns an immutable copy of this event, which can be retained after the collector it was handed over to
+	 * returns, or this event itself if it is already a {@link LoggerMessage}.
+	 *
+	 * @since 1u1
+	 */
+	LoggerMessage message();
+}
\ No newline at end of file
@@ -0,0 +1,215 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.Strings;
+import sirius.stellar.facility.Throwables;
+
+import java.util.Arrays;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Represents a message being built with structured fields, obtained with {@link Logger#at(LoggerLevel)} or
+ * {@link LoggerHandle#at(LoggerLevel)}, e.g., {@code logger.at(LoggerLevel.WARNING).with("order", id).with("latency", ms).log("Slow order")}.
+ * <p>
+ * Fields are added in order to parallel arrays, which are handed over to the message as its {@link LoggerFields} when
+ * it is logged, without being copied; the {@code long}, {@code double} and {@code boolean} overloads of
+ * {@link LoggerEventBuilder#with(String, Object)} store their values without boxing them. Once a message is logged,
+ * the builder starts over without any fields, so it can be reused for the next message.
+ * <p>
+ * When the level is not enabled, a single shared instance is returned instead, which ignores every field and never
+ * logs anything, so a disabled statement does not allocate (but its arguments are still evaluated).
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class LoggerEventBuilder {
+
+	private static final LoggerEventBuilder disabled = new LoggerEventBuilder(null, null);
+	private static final int INITIAL = 4;
+
+	private final LoggerHandle handle;
+	private final LoggerLevel level;
+
+	private String[] keys;
+	private Object[] objects;
+	private long[] primitives;
+	private LoggerFields.Type[] types;
+	private int size;
+
+	private LoggerEventBuilder(LoggerHandle handle, LoggerLevel level) {
+		this.handle = handle;
+		this.level = level;
+	}
+
+	/**
+	 * Returns a builder for a message logged by the provided handle at the provided level, or the shared
+	 * disabled builder if that level is not enabled for the handle.
+	 */
+	static LoggerEventBuilder of(LoggerHandle handle, LoggerLevel level) {
+		if (level == null) throw new NullPointerException("Attempted to set level to null");
+		return handle.enabled(level) ? new LoggerEventBuilder(handle, level) : disabled;
+	}
+
+	/**
+	 * Returns the builder that is returned when a level is not enabled.
+	 */
+	static LoggerEventBuilder disabled() {
+		return disabled;
+	}
+
+	/**
+	 * Returns whether the level of this builder is enabled, i.e., whether anything is logged with it.
+	 * This can be used to avoid computing the value of an expensive field.
+	 *
+	 * @since 1u1
+	 */
+	public boolean enabled() {
+		return this.handle != null;
+	}
+
+	/**
+	 * Adds a field with the provided key and value, which may be {@code null}.
+	 * @since 1u1
+	 */
+	public LoggerEventBuilder with(String key, Object value) {
+		int index = this.add(key, LoggerFields.Type.OBJECT);
+		if (index != -1) this.objects[index] = value;
+		return this;
+	}
+
+	/**
+	 * Adds a field with the provided key and value, without boxing the value.
+	 * @since 1u1
+	 */
+	public LoggerEventBuilder with(String key, long value) {
+		int index = this.add(key, LoggerFields.Type.LONG);
+		if (index != -1) this.primitives[index] = value;
+		return this;
+	}
+
+	/**
+	 * Adds a field with the provided key and value, without boxing the value.
+	 * @since 1u1
+	 */
+	public LoggerEventBuilder with(String key, double value) {
+		int index = this.add(key, LoggerFields.Type.DOUBLE);
+		if (index != -1) this.primitives[index] = Double.doubleToRawLongBits(value);
+		return this;
+	}
+
+	/**
+	 * Adds a field with the provided key and value, without boxing the value.
+	 * @since 1u1
+	 */
+	public LoggerEventBuilder with(String key, boolean value) {
+		int index = this.add(key, LoggerFields.Type.BOOLEAN);
+		if (index != -1) this.primitives[index] = value ? 1 : 0;
+		return this;
+	}
+
+	/**
+	 * Logs the message with the fields added so far.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void log(String text) {
+		if (this.handle == null) return;
+		this.handle.dispatch(this.level, text, this.fields(), null);
+	}
+
+	/**
+	 * Logs the message with the fields added so far.
+	 * This accepts a single object as an argument for formatting.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void log(String text, Object argument) {
+		if (this.handle == null) return;
+		this.handle.dispatch(this.level, text, this.fields(), new Object[] {argument});
+	}
+
+	/**
+	 * Logs the message with the fields added so far.
+	 * This accepts two objects as arguments for formatting.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void log(String text, Object argument1, Object argument2) {
+		if (this.handle == null) return;
+		this.handle.dispatch(this.level, text, this.fields(), new Object[] {argument1, argument2});
+	}
+
+	/**
+	 * Logs the message with the fields added so far.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void log(String text, Object... arguments) {
+		if (this.handle == null) return;
+		this.handle.dispatch(this.level, text, this.fields(), arguments);
+	}
+
+	/**
+	 * Logs the message with the fields added so far.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void log(Throwable throwable, String text, Object... arguments) {
+		if (this.handle == null) return;
+		this.handle.dispatch(this.level, text + "\n" + Throwables.stacktrace(throwable), this.fields(), arguments);
+	}
+
+	/**
+	 * Reserves the next index in the arrays for a field with the provided key and type, growing them if required.
+	 * @return The index, or {@code -1} if this builder is disabled.
+	 */
+	private int add(String key, LoggerFields.Type type) {
+		if (key == null) throw new NullPointerException("Attempted to set field key to null");
+		if (this.handle == null) return -1;
+
+		if (this.keys == null) {
+			this.keys = new String[INITIAL];
+			this.objects = new Object[INITIAL];
+			this.primitives = new long[INITIAL];
+			this.types = new LoggerFields.Type[INITIAL];
+		} else if (this.size == this.keys.length) {
+			int length = this.size * 2;
+			this.keys = Arrays.copyOf(this.keys, length);
+			this.objects = Arrays.copyOf(this.objects, length);
+			this.primitives = Arrays.copyOf(this.primitives, length);
+			this.types = Arrays.copyOf(this.types, length);
+		}
+
+		int index = this.size++;
+		this.keys[index] = key;
+		this.types[index] = type;
+		return index;
+	}
+
+	/**
+	 * Hands over the arrays of this builder as the fields of the message being logged, and starts over without any fields.
+	 */
+	private LoggerFields fields() {
+		if (this.size == 0) return LoggerFields.empty();
+
+		LoggerFields fields = new LoggerFields(this.keys, this.objects, this.primitives, this.types, this.size);
+		this.keys = null;
+		this.objects = null;
+		this.primitives = null;
+		this.types = null;
+		this.size = 0;
+		return fields;
+	}
+
+	@Override
+	public String toString() {
+		if (this.handle == null) return "LoggerEventBuilder[disabled]";
+		return format("LoggerEventBuilder[name={0}, level={1}, fields={2}]", this.handle.name(), this.level, this.size);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * Represents the structured fields of a message, added with {@link LoggerEventBuilder#with(String, Object)} and its
+ * overloads, obtained with {@link LoggerEvent#fields()}.
+ * <p>
+ * Fields are held in parallel arrays in the order they were added, rather than in a map, and primitive values are
+ * held without boxing them, so that collectors can encode each field natively by its {@link LoggerFields.Type},
+ * e.g., as a number rather than a string. Looking up a field by its key is a linear search, which is faster than
+ * hashing for the handful of fields a message usually has. Keys are not required to be unique.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class LoggerFields implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 3046126358741592174L;
+	private static final LoggerFields empty = new LoggerFields(new String[0], new Object[0], new long[0], new Type[0], 0);
+
+	private final String[] keys;
+	private final Object[] objects;
+	private final long[] primitives;
+	private final Type[] types;
+	private final int size;
+
+	/**
+	 * Creates fields from the provided arrays, which are not copied, and must never be modified afterward.
+	 */
+	LoggerFields(String[] keys, Object[] objects, long[] primitives, Type[] types, int size) {
+		this.keys = keys;
+		this.objects = objects;
+		this.primitives = primitives;
+		this.types = types;
+		this.size = size;
+	}
+
+	/**
+	 * Returns an instance with the provided fields, held in parallel arrays of which only the first {@code size} elements
+	 * are used, e.g., when decoding fields that were written by a collector. The arrays are not copied, and must never
+	 * be modified afterward; the value of a field is held in {@code objects} if it is of {@link LoggerFields.Type#OBJECT},
+	 * and as in {@link LoggerFields#longValue(int)} (or the raw bits of a {@code double}, or {@code 1} for {@code true})
+	 * in {@code primitives} otherwise.
+	 */
+	@Internal
+	public static LoggerFields of(String[] keys, Object[] objects, long[] primitives, Type[] types, int size) {
+		if (size == 0) return empty;
+		return new LoggerFields(keys, objects, primitives, types, size);
+	}
+
+	/**
+	 * Returns an instance without any fields, which is shared.
+	 * @since 1u1
+	 */
+	public static LoggerFields empty() {
+		return empty;
+	}
+
+	/**
+	 * Returns the number of fields.
+	 * @since 1u1
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Returns whether there are no fields.
+	 * @since 1u1
+	 */
+	public boolean isEmpty() {
+		return this.size == 0;
+	}
+
+	/**
+	 * Returns the key of the field at the provided index.
+	 * @since 1u1
+	 */
+	public String key(int index) {
+		return this.keys[Objects.checkIndex(index, this.size)];
+	}
+
+	/**
+	 * Returns the type of the value of the field at the provided index.
+	 * @since 1u1
+	 */
+	public Type type(int index) {
+		return this.types[Objects.checkIndex(index, this.size)];
+	}
+
+	/**
+	 * Returns the value of the field at the provided index, boxing it if it is primitive.
+	 * @since 1u1
+	 */
+	public Object value(int index) {
+		return switch (this.type(index)) {
+			case OBJECT -> this.objects[index];
+			case LONG -> this.primitives[index];
+			case DOUBLE -> Double.longBitsToDouble(this.primitives[index]);
+			case BOOLEAN -> this.primitives[index] != 0;
+		};
+	}
+
+	/**
+	 * Returns the value of the field at the provided index, which must be of {@link LoggerFields.Type#LONG}.
+	 * @since 1u1
+	 */
+	public long longValue(int index) {
+		if (this.type(index) != Type.LONG) throw new UnsupportedOperationException("Field " + this.keys[index] + " is not a long");
+		return this.primitives[index];
+	}
+
+	/**
+	 * Returns the value of the field at the provided index, which must be of {@link LoggerFields.Type#DOUBLE}.
+	 * @since 1u1
+	 */
+	public double doubleValue(int index) {
+		if (this.type(index) != Type.DOUBLE) throw new UnsupportedOperationException("Field " + this.keys[index] + " is not a double");
+		return Double.longBitsToDouble(this.primitives[index]);
+	}
+
+	/**
+	 * Returns the value of the field at the provided index, which must be of {@link LoggerFields.Type#BOOLEAN}.
+	 * @since 1u1
+	 */
+	public boolean booleanValue(int index) {
+		if (this.type(index) != Type.BOOLEAN) throw new UnsupportedOperationException("Field " + this.keys[index] + " is not a boolean");
+		return this.primitives[index] != 0;
+	}
+
+	/**
+	 * Returns the value of the first field with the provided key, boxing it if it is primitive, or {@code null} if
+	 * there is no field with the provided key.
+	 *
+	 * @since 1u1
+	 */
+	public Object get(String key) {
+		for (int i = 0; i < this.size; i++) if (this.keys[i].equals(key)) return this.value(i);
+		return null;
+	}
+
+	@Override
+	public boolean equals(Object object) {
+		if (this == object) return true;
+		if (!(object instanceof LoggerFields other) || other.size != this.size) return false;
+		for (int i = 0; i < this.size; i++) {
+			if (!this.keys[i].equals(other.keys[i]) || this.types[i] != other.types[i]) return false;
+			if (this.types[i] == Type.OBJECT ? !Objects.equals(this.objects[i], other.objects[i]) : this.primitives[i] != other.primitives[i]) return false;
+		}
+		return true;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = 1;
+		for (int i = 0; i < this.size; i++) {
+			int value = (this.types[i] == Type.OBJECT) ? Objects.hashCode(this.objects[i]) : Long.hashCode(this.primitives[i]);
+			hash = 31 * (31 * (31 * hash + this.keys[i].hashCode()) + this.types[i].ordinal()) + value;
+		}
+		return hash;
+	}
+
+	@Override
+	public String toString() {
+		StringJoiner joiner = new StringJoiner(", ", "{", "}");
+		for (int i = 0; i < this.size; i++) joiner.add(this.keys[i] + "=" + this.value(i));
+		return joiner.toString();
+	}
+
+	/**
+	 * Represents the type of the value of a field, i.e., which overload of {@link LoggerEventBuilder#with} added it.
+	 *
+	 * @since 1u1
+	 * @author Mechite
+	 */
+	public enum Type {
+
+		/**
+		 * A reference, added with {@link LoggerEventBuilder#with(String, Object)}, which may be {@code null}.
+		 */
+		OBJECT,
+
+		/**
+		 * A {@code long}, added with {@link LoggerEventBuilder#with(String, long)} (or with an {@code int}).
+		 */
+		LONG,
+
+		/**
+		 * A {@code double}, added with {@link LoggerEventBuilder#with(String, double)} (or with a {@code float}).
+		 */
+		DOUBLE,
+
+		/**
+		 * A {@code boolean}, added with {@link LoggerEventBuilder#with(String, boolean)}.
+		 */
+		BOOLEAN
+	}
+}
\ No newline at end of file
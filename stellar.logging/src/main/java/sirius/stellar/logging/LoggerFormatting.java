@@ -0,0 +1,32 @@
+package sirius.stellar.logging;
+
+/**
+ * An enumerator that defines which thread formats the arguments provided to the logging methods on {@link Logger} and
+ * {@link LoggerHandle}. The mode is set with {@link Logger#formatting(LoggerFormatting)}.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public enum LoggerFormatting {
+
+	/**
+	 * Messages are formatted on the thread that logs them, before being handed over to the logging thread.
+	 * This is the default, as arguments can be safely mutated as soon as the logging method returns.
+	 */
+	EAGER,
+
+	/**
+	 * Messages are handed over to the logging thread with the references to their arguments, and are formatted on
+	 * the logging thread, taking the cost of formatting off the thread that logs them.
+	 * <p>
+	 * The arguments are formatted at some point after the logging method returns, so they must either be immutable
+	 * or not be mutated afterwards, and calling {@link Object#toString()} on them must be safe from any thread. For
+	 * arguments that do not meet this contract, either {@link Logger#snapshot(java.util.function.UnaryOperator)}
+	 * can be used to copy them, or {@link Logger#eager(Class[])} can be used to convert them to a string with
+	 * {@link String#valueOf(Object)} before they are handed over.
+	 * <p>
+	 * Messages that fail to be formatted on the logging thread are discarded, rather than throwing on the thread
+	 * that logged them.
+	 */
+	DEFERRED
+}
\ No newline at end of file
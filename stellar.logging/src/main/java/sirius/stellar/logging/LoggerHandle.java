@@ -0,0 +1,1348 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.Strings;
+import sirius.stellar.facility.Throwables;
+import sirius.stellar.logging.supplier.ObjectSupplier;
+import sirius.stellar.logging.supplier.ThrowableSupplier;
+
+import java.io.ObjectStreamException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Represents a named handle for logging, obtained with {@link Logger#of(Class)} or {@link Logger#of(String)}.
+ * <p>
+ * The logging methods available on this class are the same as the static methods available on {@link Logger},
+ * however, the name of the logger is fixed when the handle is obtained, rather than being retrieved with a
+ * {@link StackWalker} on every call. This is preferable for any code that logs frequently, and a handle is
+ * usually held in a {@code private static final} field of the class it is named after.
+ * <p>
+ * Handles are cached and only one instance is ever created for each name, so they can be obtained as often as
+ * desired, and deserializing a handle resolves it to the cached instance.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class LoggerHandle implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1227634592063271834L;
+
+	private final String name;
+
+	/**
+	 * The severity that applies to the name of this handle in the lower half, and the value of
+	 * {@code Logger.generation} it was resolved at in the upper half, so that both are read at once.
+	 */
+	private transient volatile long resolved;
+
+	/**
+	 * The collectors that messages logged with the name of this handle are handed over to,
+	 * resolved from the routing that was in use when the table was created.
+	 */
+	private transient volatile LoggerRouting.Table table;
+
+	LoggerHandle(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Returns the name of this handle, used as {@link LoggerMessage#name()} for every message it logs.
+	 * @since 1u1
+	 */
+	public String name() {
+		return this.name;
+	}
+
+	/**
+	 * Returns whether the severity of the logger allows for the provided level to be logged by this handle.
+	 * This takes into account any severity set for the name of this handle with {@link Logger#severity(String, int)}.
+	 *
+	 * @see Logger#enabled(String, LoggerLevel)
+	 * @since 1u1
+	 */
+	public boolean enabled(LoggerLevel level) {
+		return level.severity() < this.severity();
+	}
+
+	/**
+	 * Returns the severity that applies to the name of this handle, only resolving it
+	 * again if a severity has been changed since it was last resolved.
+	 */
+	int severity() {
+		long resolved = this.resolved;
+		int generation = Logger.generation;
+		if ((int) (resolved >>> 32) == generation) return (int) resolved;
+
+		int severity = Logger.resolve(this.name);
+		this.resolved = ((long) generation << 32) | (severity & 0xFFFFFFFFL);
+		return severity;
+	}
+
+	/**
+	 * Returns the indices of the collectors in the provided routing that messages logged with the name of this
+	 * handle at the provided level are handed over to, only resolving them again if the routing has changed.
+	 */
+	int[] targets(LoggerRouting routing, LoggerLevel level) {
+		LoggerRouting.Table table = this.table;
+		if (table == null || table.routing() != routing) this.table = table = routing.table(this.name);
+		return table.targets()[level.ordinal()];
+	}
+
+	@Override
+	public String toString() {
+		return format("LoggerHandle[name={0}]", this.name);
+	}
+
+	@Serial
+	private Object readResolve() throws ObjectStreamException {
+		return Logger.of(this.name);
+	}
+
+	/**
+	 * Returns a limiter that lets through one message of each statement logged with it per provided period,
+	 * with the name of this handle, suppressing the rest.
+	 *
+	 * @see LoggerLimiter
+	 * @since 1u1
+	 */
+	public LoggerLimiter every(Duration period) {
+		return LoggerLimiter.limited(this, 1, period);
+	}
+
+	/**
+	 * Returns a limiter that lets through up to the provided number of messages of each statement logged with it
+	 * per provided period, with the name of this handle, suppressing the rest. The messages can be let through all
+	 * at once, after which they are let through again at a steady rate, e.g., one every hundred milliseconds with
+	 * {@code limited(10, Duration.ofSeconds(1))}.
+	 *
+	 * @see LoggerLimiter
+	 * @since 1u1
+	 */
+	public LoggerLimiter limited(int permits, Duration period) {
+		return LoggerLimiter.limited(this, permits, period);
+	}
+
+	/**
+	 * Returns a limiter that lets through the first of the provided number of messages of each statement logged with
+	 * it in every period of the provided number of messages, with the name of this handle, suppressing the rest.
+	 *
+	 * @see LoggerLimiter
+	 * @since 1u1
+	 */
+	public LoggerLimiter sampled(int permits, int period) {
+		return LoggerLimiter.sampled(this, permits, period);
+	}
+
+	/**
+	 * Returns a builder for a message logged by this handle at the provided level, with structured fields, or
+	 * a shared builder that ignores everything if the level is not enabled for this handle.
+	 *
+	 * @see LoggerEventBuilder
+	 * @since 1u1
+	 */
+	public LoggerEventBuilder at(LoggerLevel level) {
+		return LoggerEventBuilder.of(this, level);
+	}
+
+	/**
+	 * Dispatches a message with the provided arguments for formatting, which is either performed
+	 * immediately or deferred to the logging thread, as set with {@link Logger#formatting(LoggerFormatting)}.
+	 */
+	private void dispatch(LoggerLevel level, String text, Object... arguments) {
+		this.dispatch(level, text, LoggerFields.empty(), arguments);
+	}
+
+	/**
+	 * Dispatches a message with the provided structured fields and arguments for formatting, which may be
+	 * {@code null} if the text should not be formatted at all.
+	 * @see LoggerHandle#dispatch(LoggerLevel, String, Object...)
+	 */
+	void dispatch(LoggerLevel level, String text, LoggerFields fields, Object[] arguments) {
+		long time = Logger.clock.nanos();
+		String thread = Thread.currentThread().getName();
+
+		if (arguments == null) {
+			Logger.dispatch(time, level, thread, this.name, text, null, fields);
+			return;
+		}
+		if (Logger.formatting == LoggerFormatting.DEFERRED) {
+			Logger.dispatch(time, level, thread, this.name, text, Logger.capture(arguments), fields);
+			return;
+		}
+		Logger.dispatch(time, level, thread, this.name, format(text, arguments), null, fields);
+	}
+
+	//#region Logging [information*]
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void information(Object object) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, String.valueOf(object));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object argument) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, arguments);
+	}
+	//#endregion
+	//#region Logging [information*, Lambda]
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 *
+	 * @since 1u1
+	 */
+	public void information(ObjectSupplier supplier) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		if (supplier == null) return;
+		Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), this.name, String.valueOf(supplier.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts a single object supplier as an argument for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, ObjectSupplier argument) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		if (argument == null) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, argument.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts two object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		if (argument1 == null || argument2 == null) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, argument1.get(), argument2.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * This accepts three object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, argument1.get(), argument2.get(), argument3.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, ObjectSupplier... arguments) {
+		if (!this.enabled(LoggerLevel.INFORMATION)) return;
+		if (arguments == null) return;
+		this.dispatch(LoggerLevel.INFORMATION, text, Arrays.stream(arguments).map(Supplier::get).toArray());
+	}
+	//#endregion
+
+	//#region Logging [warning*]
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(Object object) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, String.valueOf(object));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object argument) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		this.dispatch(LoggerLevel.WARNING, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		this.dispatch(LoggerLevel.WARNING, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		this.dispatch(LoggerLevel.WARNING, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		this.dispatch(LoggerLevel.WARNING, text, arguments);
+	}
+	//#endregion
+	//#region Logging [warning*, Lambda]
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(ObjectSupplier supplier) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		if (supplier == null) return;
+		Logger.dispatch(LoggerLevel.WARNING, Thread.currentThread().getName(), this.name, String.valueOf(supplier.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts a single object supplier as an argument for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, ObjectSupplier argument) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		if (argument == null) return;
+		this.dispatch(LoggerLevel.WARNING, text, argument.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts two object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		if (argument1 == null || argument2 == null) return;
+		this.dispatch(LoggerLevel.WARNING, text, argument1.get(), argument2.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * This accepts three object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		this.dispatch(LoggerLevel.WARNING, text, argument1.get(), argument2.get(), argument3.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, ObjectSupplier... arguments) {
+		if (!this.enabled(LoggerLevel.WARNING)) return;
+		if (arguments == null) return;
+		this.dispatch(LoggerLevel.WARNING, text, Arrays.stream(arguments).map(Supplier::get).toArray());
+	}
+	//#endregion
+
+	//#region Logging [error*]
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void error(Object object) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, String.valueOf(object));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object argument) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		this.dispatch(LoggerLevel.ERROR, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		this.dispatch(LoggerLevel.ERROR, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		this.dispatch(LoggerLevel.ERROR, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		this.dispatch(LoggerLevel.ERROR, text, arguments);
+	}
+	//#endregion
+	//#region Logging [error*, Lambda]
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 *
+	 * @since 1u1
+	 */
+	public void error(ObjectSupplier supplier) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		if (supplier == null) return;
+		Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), this.name, String.valueOf(supplier.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts a single object supplier as an argument for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, ObjectSupplier argument) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		if (argument == null) return;
+		this.dispatch(LoggerLevel.ERROR, text, argument.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts two object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		if (argument1 == null || argument2 == null) return;
+		this.dispatch(LoggerLevel.ERROR, text, argument1.get(), argument2.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * This accepts three object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		this.dispatch(LoggerLevel.ERROR, text, argument1.get(), argument2.get(), argument3.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, ObjectSupplier... arguments) {
+		if (!this.enabled(LoggerLevel.ERROR)) return;
+		if (arguments == null) return;
+		this.dispatch(LoggerLevel.ERROR, text, Arrays.stream(arguments).map(Supplier::get).toArray());
+	}
+	//#endregion
+
+	//#region Logging [stacktrace*]
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Object object) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, String.valueOf(object));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object argument) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, arguments);
+	}
+	//#endregion
+	//#region Logging [stacktrace*, Throwable]
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * The stacktrace for the provided {@link Throwable} is printed
+	 * out only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, Throwables.stacktrace(throwable));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, Object object) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		String text = object + "\n" + Throwables.stacktrace(throwable);
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text, Object argument) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable);
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable);
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable);
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable);
+		this.dispatch(LoggerLevel.STACKTRACE, text, arguments);
+	}
+	//#endregion
+	//#region Logging [stacktrace*, Lambda for formatting]
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ObjectSupplier supplier) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		if (supplier == null) return;
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, String.valueOf(supplier.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts a single object supplier as an argument for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, ObjectSupplier argument) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		if (argument == null) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts two object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		if (argument1 == null || argument2 == null) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1.get(), argument2.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts three object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1.get(), argument2.get(), argument3.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, ObjectSupplier... arguments) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		if (arguments == null) return;
+		this.dispatch(LoggerLevel.STACKTRACE, text, Arrays.stream(arguments).map(Supplier::get).toArray());
+	}
+	//#endregion
+	//#region Logging [stacktrace*, Lambda for throwable]
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * The stacktrace for the provided {@link Throwable} is printed
+	 * out only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, Throwables.stacktrace(throwable.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable, String text) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable.get());
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable, Object object) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		String text = object + "\n" + Throwables.stacktrace(throwable.get());
+		Logger.dispatch(LoggerLevel.STACKTRACE, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable, String text, Object argument) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable.get());
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable, String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable.get());
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable, String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable.get());
+		this.dispatch(LoggerLevel.STACKTRACE, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 * The stacktrace for the provided {@link Throwable} is printed out too.
+	 * <p>
+	 * A supplier is used on this method to allow for the throwable not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the throwable is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Obtaining an instance of a throwable can be a heavy operation if evaluating the arguments to the constructor of
+	 * the throwable is a heavy operation, e.g., a call to {@link Strings#format(String, Object...)} for building the
+	 * message, supplying arguments that are heavy to evaluate. This is why the lambda pattern is ideal for this type
+	 * of scenario when making debug records in the log.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(ThrowableSupplier throwable, String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.STACKTRACE)) return;
+		text += "\n" + Throwables.stacktrace(throwable.get());
+		this.dispatch(LoggerLevel.STACKTRACE, text, arguments);
+	}
+	//#endregion
+
+	//#region Logging [debugging*]
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(Object object) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, String.valueOf(object));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object argument) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, arguments);
+	}
+	//#endregion
+	//#region Logging [debugging*, Lambda]
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(ObjectSupplier supplier) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		if (supplier == null) return;
+		Logger.dispatch(LoggerLevel.DEBUGGING, Thread.currentThread().getName(), this.name, String.valueOf(supplier.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts a single object supplier as an argument for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, ObjectSupplier argument) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		if (argument == null) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, argument.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts two object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		if (argument1 == null || argument2 == null) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, argument1.get(), argument2.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * This accepts three object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, argument1.get(), argument2.get(), argument3.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, ObjectSupplier... arguments) {
+		if (!this.enabled(LoggerLevel.DEBUGGING)) return;
+		if (arguments == null) return;
+		this.dispatch(LoggerLevel.DEBUGGING, text, Arrays.stream(arguments).map(Supplier::get).toArray());
+	}
+	//#endregion
+
+	//#region Logging [configuration*]
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		Logger.dispatch(LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), this.name, text);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(Object object) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		Logger.dispatch(LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), this.name, String.valueOf(object));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object argument) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, argument);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object argument1, Object argument2) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, argument1, argument2);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts three objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object argument1, Object argument2, Object argument3) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, argument1, argument2, argument3);
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object... arguments) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, arguments);
+	}
+	//#endregion
+	//#region Logging [configuration*, Lambda]
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This uses {@link String#valueOf(Object)} only if the logger is enabled at this level.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(ObjectSupplier supplier) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		if (supplier == null) return;
+		Logger.dispatch(LoggerLevel.CONFIGURATION, Thread.currentThread().getName(), this.name, String.valueOf(supplier.get()));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts a single object supplier as an argument for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, ObjectSupplier argument) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		if (argument == null) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, argument.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts two object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, ObjectSupplier argument1, ObjectSupplier argument2) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		if (argument1 == null || argument2 == null) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, argument1.get(), argument2.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * This accepts three object suppliers as arguments for formatting to prevent the creation of an array.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, ObjectSupplier argument1, ObjectSupplier argument2, ObjectSupplier argument3) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		if (argument1 == null || argument2 == null || argument3 == null) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, argument1.get(), argument2.get(), argument3.get());
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}.
+	 * <p>
+	 * A supplier is used on this method to allow for the object not to be evaluated (and stored), useful for if
+	 * obtaining an instance of the object is a heavy operation that should only be performed if logging is enabled.
+	 * <p>
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, ObjectSupplier... arguments) {
+		if (!this.enabled(LoggerLevel.CONFIGURATION)) return;
+		if (arguments == null) return;
+		this.dispatch(LoggerLevel.CONFIGURATION, text, Arrays.stream(arguments).map(Supplier::get).toArray());
+	}
+	//#endregion
+}
\ No newline at end of file
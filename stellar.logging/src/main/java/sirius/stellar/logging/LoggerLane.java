@@ -0,0 +1,183 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.collect.Collector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * A collector that hands over messages to another collector from its own bounded queue, drained by a
+ * task scheduled with {@link Collector#task(java.util.concurrent.Callable)} of that collector, so that a slow
+ * collector only delays itself rather than every collector registered after it.
+ * <p>
+ * Messages are copied with {@link LoggerEvent#message()} when they are queued, as events handed over by a
+ * pooled ring are only valid until {@link Collector#collect(List)} returns on the logging thread.
+ * <p>
+ * Every message offered is either handed over or counted as dropped, even when racing with {@link #close()};
+ * a message queued once the task has ended is handed over by the closing thread, or taken back and counted as
+ * dropped by the offering thread if it was queued after that.
+ *
+ * @see Logger#collector(Collector, int, LoggerOverflow)
+ */
+@Internal
+final class LoggerLane implements Collector {
+
+	private static final long POLL = TimeUnit.MILLISECONDS.toNanos(100);
+
+	private final Collector collector;
+	private final int capacity;
+	private final LoggerOverflow overflow;
+	private final BlockingQueue<LoggerMessage> queue;
+	private final Future<Void> task;
+
+	private final LongAdder collected = new LongAdder();
+	private final LongAdder dropped = new LongAdder();
+	private final AtomicLong maximum = new AtomicLong();
+
+	private volatile boolean closed;
+
+	LoggerLane(Collector collector, int capacity, LoggerOverflow overflow) {
+		this.collector = collector;
+		this.capacity = capacity;
+		this.overflow = overflow;
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.task = collector.task(this::drain);
+	}
+
+	@Override
+	public void collect(LoggerMessage message) {
+		this.offer(message);
+	}
+
+	@Override
+	public void collect(List<? extends LoggerEvent> events) {
+		for (LoggerEvent event : events) this.offer(event.message());
+	}
+
+	/**
+	 * Queues the provided message, or counts it as dropped if this lane is closed, even if only once it was queued.
+	 */
+	private void offer(LoggerMessage message) {
+		if (this.closed) {
+			this.dropped.increment();
+			return;
+		}
+		if (this.enqueue(message) && this.closed && this.queue.remove(message)) this.dropped.increment();
+	}
+
+	/**
+	 * Queues the provided message, applying the overflow policy of this lane if it is full.
+	 * @return Whether the message was queued, rather than counted as dropped.
+	 */
+	private boolean enqueue(LoggerMessage message) {
+		if (this.queue.offer(message)) return true;
+
+		LoggerOverflow overflow = this.overflow;
+		if (overflow == LoggerOverflow.RETAIN_ERRORS) overflow = (message.level() == LoggerLevel.ERROR || message.level() == LoggerLevel.STACKTRACE) ? LoggerOverflow.BLOCK : LoggerOverflow.DROP_NEWEST;
+
+		switch (overflow) {
+			case DROP_OLDEST -> {
+				while (!this.queue.offer(message)) if (this.queue.poll() != null) this.dropped.increment();
+				return true;
+			}
+			case BLOCK -> {
+				try {
+					this.queue.put(message);
+					return true;
+				} catch (InterruptedException exception) {
+					Thread.currentThread().interrupt();
+					this.dropped.increment();
+					return false;
+				}
+			}
+			default -> {
+				this.dropped.increment();
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Drains the queue, handing the messages over to the collector in batches until this lane is closed.
+	 * This is the task scheduled when this lane is created.
+	 */
+	private Void drain() throws InterruptedException {
+		List<LoggerMessage> batch = new ArrayList<>();
+		while (!this.closed || !this.queue.isEmpty()) {
+			LoggerMessage first = this.queue.poll(POLL, TimeUnit.NANOSECONDS);
+			if (first == null) continue;
+
+			batch.add(first);
+			this.queue.drainTo(batch, Logger.batch - 1);
+
+			long lag = Logger.clock.nanos() - first.nanos();
+			if (lag > this.maximum.get()) this.maximum.accumulateAndGet(lag, Math::max);
+			this.handover(batch);
+		}
+		return null;
+	}
+
+	/**
+	 * Hands over the provided batch to the collector, counting it as collected and clearing it.
+	 */
+	private void handover(List<LoggerMessage> batch) {
+		try {
+			this.collector.collect(batch);
+		} catch (RuntimeException exception) {
+			assert true; // equivalent to a collector failing on the logging thread, this must never end the lane
+		}
+		this.collected.add(batch.size());
+		batch.clear();
+	}
+
+	/**
+	 * Returns the collector that this lane hands over messages to.
+	 */
+	Collector collector() {
+		return this.collector;
+	}
+
+	/**
+	 * Returns a snapshot of the counters maintained by this lane.
+	 */
+	LoggerLaneStatistics statistics() {
+		LoggerMessage oldest = this.queue.peek();
+		long lag = (oldest == null) ? 0 : Math.max(0, Logger.clock.nanos() - oldest.nanos());
+		return new LoggerLaneStatistics(this.capacity, this.queue.size(), this.collected.sum(), this.dropped.sum(), lag, this.maximum.get());
+	}
+
+	/**
+	 * Closes this lane, waiting for every message already queued to be handed over before
+	 * closing the collector. Messages queued by a racing {@link #offer(LoggerMessage)} after the
+	 * task has ended are handed over on this thread.
+	 */
+	@Override
+	public void close() throws Exception {
+		this.closed = true;
+		try {
+			this.task.get();
+		} catch (ExecutionException exception) {
+			assert true; // the lane can only end exceptionally if it was interrupted, and the collector must still be closed
+		}
+
+		List<LoggerMessage> rest = new ArrayList<>();
+		this.queue.drainTo(rest);
+		if (!rest.isEmpty()) this.handover(rest);
+		this.collector.close();
+	}
+
+	@Override
+	public String toString() {
+		return format("LoggerLane[collector={0}, capacity={1}, overflow={2}]", this.collector, this.capacity, this.overflow);
+	}
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.logging.collect.Collector;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Represents a snapshot of the counters maintained for a collector registered with its own queue through
+ * {@link Logger#collector(Collector, int, LoggerOverflow)}, obtained with {@link Logger#statistics(Collector)}.
+ * <p>
+ * A lag that keeps growing means the collector is slower than the rate at which messages are dispatched,
+ * and will eventually reach capacity, after which its overflow policy applies.
+ *
+ * @param capacity The maximum number of messages that can be queued for the collector.
+ * @param pending The number of messages queued but not yet handed over to the collector.
+ * @param collected The number of messages handed over to the collector.
+ * @param dropped The number of messages dropped due to the queue being at capacity.
+ * @param lag The time the oldest pending message has been waiting since it was dispatched, in nanoseconds.
+ * @param maximum The longest time a message has waited between being dispatched and being handed over, in nanoseconds.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public record LoggerLaneStatistics(int capacity, long pending, long collected, long dropped, long lag, long maximum) implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 5926417303351881427L;
+
+	/**
+	 * Returns the proportion of the capacity that is currently occupied, between {@code 0} and {@code 1}.
+	 */
+	public double occupancy() {
+		return (double) this.pending / this.capacity;
+	}
+
+	@Override
+	public String toString() {
+		return format("LoggerLaneStatistics[capacity={0}, pending={1}, collected={2}, dropped={3}, lag={4}, maximum={5}]", this.capacity, this.pending, this.collected, this.dropped, this.lag, this.maximum);
+	}
+}
\ No newline at end of file
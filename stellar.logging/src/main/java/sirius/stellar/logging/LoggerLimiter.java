@@ -0,0 +1,476 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.Strings;
+
+import java.time.Duration;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Represents a view of a {@link LoggerHandle} that suppresses a statement logged too often, obtained with
+ * {@link Logger#every(Duration)}, {@link Logger#limited(int, Duration)} or {@link Logger#sampled(int, int)}
+ * (or the same methods of a handle).
+ * <p>
+ * Each statement is keyed by its handle, level and text (i.e., the template of the statement, rather than the message
+ * it is formatted into), so a limiter can either be held in a field or obtained inline for each call, e.g.,
+ * {@code logger.every(Duration.ofSeconds(10)).warning("Failed to reach {0}", host)}, and statements logged with a
+ * different handle, level or text, or with a limiter of a different rate, never suppress each other. Whether a message is suppressed is decided before it is formatted, or its time is
+ * read, and without any locks, so a suppressed message costs little more than a check of whether its level is enabled.
+ * <p>
+ * The number of messages suppressed since the previous message of a statement that was let through is appended
+ * to the next message that is, e.g., {@code Failed to reach example.com (suppressed 1523 similar messages)}; this
+ * message is always formatted on the thread that logs it, regardless of {@link Logger#formatting(LoggerFormatting)}.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class LoggerLimiter {
+
+	private final LoggerHandle handle;
+	private final long interval;
+	private final int permits;
+	private final int period;
+
+	/**
+	 * Creates a limiter that lets through up to {@code permits} messages of each statement at once, refilled at a rate
+	 * of {@code permits} every {@code period} nanoseconds, if {@code interval} is not zero, or otherwise the first
+	 * {@code permits} messages of every {@code period} messages.
+	 */
+	LoggerLimiter(LoggerHandle handle, long interval, int permits, int period) {
+		this.handle = handle;
+		this.interval = interval;
+		this.permits = permits;
+		this.period = period;
+	}
+
+	/**
+	 * Creates a limiter that lets through up to the provided number of messages of each statement per period.
+	 * @see Logger#limited(int, Duration)
+	 */
+	static LoggerLimiter limited(LoggerHandle handle, int permits, Duration period) {
+		if (period == null) throw new NullPointerException("Attempted to set limiter period to null");
+		if (permits <= 0) throw new UnsupportedOperationException("Limiter permits must be between 1 and Integer#MAX_VALUE");
+		if (period.isNegative() || period.isZero()) throw new UnsupportedOperationException("Limiter period must be positive");
+		long nanos = (period.compareTo(Duration.ofNanos(Long.MAX_VALUE)) >= 0) ? Long.MAX_VALUE : period.toNanos();
+		return new LoggerLimiter(handle, Math.max(1, nanos / permits), permits, 0);
+	}
+
+	/**
+	 * Creates a limiter that lets through the first of the provided number of messages of each statement in every period.
+	 * @see Logger#sampled(int, int)
+	 */
+	static LoggerLimiter sampled(LoggerHandle handle, int permits, int period) {
+		if (permits <= 0) throw new UnsupportedOperationException("Sampler permits must be between 1 and Integer#MAX_VALUE");
+		if (period < permits) throw new UnsupportedOperationException("Sampler period must be between the number of permits and Integer#MAX_VALUE");
+		return new LoggerLimiter(handle, 0, permits, period);
+	}
+
+	/**
+	 * Returns the handle that messages which are not suppressed are logged with.
+	 * @since 1u1
+	 */
+	public LoggerHandle handle() {
+		return this.handle;
+	}
+
+	/**
+	 * Returns the number of messages of the statement with the provided level and text that were suppressed since the
+	 * previous one was let through, or {@code -1} if this message should be suppressed as well.
+	 */
+	private long acquire(LoggerLevel level, String text) {
+		if (this.interval != 0) return LoggerBuckets.acquire(this.handle, level, text, this.interval, this.permits);
+		return LoggerBuckets.sample(this.handle, level, text, this.permits, this.period);
+	}
+
+	/**
+	 * Appends the provided number of suppressed messages to the provided text, if there are any.
+	 */
+	private static String summarize(String text, long suppressed) {
+		if (suppressed == 0) return text;
+		return text + " (suppressed " + suppressed + " similar " + ((suppressed == 1) ? "message" : "messages") + ")";
+	}
+
+	@Override
+	public String toString() {
+		if (this.interval == 0) return format("LoggerLimiter[name={0}, permits={1}, period={2}]", this.handle.name(), this.permits, this.period);
+		return format("LoggerLimiter[name={0}, permits={1}, interval={2}]", this.handle.name(), this.permits, Duration.ofNanos(this.interval));
+	}
+
+	//#region Logging [information*]
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}, unless it is suppressed.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text) {
+		if (!this.handle.enabled(LoggerLevel.INFORMATION)) return;
+		long suppressed = this.acquire(LoggerLevel.INFORMATION, text);
+		if (suppressed < 0) return;
+		this.handle.information(summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}, unless it is suppressed.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object argument) {
+		if (!this.handle.enabled(LoggerLevel.INFORMATION)) return;
+		long suppressed = this.acquire(LoggerLevel.INFORMATION, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.information(text, argument);
+		else this.handle.information(summarize(format(text, argument), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}, unless it is suppressed.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object argument1, Object argument2) {
+		if (!this.handle.enabled(LoggerLevel.INFORMATION)) return;
+		long suppressed = this.acquire(LoggerLevel.INFORMATION, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.information(text, argument1, argument2);
+		else this.handle.information(summarize(format(text, argument1, argument2), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#INFORMATION}, unless it is suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void information(String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.INFORMATION)) return;
+		long suppressed = this.acquire(LoggerLevel.INFORMATION, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.information(text, arguments);
+		else this.handle.information(summarize(format(text, arguments), suppressed));
+	}
+	//#endregion
+	//#region Logging [warning*]
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}, unless it is suppressed.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text) {
+		if (!this.handle.enabled(LoggerLevel.WARNING)) return;
+		long suppressed = this.acquire(LoggerLevel.WARNING, text);
+		if (suppressed < 0) return;
+		this.handle.warning(summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}, unless it is suppressed.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object argument) {
+		if (!this.handle.enabled(LoggerLevel.WARNING)) return;
+		long suppressed = this.acquire(LoggerLevel.WARNING, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.warning(text, argument);
+		else this.handle.warning(summarize(format(text, argument), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}, unless it is suppressed.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object argument1, Object argument2) {
+		if (!this.handle.enabled(LoggerLevel.WARNING)) return;
+		long suppressed = this.acquire(LoggerLevel.WARNING, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.warning(text, argument1, argument2);
+		else this.handle.warning(summarize(format(text, argument1, argument2), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#WARNING}, unless it is suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void warning(String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.WARNING)) return;
+		long suppressed = this.acquire(LoggerLevel.WARNING, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.warning(text, arguments);
+		else this.handle.warning(summarize(format(text, arguments), suppressed));
+	}
+	//#endregion
+	//#region Logging [error*]
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}, unless it is suppressed.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text) {
+		if (!this.handle.enabled(LoggerLevel.ERROR)) return;
+		long suppressed = this.acquire(LoggerLevel.ERROR, text);
+		if (suppressed < 0) return;
+		this.handle.error(summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}, unless it is suppressed.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object argument) {
+		if (!this.handle.enabled(LoggerLevel.ERROR)) return;
+		long suppressed = this.acquire(LoggerLevel.ERROR, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.error(text, argument);
+		else this.handle.error(summarize(format(text, argument), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}, unless it is suppressed.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object argument1, Object argument2) {
+		if (!this.handle.enabled(LoggerLevel.ERROR)) return;
+		long suppressed = this.acquire(LoggerLevel.ERROR, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.error(text, argument1, argument2);
+		else this.handle.error(summarize(format(text, argument1, argument2), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#ERROR}, unless it is suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void error(String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.ERROR)) return;
+		long suppressed = this.acquire(LoggerLevel.ERROR, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.error(text, arguments);
+		else this.handle.error(summarize(format(text, arguments), suppressed));
+	}
+	//#endregion
+	//#region Logging [stacktrace*]
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}, unless it is suppressed.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text) {
+		if (!this.handle.enabled(LoggerLevel.STACKTRACE)) return;
+		long suppressed = this.acquire(LoggerLevel.STACKTRACE, text);
+		if (suppressed < 0) return;
+		this.handle.stacktrace(summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}, unless it is suppressed.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object argument) {
+		if (!this.handle.enabled(LoggerLevel.STACKTRACE)) return;
+		long suppressed = this.acquire(LoggerLevel.STACKTRACE, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.stacktrace(text, argument);
+		else this.handle.stacktrace(summarize(format(text, argument), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}, unless it is suppressed.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object argument1, Object argument2) {
+		if (!this.handle.enabled(LoggerLevel.STACKTRACE)) return;
+		long suppressed = this.acquire(LoggerLevel.STACKTRACE, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.stacktrace(text, argument1, argument2);
+		else this.handle.stacktrace(summarize(format(text, argument1, argument2), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}, unless it is suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.STACKTRACE)) return;
+		long suppressed = this.acquire(LoggerLevel.STACKTRACE, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.stacktrace(text, arguments);
+		else this.handle.stacktrace(summarize(format(text, arguments), suppressed));
+	}
+
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}, unless it is suppressed.
+	 * The stacktrace for the provided {@link Throwable} is printed out too, only if it is not suppressed.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text) {
+		if (!this.handle.enabled(LoggerLevel.STACKTRACE)) return;
+		long suppressed = this.acquire(LoggerLevel.STACKTRACE, text);
+		if (suppressed < 0) return;
+		this.handle.stacktrace(throwable, summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#STACKTRACE}, unless it is suppressed.
+	 * The stacktrace for the provided {@link Throwable} is printed out too, only if it is not suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void stacktrace(Throwable throwable, String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.STACKTRACE)) return;
+		long suppressed = this.acquire(LoggerLevel.STACKTRACE, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.stacktrace(throwable, text, arguments);
+		else this.handle.stacktrace(throwable, summarize(format(text, arguments), suppressed));
+	}
+	//#endregion
+	//#region Logging [debugging*]
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}, unless it is suppressed.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text) {
+		if (!this.handle.enabled(LoggerLevel.DEBUGGING)) return;
+		long suppressed = this.acquire(LoggerLevel.DEBUGGING, text);
+		if (suppressed < 0) return;
+		this.handle.debugging(summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}, unless it is suppressed.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object argument) {
+		if (!this.handle.enabled(LoggerLevel.DEBUGGING)) return;
+		long suppressed = this.acquire(LoggerLevel.DEBUGGING, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.debugging(text, argument);
+		else this.handle.debugging(summarize(format(text, argument), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}, unless it is suppressed.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object argument1, Object argument2) {
+		if (!this.handle.enabled(LoggerLevel.DEBUGGING)) return;
+		long suppressed = this.acquire(LoggerLevel.DEBUGGING, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.debugging(text, argument1, argument2);
+		else this.handle.debugging(summarize(format(text, argument1, argument2), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#DEBUGGING}, unless it is suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void debugging(String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.DEBUGGING)) return;
+		long suppressed = this.acquire(LoggerLevel.DEBUGGING, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.debugging(text, arguments);
+		else this.handle.debugging(summarize(format(text, arguments), suppressed));
+	}
+	//#endregion
+	//#region Logging [configuration*]
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}, unless it is suppressed.
+	 * This accepts no objects for formatting to prevent the creation of an array.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text) {
+		if (!this.handle.enabled(LoggerLevel.CONFIGURATION)) return;
+		long suppressed = this.acquire(LoggerLevel.CONFIGURATION, text);
+		if (suppressed < 0) return;
+		this.handle.configuration(summarize(text, suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}, unless it is suppressed.
+	 * This accepts a single object as an argument for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object argument) {
+		if (!this.handle.enabled(LoggerLevel.CONFIGURATION)) return;
+		long suppressed = this.acquire(LoggerLevel.CONFIGURATION, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.configuration(text, argument);
+		else this.handle.configuration(summarize(format(text, argument), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}, unless it is suppressed.
+	 * This accepts two objects as arguments for formatting to prevent the creation of an array.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object argument1, Object argument2) {
+		if (!this.handle.enabled(LoggerLevel.CONFIGURATION)) return;
+		long suppressed = this.acquire(LoggerLevel.CONFIGURATION, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.configuration(text, argument1, argument2);
+		else this.handle.configuration(summarize(format(text, argument1, argument2), suppressed));
+	}
+
+	/**
+	 * Logs a message at {@link LoggerLevel#CONFIGURATION}, unless it is suppressed.
+	 * Formatting is performed with {@link Strings#format(String, Object...)}.
+	 *
+	 * @since 1u1
+	 */
+	public void configuration(String text, Object... arguments) {
+		if (!this.handle.enabled(LoggerLevel.CONFIGURATION)) return;
+		long suppressed = this.acquire(LoggerLevel.CONFIGURATION, text);
+		if (suppressed < 0) return;
+		if (suppressed == 0) this.handle.configuration(text, arguments);
+		else this.handle.configuration(summarize(format(text, arguments), suppressed));
+	}
+	//#endregion
+}
\ No newline at end of file
@@ -12,30 +12,86 @@ import static sirius.stellar.facility.Strings.*;
 /**
  * Represents a message emitted by {@link Logger}.
  * <p>
+ * This is the immutable implementation of {@link LoggerEvent}, which can be retained indefinitely.
+ * <p>
  * Implements {@link Orderable}, lexicographically comparing
- * the messages by {@link LoggerMessage#time} for sorting.
+ * the messages by {@link LoggerMessage#nanos} for sorting.
  *
- * @param time The time the message was created.
+ * @param nanos The time the message was created, in nanoseconds since the epoch.
  * @param level The severity of the message.
  * @param thread The name of the thread.
  * @param name The name of the logger.
  * @param text The text content of the message.
+ * @param threadId The identifier of the thread, or {@code -1} if it is not known.
+ * @param carrier The name of the carrier of the thread if it is virtual, otherwise {@code null}.
+ * @param fields The structured fields of the message, which are empty unless it was built with {@link LoggerEventBuilder}.
+ * @param context The diagnostic context of the thread when the message was dispatched.
  *
  * @since 1u1
  * @author Mechite
  */
-public record LoggerMessage(Instant time, LoggerLevel level, String thread, String name, String text) implements Serializable, Orderable<LoggerMessage> {
+public record LoggerMessage(long nanos, LoggerLevel level, String thread, String name, String text, long threadId, String carrier, LoggerFields fields, LoggerContext context) implements LoggerEvent, Serializable, Orderable<LoggerMessage> {
 
 	@Serial
-	private static final long serialVersionUID = 4451006818948527851L;
+	private static final long serialVersionUID = 4451006818948527853L;
+
+	/**
+	 * Creates a message, without any structured fields if {@code fields} is {@code null}, and with an empty
+	 * diagnostic context if {@code context} is {@code null}.
+	 *
+	 * @since 1u1
+	 */
+	public LoggerMessage {
+		if (fields == null) fields = LoggerFields.empty();
+		if (context == null) context = LoggerContext.empty();
+	}
+
+	/**
+	 * Creates a message with an empty diagnostic context.
+	 * @since 1u1
+	 */
+	public LoggerMessage(long nanos, LoggerLevel level, String thread, String name, String text, long threadId, String carrier, LoggerFields fields) {
+		this(nanos, level, thread, name, text, threadId, carrier, fields, LoggerContext.empty());
+	}
+
+	/**
+	 * Creates a message without any structured fields, and with an empty diagnostic context.
+	 * @since 1u1
+	 */
+	public LoggerMessage(long nanos, LoggerLevel level, String thread, String name, String text, long threadId, String carrier) {
+		this(nanos, level, thread, name, text, threadId, carrier, LoggerFields.empty());
+	}
+
+	/**
+	 * Creates a message without any identity of its thread other than its name.
+	 * @since 1u1
+	 */
+	public LoggerMessage(long nanos, LoggerLevel level, String thread, String name, String text) {
+		this(nanos, level, thread, name, text, -1, null);
+	}
+
+	/**
+	 * Creates a message with the provided {@link Instant} as its time, without
+	 * any identity of its thread other than its name.
+	 *
+	 * @since 1u1
+	 */
+	public LoggerMessage(Instant time, LoggerLevel level, String thread, String name, String text) {
+		this(time.getEpochSecond() * 1_000_000_000L + time.getNano(), level, thread, name, text);
+	}
+
+	@Override
+	public LoggerMessage message() {
+		return this;
+	}
 
 	@Override
 	public String toString() {
-		return format("LoggerMessage[{0,date,dd/MM/yyyy HH:mm:ss} | {1} | {2} | \"{3}\"]", Date.from(this.time), this.level, this.name, this.text);
+		return format("LoggerMessage[{0,date,dd/MM/yyyy HH:mm:ss} | {1} | {2} | \"{3}\"]", new Date(this.epochMillis()), this.level, this.name, this.text);
 	}
 
 	@Override
 	public void compare(LoggerMessage other, Results results) {
-		results.append(this.time, other.time);
+		results.append(this.nanos, other.nanos);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package sirius.stellar.logging;
+
+/**
+ * An enumerator that defines what happens to a dispatched message when the logger is at capacity.
+ * <p>
+ * The logger is at capacity when the number of messages dispatched but not yet drained by the logging thread
+ * reaches the value set with {@link Logger#capacity(int)} or, when {@link Logger#ring(int, LoggerWaitStrategy)}
+ * is used, the capacity of the ring. The policy is set with {@link Logger#overflow(LoggerOverflow)}.
+ * <p>
+ * Every message that is dropped is counted against its level, available from {@link Logger#statistics()},
+ * and once the logger is no longer at capacity, a single {@link LoggerLevel#WARNING} message summarizing
+ * how many messages were dropped at each level is logged.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public enum LoggerOverflow {
+
+	/**
+	 * The dispatching thread waits until the logging thread has made space for the message.
+	 * No messages are ever dropped, but a slow collector slows down the application.
+	 */
+	BLOCK,
+
+	/**
+	 * The message being dispatched is dropped.
+	 */
+	DROP_NEWEST,
+
+	/**
+	 * The oldest message that has not yet been drained by the logging thread is dropped to make space for
+	 * the message being dispatched, so that the most recent messages are kept.
+	 * <p>
+	 * This cannot be used while {@link Logger#ring(int, LoggerWaitStrategy)} is used.
+	 */
+	DROP_OLDEST,
+
+	/**
+	 * Messages at {@link LoggerLevel#ERROR} and {@link LoggerLevel#STACKTRACE} are retained, as with
+	 * {@link LoggerOverflow#BLOCK}, while messages at any other level are dropped.
+	 */
+	RETAIN_ERRORS,
+
+	/**
+	 * The message is collected on the dispatching thread, bypassing the logging thread.
+	 * No messages are ever dropped, but the message is collected ahead of those that were already waiting.
+	 */
+	SYNCHRONOUS
+}
\ No newline at end of file
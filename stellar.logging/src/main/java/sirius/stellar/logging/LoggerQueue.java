@@ -0,0 +1,95 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A lock-free queue of dispatched messages, drained by a task submitted to the executor used by {@link Logger}.
+ * <p>
+ * Only one draining task is ever submitted at a time; it is submitted by whichever thread publishes a message
+ * while the queue is not already being drained, and it keeps draining until the queue is empty. This means
+ * messages are never collected out of order, even if the executor runs tasks concurrently.
+ */
+@Internal
+final class LoggerQueue {
+
+	private final Queue<Dispatched> queue = new ConcurrentLinkedQueue<>();
+	private final AtomicInteger occupancy = new AtomicInteger();
+	private final AtomicBoolean draining = new AtomicBoolean();
+	private final LoggerBatch batch = new LoggerBatch();
+
+	private volatile Thread drainer;
+
+	/**
+	 * Publishes the provided message into the queue, submitting a draining task to the provided executor if one is
+	 * not already running.
+	 */
+	void publish(ExecutorService executor, long time, LoggerLevel level, String thread, long identifier, String carrier, String name, String text, Object[] arguments, LoggerFields fields, LoggerContext context) {
+		this.queue.offer(new Dispatched(time, level, thread, identifier, carrier, name, text, arguments, fields, context));
+		this.occupancy.incrementAndGet();
+
+		if (!this.draining.compareAndSet(false, true)) return;
+		try {
+			executor.execute(this::drain);
+		} catch (RejectedExecutionException exception) {
+			this.draining.set(false);
+		}
+	}
+
+	/**
+	 * Returns the number of messages that have been published but not yet drained.
+	 */
+	long occupancy() {
+		return this.occupancy.get();
+	}
+
+	/**
+	 * Drops the oldest message that has not yet been drained, if there is one.
+	 */
+	void evict() {
+		Dispatched oldest = this.queue.poll();
+		if (oldest == null) return;
+
+		this.occupancy.decrementAndGet();
+		Logger.drop(oldest.level);
+	}
+
+	/**
+	 * Returns whether the current thread is currently draining this queue.
+	 * Waiting for space in the queue from the draining thread would never complete.
+	 */
+	boolean logging() {
+		return Thread.currentThread() == this.drainer;
+	}
+
+	/**
+	 * Drains the queue, handing the messages over to collectors in batches.
+	 * This is the task submitted to the executor.
+	 */
+	private void drain() {
+		do {
+			this.drainer = Thread.currentThread();
+			try {
+				for (Dispatched dispatched; (dispatched = this.queue.poll()) != null; ) {
+					this.occupancy.decrementAndGet();
+					if (this.batch.add(dispatched.time, dispatched.level, dispatched.thread, dispatched.identifier, dispatched.carrier, dispatched.name, dispatched.text, dispatched.arguments, dispatched.fields, dispatched.context)) this.batch.flush();
+				}
+				this.batch.flush();
+			} finally {
+				this.drainer = null;
+				this.draining.set(false);
+			}
+		} while (!this.queue.isEmpty() && this.draining.compareAndSet(false, true));
+	}
+
+	/**
+	 * Represents a message that has been dispatched, queued before being drained.
+	 */
+	private record Dispatched(long time, LoggerLevel level, String thread, long identifier, String carrier, String name, String text, Object[] arguments, LoggerFields fields, LoggerContext context) {}
+}
\ No newline at end of file
@@ -0,0 +1,337 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.Strings;
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A preallocated multi-producer, single-consumer ring of mutable message slots used by {@link Logger}.
+ * <p>
+ * Threads dispatching messages claim a sequence with a single atomic increment, copy the message into
+ * the slot for that sequence and then publish it by writing the sequence into the slot. The logging
+ * thread owned by this ring reads slots in sequence order, copying each one that has been published into a
+ * {@link LoggerBatch}, and advances a gating sequence that prevents any slot from being overwritten before it
+ * has been read. The batch is handed over to collectors as soon as no more slots have been published.
+ * <p>
+ * Closing the ring adds {@link LoggerRing#CLOSED} to the claimed sequence, so any thread that claims a
+ * sequence afterward can tell that it was rejected without an additional atomic operation, and the
+ * logging thread knows exactly which sequences it still has to collect before it terminates.
+ * <p>
+ * When pooled, the slots themselves are handed over to collectors as {@link LoggerEvent}s, with each message
+ * formatted into the reusable builder of its slot, so the gating sequence is only advanced once the batch has
+ * been handed over to every collector (see {@link Logger#pooling(boolean)}).
+ */
+@Internal
+final class LoggerRing implements Runnable {
+
+	private static final long CLOSED = 1L << 62;
+	private static final long PARK_NANOS = 1_000_000L;
+	private static final int RETAINED = 8192;
+
+	private final Slot[] slots;
+	private final int mask;
+	private final LoggerWaitStrategy strategy;
+	private final Thread thread;
+	private final LoggerBatch batch;
+	private final List<LoggerEvent> events;
+	private final boolean pooled;
+
+	private final AtomicLong claimed;
+	private final AtomicLong gate;
+
+	private volatile long end = -1;
+	private volatile boolean waiting;
+	private long released;
+
+	LoggerRing(int capacity, LoggerWaitStrategy strategy, boolean pooled) {
+		int size = Integer.highestOneBit(Math.max(2, capacity) - 1) << 1;
+
+		this.slots = new Slot[size];
+		for (int i = 0; i < size; i++) this.slots[i] = new Slot();
+		this.mask = size - 1;
+		this.strategy = strategy;
+		this.batch = new LoggerBatch();
+		this.events = new ArrayList<>(pooled ? size : 0);
+		this.pooled = pooled;
+
+		this.claimed = new AtomicLong();
+		this.gate = new AtomicLong();
+
+		this.thread = Thread.ofPlatform().name("logging").unstarted(this);
+		this.thread.start();
+	}
+
+	/**
+	 * Publishes the provided message into the ring, waiting for a slot to be free if the ring is full.
+	 * @return Whether the message was accepted, or false if the ring has been closed.
+	 */
+	boolean publish(long time, LoggerLevel level, String thread, long identifier, String carrier, String name, String text, Object[] arguments, LoggerFields fields, LoggerContext context) {
+		long sequence = this.claimed.getAndIncrement();
+		if (sequence >= CLOSED) return false;
+
+		for (int attempt = 0; sequence - this.slots.length >= this.gate.get(); attempt++) this.await(attempt);
+
+		Slot slot = this.slots[(int) sequence & this.mask];
+		slot.nanos = time;
+		slot.level = level;
+		slot.thread = thread;
+		slot.identifier = identifier;
+		slot.carrier = carrier;
+		slot.name = name;
+		slot.text = text;
+		slot.arguments = arguments;
+		slot.fields = fields;
+		slot.context = context;
+		slot.sequence = sequence;
+
+		if (this.waiting) {
+			this.waiting = false;
+			LockSupport.unpark(this.thread);
+		}
+		return true;
+	}
+
+	/**
+	 * Returns the number of messages that have been published but not yet read by the logging thread.
+	 * This is only an estimate when messages are being published concurrently.
+	 */
+	long occupancy() {
+		long claimed = this.claimed.get();
+		if (claimed >= CLOSED) return 0;
+		return claimed - this.gate.get();
+	}
+
+	/**
+	 * Returns the number of slots in this ring.
+	 */
+	int capacity() {
+		return this.slots.length;
+	}
+
+	/**
+	 * Returns the strategy used by this ring for waiting.
+	 */
+	LoggerWaitStrategy strategy() {
+		return this.strategy;
+	}
+
+	/**
+	 * Returns whether the current thread is the logging thread owned by this ring.
+	 * Publishing from the logging thread while the ring is full would never complete.
+	 */
+	boolean logging() {
+		return Thread.currentThread() == this.thread;
+	}
+
+	/**
+	 * Closes the ring, rejecting any further messages and blocking until every message that was
+	 * accepted before this call has been collected and the logging thread has terminated.
+	 */
+	void close() throws InterruptedException {
+		long claimed = this.claimed.getAndAdd(CLOSED);
+		if (claimed >= CLOSED) {
+			this.thread.join();
+			return;
+		}
+		this.end = claimed;
+		LockSupport.unpark(this.thread);
+		this.thread.join();
+	}
+
+	@Override
+	public void run() {
+		long next = 0;
+		for (int attempt = 0; ; ) {
+			Slot slot = this.slots[(int) next & this.mask];
+			if (slot.sequence == next) {
+				boolean full = false;
+				if (this.pooled) {
+					if (slot.prepare()) this.events.add(slot);
+					full = this.events.size() >= Logger.batch;
+				} else {
+					full = this.batch.add(slot.nanos, slot.level, slot.thread, slot.identifier, slot.carrier, slot.name, slot.text, slot.arguments, slot.fields, slot.context);
+				}
+				next++;
+				if (!this.pooled) this.release(next);
+
+				if (full) this.flush(next);
+				attempt = 0;
+				continue;
+			}
+			this.flush(next);
+
+			long end = this.end;
+			if (end != -1 && next >= end) return;
+
+			if (this.strategy == LoggerWaitStrategy.PARK) {
+				this.waiting = true;
+				if (slot.sequence != next && this.end == -1) LockSupport.parkNanos(this, PARK_NANOS);
+				this.waiting = false;
+				continue;
+			}
+			this.await(attempt++);
+		}
+	}
+
+	/**
+	 * Hands over the messages read so far to collectors.
+	 * When pooled, this releases every slot before the provided sequence afterward, as the slots were handed over.
+	 */
+	private void flush(long next) {
+		if (!this.pooled) {
+			this.batch.flush();
+			return;
+		}
+		if (!this.events.isEmpty()) {
+			try {
+				Logger.collect(this.events);
+			} finally {
+				this.events.clear();
+			}
+		}
+		this.release(next);
+	}
+
+	/**
+	 * Clears every slot before the provided sequence that has not been released yet,
+	 * and advances the gating sequence so that they can be overwritten.
+	 */
+	private void release(long next) {
+		if (next == this.released) return;
+		for (long sequence = this.released; sequence < next; sequence++) this.slots[(int) sequence & this.mask].clear();
+		this.released = next;
+		this.gate.lazySet(next);
+	}
+
+	/**
+	 * Waits according to the {@link LoggerWaitStrategy} of this ring.
+	 * This is invoked repeatedly with an increasing attempt count until the condition is met.
+	 */
+	private void await(int attempt) {
+		switch (this.strategy) {
+			case SPIN -> Thread.onSpinWait();
+			case YIELD -> Thread.yield();
+			case PARK -> {
+				if (attempt < 100) Thread.onSpinWait();
+				else LockSupport.parkNanos(this, attempt < 1_000 ? 1_000L : PARK_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * A mutable, reusable message slot.
+	 * The {@link Slot#sequence} field is written last when publishing, ordering all the other writes before it.
+	 * <p>
+	 * When the ring is pooled, this is handed over to collectors as it is, once {@link Slot#prepare()} has
+	 * formatted the message into the builder of this slot.
+	 */
+	private static final class Slot implements LoggerEvent {
+
+		private volatile long sequence = -1;
+
+		private long nanos;
+		private LoggerLevel level;
+		private String thread;
+		private long identifier;
+		private String carrier;
+		private String name;
+		private String text;
+		private Object[] arguments;
+		private LoggerFields fields;
+		private LoggerContext context;
+
+		private StringBuilder builder = new StringBuilder();
+		private CharSequence content;
+
+		/**
+		 * Formats the message held by this slot, so that it can be handed over to collectors.
+		 * @return Whether the message should be collected, or false if it is empty, disabled or fails to be formatted.
+		 */
+		private boolean prepare() {
+			if (!Logger.accepts(this.level, this.name, this.text)) return false;
+			if (this.arguments == null || this.arguments.length == 0) {
+				this.content = this.text;
+				return true;
+			}
+
+			try {
+				Strings.append(this.builder, this.text, this.arguments);
+			} catch (RuntimeException exception) {
+				return false; // a message that fails to be formatted is discarded, equivalent to a task failing on the executor
+			}
+			this.content = this.builder;
+			return true;
+		}
+
+		@Override
+		public LoggerLevel level() {
+			return this.level;
+		}
+
+		@Override
+		public String thread() {
+			return this.thread;
+		}
+
+		@Override
+		public long threadId() {
+			return this.identifier;
+		}
+
+		@Override
+		public String carrier() {
+			return this.carrier;
+		}
+
+		@Override
+		public String name() {
+			return this.name;
+		}
+
+		@Override
+		public CharSequence text() {
+			return this.content;
+		}
+
+		@Override
+		public long nanos() {
+			return this.nanos;
+		}
+
+		@Override
+		public LoggerFields fields() {
+			return this.fields;
+		}
+
+		@Override
+		public LoggerContext context() {
+			return this.context;
+		}
+
+		@Override
+		public LoggerMessage message() {
+			return new LoggerMessage(this.nanos, this.level, this.thread, this.name, this.content.toString(), this.identifier, this.carrier, this.fields, this.context);
+		}
+
+		/**
+		 * Releases the references held by this slot once it has been collected.
+		 */
+		private void clear() {
+			this.thread = null;
+			this.carrier = null;
+			this.name = null;
+			this.text = null;
+			this.arguments = null;
+			this.fields = null;
+			this.context = null;
+			this.content = null;
+
+			if (this.builder.capacity() > RETAINED) this.builder = new StringBuilder();
+			this.builder.setLength(0);
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,93 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.collect.Collector;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * An immutable snapshot of the registered collectors and the routes set with {@link Logger#route(Collector, String, LoggerLevel...)},
+ * compiled again whenever either of them changes.
+ * <p>
+ * Which collectors a message is handed over to only depends on its name and level, so it is resolved once for each
+ * name into a table indexed by level, which is cached by the {@link LoggerHandle} for that name until the routing is
+ * compiled again. This means that routing a message costs a single lookup, regardless of how many routes there are.
+ *
+ * @param collectors Every registered collector, in the order they were registered.
+ * @param routes The routes set for the collectors, each referring to the index of its collector.
+ * @param fallbacks Whether each collector is handed over the messages that no route matched.
+ */
+@Internal
+record LoggerRouting(Collector[] collectors, Route[] routes, boolean[] fallbacks) {
+
+	/**
+	 * Returns whether every collector is handed over every message, i.e., there are no routes or fallbacks.
+	 */
+	boolean trivial() {
+		if (this.routes.length != 0) return false;
+		for (boolean fallback : this.fallbacks) if (fallback) return false;
+		return true;
+	}
+
+	/**
+	 * Resolves the indices of the collectors that messages with the provided name are handed over to, for each level.
+	 * <p>
+	 * A collector without any routes and that is not a fallback is handed over every message, a collector with routes
+	 * is handed over the messages that any of them match, and a fallback is handed over the messages that no route of
+	 * any collector matches. Collectors are always handed over messages in the order they were registered.
+	 */
+	Table table(String name) {
+		LoggerLevel[] levels = LoggerLevel.values();
+		int[][] targets = new int[levels.length][];
+
+		for (LoggerLevel level : levels) {
+			boolean[] matched = new boolean[this.collectors.length];
+			boolean any = false;
+			for (Route route : this.routes) {
+				if (!route.matches(name, level)) continue;
+				matched[route.collector] = true;
+				any = true;
+			}
+
+			List<Integer> indices = new ArrayList<>();
+			for (int i = 0; i < this.collectors.length; i++) {
+				if (matched[i] || (this.fallbacks[i] && !any) || (!this.fallbacks[i] && !this.routed(i))) indices.add(i);
+			}
+			targets[level.ordinal()] = indices.stream().mapToInt(Integer::intValue).toArray();
+		}
+		return new Table(this, targets);
+	}
+
+	/**
+	 * Returns whether the collector at the provided index has any routes.
+	 */
+	private boolean routed(int collector) {
+		for (Route route : this.routes) if (route.collector == collector) return true;
+		return false;
+	}
+
+	/**
+	 * Represents a route, matching messages with a name at or below the provided prefix, at any of the provided levels.
+	 * Names are matched by their dot-separated segments, in the same way as {@link Logger#severity(String, int)}.
+	 */
+	record Route(int collector, String prefix, Set<LoggerLevel> levels) {
+
+		/**
+		 * Returns whether this route matches a message with the provided name and level.
+		 */
+		boolean matches(String name, LoggerLevel level) {
+			if (!this.levels.contains(level)) return false;
+			if (this.prefix.isEmpty()) return true;
+			if (!name.startsWith(this.prefix)) return false;
+			return name.length() == this.prefix.length() || name.charAt(this.prefix.length()) == '.';
+		}
+	}
+
+	/**
+	 * Represents the indices of the collectors that messages with a specific name are handed over to, for each level,
+	 * resolved from the provided routing.
+	 */
+	record Table(LoggerRouting routing, int[][] targets) {}
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package sirius.stellar.logging;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Map;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Represents a snapshot of the counters maintained by {@link Logger}, obtained with {@link Logger#statistics()}.
+ * <p>
+ * These are intended for tuning the logger, e.g., choosing the maximum size of each batch handed over to
+ * collectors with {@link Logger#batch(int)}; if {@link LoggerStatistics#largest()} is frequently equal to
+ * the maximum, the logging thread is falling behind the rate at which messages are dispatched.
+ *
+ * @param batches The number of batches handed over to collectors.
+ * @param messages The number of messages handed over to collectors across all batches.
+ * @param largest The size of the largest batch handed over to collectors.
+ * @param dropped The number of messages dropped at each level due to the logger being at capacity.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public record LoggerStatistics(long batches, long messages, long largest, Map<LoggerLevel, Long> dropped) implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1808361537040312914L;
+
+	/**
+	 * Returns the number of messages dropped at the provided level due to the logger being at capacity.
+	 * @see LoggerOverflow
+	 */
+	public long dropped(LoggerLevel level) {
+		return this.dropped.getOrDefault(level, 0L);
+	}
+
+	/**
+	 * Returns the average number of messages in each batch handed over to collectors.
+	 */
+	public double average() {
+		if (this.batches == 0) return 0;
+		return (double) this.messages / this.batches;
+	}
+
+	@Override
+	public String toString() {
+		return format("LoggerStatistics[batches={0}, messages={1}, largest={2}, average={3}, dropped={4}]", this.batches, this.messages, this.largest, this.average(), this.dropped);
+	}
+}
\ No newline at end of file
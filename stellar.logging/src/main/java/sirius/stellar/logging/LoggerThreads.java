@@ -0,0 +1,82 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+/**
+ * Resolves the identity of the thread dispatching a message, on that thread.
+ * <p>
+ * Virtual threads are usually unnamed, so a name is derived from the identifier of any thread without one, and
+ * cached in a bounded table indexed by that identifier so that it is only created once per thread (or again when
+ * a different thread has since taken its place in the table). The table is not synchronized; entries are immutable,
+ * so the worst outcome of a race is the name being created more than once.
+ * <p>
+ * The carrier of a virtual thread is not exposed by the JDK other than through {@link Thread#toString()}, so it
+ * is only read from that when enabled with {@link Logger#carriers(boolean)}, as building the description takes a
+ * lock on the virtual thread. This is best-effort, as the format of the description is not specified, and an empty
+ * name is used whenever it cannot be parsed. The names of carriers are cached in a bounded table too, so that the
+ * same instance is returned for a carrier rather than a new copy for every message.
+ */
+@Internal
+final class LoggerThreads {
+
+	private static final int SIZE = 1024;
+	private static final Entry[] entries = new Entry[SIZE];
+
+	private static final int CARRIERS = 256;
+	private static final String[] carriers = new String[CARRIERS];
+
+	/**
+	 * Returns the name of the provided thread, or a name derived from its identifier if it has none.
+	 * The derived name is the same instance every time, as long as it remains in the table.
+	 */
+	static String name(Thread thread, String name) {
+		if (name != null && !name.isEmpty()) return name;
+
+		long identifier = thread.threadId();
+		int index = (int) (identifier & (SIZE - 1));
+
+		Entry entry = entries[index];
+		if (entry != null && entry.identifier == identifier) return entry.name;
+
+		entry = new Entry(identifier, (thread.isVirtual() ? "virtual-" : "thread-") + identifier);
+		entries[index] = entry;
+		return entry.name;
+	}
+
+	/**
+	 * Returns the name of the carrier of the provided thread if it is virtual, or null if it is not.
+	 * An empty string is returned if the carrier cannot be determined, or is not captured at all.
+	 */
+	static String carrier(Thread thread) {
+		if (!thread.isVirtual()) return null;
+		if (!Logger.carriers) return "";
+
+		String description = thread.toString();
+		int state = description.lastIndexOf("]/");
+		int carrier = (state == -1) ? -1 : description.indexOf('@', state);
+		return (carrier == -1) ? "" : carrier(description, carrier + 1);
+	}
+
+	/**
+	 * Returns the name of a carrier, which is the rest of the provided description from the provided offset,
+	 * as the same instance every time, as long as it remains in the table.
+	 */
+	private static String carrier(String description, int offset) {
+		int length = description.length() - offset;
+		int hash = 0;
+		for (int i = offset; i < description.length(); i++) hash = 31 * hash + description.charAt(i);
+		int index = (hash ^ (hash >>> 16)) & (CARRIERS - 1);
+
+		String carrier = carriers[index];
+		if (carrier != null && carrier.length() == length && description.regionMatches(offset, carrier, 0, length)) return carrier;
+
+		carrier = description.substring(offset);
+		carriers[index] = carrier;
+		return carrier;
+	}
+
+	/**
+	 * Represents a name derived for a thread, cached in the table.
+	 */
+	private record Entry(long identifier, String name) {}
+}
\ No newline at end of file
@@ -0,0 +1,62 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A trie of the severities set with {@link Logger#severity(String, int)}, keyed by each dot-separated segment of a name.
+ * <p>
+ * This is only read when a {@link LoggerHandle} resolves the severity for its name, which happens once for every handle
+ * after a severity has been changed, so it favours simplicity over the speed of each lookup. It is safe to read while
+ * being written to, and all writes are performed while holding the lock on {@link Logger}.
+ */
+@Internal
+final class LoggerTrie {
+
+	private final Map<String, LoggerTrie> children = new ConcurrentHashMap<>();
+	private volatile int severity = -1;
+
+	/**
+	 * Sets the severity for the provided name, creating a node for every segment as required.
+	 */
+	void severity(String name, int value) {
+		LoggerTrie node = this;
+		for (int start = 0, end; start <= name.length(); start = end + 1) {
+			end = name.indexOf('.', start);
+			if (end == -1) end = name.length();
+			node = node.children.computeIfAbsent(name.substring(start, end), segment -> new LoggerTrie());
+		}
+		node.severity = value;
+	}
+
+	/**
+	 * Returns the severity set for the most specific segment of the provided name that has one,
+	 * or the provided fallback if there is no severity set for any segment of it.
+	 */
+	int resolve(String name, int fallback) {
+		int resolved = fallback;
+		LoggerTrie node = this;
+		for (int start = 0, end; start <= name.length(); start = end + 1) {
+			end = name.indexOf('.', start);
+			if (end == -1) end = name.length();
+			node = node.children.get(name.substring(start, end));
+			if (node == null) break;
+
+			int severity = node.severity;
+			if (severity != -1) resolved = severity;
+		}
+		return resolved;
+	}
+
+	/**
+	 * Returns the highest severity set for any name, or the provided fallback if it is higher.
+	 * A level that is not enabled for this severity is not enabled for any name.
+	 */
+	int ceiling(int fallback) {
+		int ceiling = Math.max(fallback, this.severity);
+		for (LoggerTrie child : this.children.values()) ceiling = child.ceiling(ceiling);
+		return ceiling;
+	}
+}
\ No newline at end of file
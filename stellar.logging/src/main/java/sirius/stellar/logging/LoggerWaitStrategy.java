@@ -0,0 +1,33 @@
+package sirius.stellar.logging;
+
+/**
+ * An enumerator that defines how threads wait on the ring used by {@link Logger#ring(int, LoggerWaitStrategy)}.
+ * <p>
+ * The strategy is used both by the logging thread when there are no messages available to collect, and by
+ * any thread dispatching messages when the ring is full. They trade latency for the CPU time spent waiting;
+ * {@link LoggerWaitStrategy#SPIN} has the lowest latency but permanently occupies a core, while
+ * {@link LoggerWaitStrategy#PARK} costs nothing when the application is idle.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public enum LoggerWaitStrategy {
+
+	/**
+	 * Busy-spins with {@link Thread#onSpinWait()}.
+	 * This should only be used when a core can be dedicated to the logging thread.
+	 */
+	SPIN,
+
+	/**
+	 * Calls {@link Thread#yield()} between each attempt, allowing other threads to be
+	 * scheduled while still responding to new messages quickly.
+	 */
+	YIELD,
+
+	/**
+	 * Parks the waiting thread with {@link java.util.concurrent.locks.LockSupport}, with
+	 * the logging thread being woken up by the next thread to dispatch a message.
+	 */
+	PARK
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package sirius.stellar.logging;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.time.Instant;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Implementation of {@link LoggerClock#monotonic()}.
+ */
+@Internal
+final class MonotonicClock implements LoggerClock {
+
+	private final long anchor;
+	private final long origin;
+
+	MonotonicClock() {
+		Instant now = Instant.now();
+		this.origin = System.nanoTime();
+		this.anchor = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+	}
+
+	@Override
+	public long nanos() {
+		return this.anchor + (System.nanoTime() - this.origin);
+	}
+
+	@Override
+	public String toString() {
+		return format("MonotonicClock[anchor={0}]", Instant.ofEpochSecond(0, this.anchor));
+	}
+}
\ No newline at end of file
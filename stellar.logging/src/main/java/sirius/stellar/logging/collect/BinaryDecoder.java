@@ -0,0 +1,304 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.logging.LoggerContext;
+import sirius.stellar.logging.LoggerFields;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Reads the files written by {@link Collector#binary(Path, FileRolling)} back as {@link LoggerMessage}s, one
+ * at a time, without reading the whole file into memory. Structured fields and the diagnostic context are read back
+ * too, although values that were not primitive are read back as their string representation.
+ * <p>
+ * This can also be run from the command line to convert files back to text, with the files to convert as the
+ * arguments (which may be gzipped), and {@code --csv} to write the same format as {@link Collector#file(Path)}
+ * rather than a human-readable line for each message, e.g., {@code java sirius.stellar.logging.collect.BinaryDecoder
+ * --csv logging/*.slog > logging.csv}.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class BinaryDecoder implements AutoCloseable {
+
+	private static final LoggerLevel[] levels = LoggerLevel.values();
+	private static final LoggerFields.Type[] types = LoggerFields.Type.values();
+
+	private final InputStream input;
+	private final List<String> names;
+	private final List<String> threads;
+	private final List<String> keys;
+
+	private byte[] record;
+	private int position;
+	private int limit;
+	private long previous;
+
+	/**
+	 * Creates a decoder that reads from the provided stream, reading the header of the file immediately.
+	 * The stream is closed when this decoder is closed.
+	 *
+	 * @throws IOException If the stream could not be read, or does not contain a file in the binary format.
+	 * @since 1u1
+	 */
+	public BinaryDecoder(InputStream input) throws IOException {
+		this(input, true);
+	}
+
+	/**
+	 * Creates a decoder that reads from the provided stream, which either starts with the header of the file, or
+	 * at the start of a block indexed by {@link FileIndex}.
+	 */
+	BinaryDecoder(InputStream input, boolean headed) throws IOException {
+		if (input == null) throw new NullPointerException("Attempted to set binary decoder input to null");
+		this.input = (input instanceof BufferedInputStream) ? input : new BufferedInputStream(input);
+		this.names = new ArrayList<>();
+		this.threads = new ArrayList<>();
+		this.keys = new ArrayList<>();
+		this.record = new byte[256];
+		if (!headed) return;
+
+		byte[] header = this.input.readNBytes(BinaryFormat.MAGIC.length + 1);
+		if (header.length != BinaryFormat.MAGIC.length + 1 || !Arrays.equals(header, 0, BinaryFormat.MAGIC.length, BinaryFormat.MAGIC, 0, BinaryFormat.MAGIC.length)) {
+			throw new IOException("Not a binary log file");
+		}
+		if (header[BinaryFormat.MAGIC.length] != BinaryFormat.VERSION) throw new IOException(format("Unsupported binary log file version {0}", header[BinaryFormat.MAGIC.length]));
+	}
+
+	/**
+	 * Creates a decoder that reads the provided file, which is decompressed if its name ends with {@code .gz}.
+	 *
+	 * @throws IOException If the file could not be read, or is not in the binary format.
+	 * @since 1u1
+	 */
+	public static BinaryDecoder open(Path path) throws IOException {
+		InputStream input = Files.newInputStream(path);
+		try {
+			if (path.getFileName().toString().endsWith(".gz")) input = new GZIPInputStream(input);
+			return new BinaryDecoder(input);
+		} catch (IOException | RuntimeException exception) {
+			input.close();
+			throw exception;
+		}
+	}
+
+	/**
+	 * Returns the next message in the file, or {@code null} if there are no more messages.
+	 *
+	 * @throws IOException If the stream could not be read, or the file is malformed.
+	 * @since 1u1
+	 */
+	public LoggerMessage next() throws IOException {
+		while (true) {
+			long length = this.varint(true);
+			if (length <= 0) return null;
+			if (length > Integer.MAX_VALUE - 8) throw new IOException("Malformed binary log file (record too long)");
+
+			if (length > this.record.length) this.record = new byte[(int) Math.max(length, this.record.length * 2L)];
+			if (this.input.readNBytes(this.record, 0, (int) length) != length) throw new EOFException("Truncated binary log file");
+			this.position = 0;
+			this.limit = (int) length;
+
+			int type = this.record[this.position++];
+			switch (type) {
+				case BinaryFormat.NAME -> this.names.add(this.string());
+				case BinaryFormat.THREAD -> this.threads.add(this.string());
+				case BinaryFormat.KEY -> this.keys.add(this.string());
+				case BinaryFormat.RESET -> {
+					this.names.clear();
+					this.threads.clear();
+					this.keys.clear();
+					this.previous = 0;
+				}
+				case BinaryFormat.MESSAGE -> {
+					return this.message();
+				}
+				default -> throw new IOException(format("Malformed binary log file (unknown record type {0})", type));
+			}
+		}
+	}
+
+	/**
+	 * Decodes the message record that has been read.
+	 */
+	private LoggerMessage message() throws IOException {
+		long delta = this.varint(false);
+		this.previous += (delta >>> 1) ^ -(delta & 1);
+
+		if (this.position >= this.limit) throw new IOException("Malformed binary log file (record too short)");
+		int level = this.record[this.position++];
+		if (level < 0 || level >= levels.length) throw new IOException(format("Malformed binary log file (unknown level {0})", level));
+
+		String thread = this.lookup(this.threads, this.varint(false));
+		String name = this.lookup(this.names, this.varint(false));
+		long identifier = this.varint(false) - 1;
+		long carrier = this.varint(false);
+		LoggerFields fields = this.fields();
+		LoggerContext context = this.context();
+
+		return new LoggerMessage(this.previous, levels[level], thread, name, this.string(), identifier, (carrier == 0) ? null : this.lookup(this.threads, carrier - 1), fields, context);
+	}
+
+	/**
+	 * Decodes the structured fields of the message record that has been read.
+	 */
+	private LoggerFields fields() throws IOException {
+		int size = this.count();
+		String[] keys = new String[size];
+		Object[] objects = new Object[size];
+		long[] primitives = new long[size];
+		LoggerFields.Type[] types = new LoggerFields.Type[size];
+
+		for (int i = 0; i < size; i++) {
+			keys[i] = this.lookup(this.keys, this.varint(false));
+			if (this.position >= this.limit) throw new IOException("Malformed binary log file (record too short)");
+			int type = this.record[this.position++];
+			if (type < 0 || type >= BinaryDecoder.types.length) throw new IOException(format("Malformed binary log file (unknown field type {0})", type));
+			types[i] = BinaryDecoder.types[type];
+
+			switch (types[i]) {
+				case LONG -> {
+					long value = this.varint(false);
+					primitives[i] = (value >>> 1) ^ -(value & 1);
+				}
+				case DOUBLE -> primitives[i] = this.varint(false);
+				case BOOLEAN -> {
+					if (this.position >= this.limit) throw new IOException("Malformed binary log file (record too short)");
+					primitives[i] = this.record[this.position++];
+				}
+				case OBJECT -> {
+					long length = this.varint(false);
+					objects[i] = (length == 0) ? null : this.string(length - 1);
+				}
+			}
+		}
+		return LoggerFields.of(keys, objects, primitives, types, size);
+	}
+
+	/**
+	 * Decodes the diagnostic context of the message record that has been read.
+	 */
+	private LoggerContext context() throws IOException {
+		int entries = this.count();
+		String[] keys = new String[entries];
+		Object[] values = new Object[entries];
+		for (int i = 0; i < entries; i++) {
+			keys[i] = this.lookup(this.keys, this.varint(false));
+			values[i] = this.string(this.varint(false));
+		}
+
+		String[] stack = new String[this.count()];
+		for (int i = 0; i < stack.length; i++) stack[i] = this.string(this.varint(false));
+		return LoggerContext.of(keys, values, stack);
+	}
+
+	/**
+	 * Decodes the number of elements that follow in the record that has been read, which can be no more than the
+	 * number of bytes left in it, as every element takes up at least one byte.
+	 */
+	private int count() throws IOException {
+		long count = this.varint(false);
+		if (count > this.limit - this.position) throw new IOException("Malformed binary log file (record too short)");
+		return (int) count;
+	}
+
+	/**
+	 * Returns the string with the provided identifier in the provided dictionary.
+	 */
+	private String lookup(List<String> dictionary, long identifier) throws IOException {
+		if (identifier < 0 || identifier >= dictionary.size()) throw new IOException(format("Malformed binary log file (unknown dictionary entry {0})", String.valueOf(identifier)));
+		return dictionary.get((int) identifier);
+	}
+
+	/**
+	 * Decodes the provided number of bytes of the record that has been read as a UTF-8 string.
+	 */
+	private String string(long length) throws IOException {
+		if (length > this.limit - this.position) throw new IOException("Malformed binary log file (record too short)");
+		String string = new String(this.record, this.position, (int) length, StandardCharsets.UTF_8);
+		this.position += (int) length;
+		return string;
+	}
+
+	/**
+	 * Decodes the remainder of the record that has been read as a UTF-8 string.
+	 */
+	private String string() {
+		String string = new String(this.record, this.position, this.limit - this.position, StandardCharsets.UTF_8);
+		this.position = this.limit;
+		return string;
+	}
+
+	/**
+	 * Decodes an unsigned varint, either from the stream (returning {@code -1} if the stream has ended before
+	 * it) or from the record that has been read.
+	 */
+	private long varint(boolean stream) throws IOException {
+		long value = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			if (!stream && this.position >= this.limit) throw new IOException("Malformed binary log file (record too short)");
+			int read = stream ? this.input.read() : (this.record[this.position++] & 0xFF);
+			if (read == -1) {
+				if (shift == 0) return -1;
+				throw new EOFException("Truncated binary log file");
+			}
+			value |= (long) (read & 0x7F) << shift;
+			if ((read & 0x80) == 0) return value;
+		}
+		throw new IOException("Malformed binary log file (varint too long)");
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.input.close();
+	}
+
+	/**
+	 * Converts the provided files back to text, writing them to {@code stdout}.
+	 * @see BinaryDecoder
+	 */
+	public static void main(String... arguments) throws IOException {
+		boolean csv = Arrays.asList(arguments).contains("--csv");
+		if (Arrays.stream(arguments).allMatch(argument -> argument.startsWith("--"))) {
+			System.err.println("Usage: BinaryDecoder [--csv] <file>...");
+			System.exit(1);
+			return;
+		}
+
+		CsvFormat format = new CsvFormat();
+		FileBuffer buffer = new FileBuffer();
+		try (WritableByteChannel output = Channels.newChannel(new BufferedOutputStream(System.out, 1 << 16))) {
+			if (csv) output.write(ByteBuffer.wrap(format.header()));
+			for (String argument : arguments) {
+				if (argument.startsWith("--")) continue;
+				try (BinaryDecoder decoder = open(Path.of(argument))) {
+					for (LoggerMessage message; (message = decoder.next()) != null; ) {
+						buffer.clear();
+						if (csv) format.encode(message, buffer);
+						else buffer.utf8("[" + message.time() + " | " + message.level().display() + " | " + message.thread() + " | " + message.name() + "] " + message.text() + "\n", false);
+
+						ByteBuffer bytes = buffer.flip();
+						while (bytes.hasRemaining()) output.write(bytes);
+					}
+				}
+			}
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,255 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerContext;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerFields;
+
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of {@link FileFormat} that writes a compact binary record for each event, which is read
+ * with {@link BinaryDecoder}.
+ * <p>
+ * Every file starts with {@link BinaryFormat#MAGIC} and {@link BinaryFormat#VERSION}, followed by records that
+ * are each prefixed with their length as an unsigned varint, and then a byte for their type:
+ * <ul>
+ *     <li>{@link BinaryFormat#NAME}, {@link BinaryFormat#THREAD} and {@link BinaryFormat#KEY} add the UTF-8 string
+ *     that follows to the dictionary of logger names, thread names or keys (of fields and of the context) respectively,
+ *     with the next identifier (starting at zero).</li>
+ *     <li>{@link BinaryFormat#RESET} clears the dictionaries and the time of the previous message, which is
+ *     written at the start of every block indexed by {@link FileIndex}, and whenever any of the dictionaries
+ *     becomes full, as thread names are not bounded when virtual threads are in use.</li>
+ *     <li>{@link BinaryFormat#MESSAGE} contains the time as a zigzag varint of nanoseconds since the previous
+ *     message in the file (or the epoch, for the first message after a reset), the ordinal of the level as a byte, the
+ *     identifiers of the thread name and logger name in their dictionaries as unsigned varints, the identifier
+ *     of the thread plus one as an unsigned varint (zero if it is not known), the identifier of the carrier in
+ *     the dictionary of thread names plus one as an unsigned varint (zero if the thread is not virtual), the
+ *     structured fields, the diagnostic context, and then the text as UTF-8 for the remainder of the record.</li>
+ * </ul>
+ * The structured fields are written as their number, followed by the identifier of the key of each field in the
+ * dictionary of keys, the ordinal of its {@link LoggerFields.Type} as a byte, and its value: a {@code long} as a
+ * zigzag varint, a {@code double} as the unsigned varint of its raw bits, a {@code boolean} as a byte, and a reference
+ * as a string of its {@link String#valueOf(Object)} (with the length plus one, or zero for {@code null}). The
+ * diagnostic context is written as the number of its entries, followed by the identifier of the key of each entry and
+ * its value as a string, and then the number of messages on its stack, followed by each of them as a string. Strings
+ * within a record are prefixed with their length in bytes as an unsigned varint. References are therefore read back
+ * as strings.
+ * A record of zero length marks the end of the file, which is how the zeroes left behind in a mapped file by
+ * a crash are read.
+ */
+@Internal
+final class BinaryFormat implements FileFormat {
+
+	@Serial
+	private static final long serialVersionUID = 2287610542734178093L;
+
+	static final byte[] MAGIC = {'S', 'L', 'O', 'G'};
+	static final int VERSION = 1;
+
+	static final int MESSAGE = 0;
+	static final int NAME = 1;
+	static final int THREAD = 2;
+	static final int RESET = 3;
+	static final int KEY = 4;
+
+	private static final int DICTIONARY = 1 << 16;
+
+	private final Map<String, Integer> names = new HashMap<>();
+	private final Map<String, Integer> threads = new HashMap<>();
+	private final Map<String, Integer> keys = new HashMap<>();
+	private long previous;
+
+	private final Buffer record = new Buffer();
+	private FileBuffer output;
+
+	@Override
+	public String extension() {
+		return ".slog";
+	}
+
+	@Override
+	public byte[] header() {
+		this.names.clear();
+		this.threads.clear();
+		this.keys.clear();
+		this.previous = 0;
+
+		byte[] header = Arrays.copyOf(MAGIC, MAGIC.length + 1);
+		header[MAGIC.length] = VERSION;
+		return header;
+	}
+
+	@Override
+	public void encode(LoggerEvent event, FileBuffer buffer) {
+		this.output = buffer;
+		if (this.names.size() >= DICTIONARY || this.threads.size() >= DICTIONARY || this.keys.size() >= DICTIONARY) this.reset();
+
+		int thread = this.identify(this.threads, THREAD, event.thread());
+		int name = this.identify(this.names, NAME, event.name());
+		int carrier = (event.carrier() == null) ? 0 : this.identify(this.threads, THREAD, event.carrier()) + 1;
+
+		LoggerFields fields = event.fields();
+		LoggerContext context = event.context();
+		for (int i = 0; i < fields.size(); i++) this.identify(this.keys, KEY, fields.key(i));
+		for (int i = 0; i < context.size(); i++) this.identify(this.keys, KEY, context.key(i));
+
+		long nanos = event.nanos();
+		long delta = nanos - this.previous;
+		this.previous = nanos;
+
+		this.record.length = 0;
+		this.record.write(MESSAGE);
+		this.record.varint((delta << 1) ^ (delta >> 63));
+		this.record.write(event.level().ordinal());
+		this.record.varint(thread);
+		this.record.varint(name);
+		this.record.varint(event.threadId() + 1);
+		this.record.varint(carrier);
+		this.fields(fields);
+		this.context(context);
+		this.record.write(String.valueOf(event.text()).getBytes(StandardCharsets.UTF_8));
+		this.flush();
+		this.output = null;
+	}
+
+	/**
+	 * Appends the provided fields to the record, the keys of which must already be in the dictionary of keys.
+	 */
+	private void fields(LoggerFields fields) {
+		this.record.varint(fields.size());
+		for (int i = 0; i < fields.size(); i++) {
+			LoggerFields.Type type = fields.type(i);
+			this.record.varint(this.keys.get(fields.key(i)));
+			this.record.write(type.ordinal());
+			switch (type) {
+				case LONG -> {
+					long value = fields.longValue(i);
+					this.record.varint((value << 1) ^ (value >> 63));
+				}
+				case DOUBLE -> this.record.varint(Double.doubleToRawLongBits(fields.doubleValue(i)));
+				case BOOLEAN -> this.record.write(fields.booleanValue(i) ? 1 : 0);
+				case OBJECT -> {
+					Object value = fields.value(i);
+					if (value == null) {
+						this.record.varint(0);
+						continue;
+					}
+					byte[] bytes = String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+					this.record.varint(bytes.length + 1L);
+					this.record.write(bytes);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Appends the provided context to the record, the keys of which must already be in the dictionary of keys.
+	 */
+	private void context(LoggerContext context) {
+		this.record.varint(context.size());
+		for (int i = 0; i < context.size(); i++) {
+			this.record.varint(this.keys.get(context.key(i)));
+			this.record.string(String.valueOf(context.value(i)));
+		}
+
+		List<String> stack = context.stack();
+		this.record.varint(stack.size());
+		for (String message : stack) this.record.string(String.valueOf(message));
+	}
+
+	@Override
+	public void block(FileBuffer buffer) {
+		this.output = buffer;
+		this.reset();
+		this.output = null;
+	}
+
+	/**
+	 * Clears both dictionaries and the time of the previous message, writing a record for it.
+	 */
+	private void reset() {
+		this.names.clear();
+		this.threads.clear();
+		this.keys.clear();
+		this.previous = 0;
+		this.record.length = 0;
+		this.record.write(RESET);
+		this.flush();
+	}
+
+	/**
+	 * Returns the identifier of the provided string in the provided dictionary, adding it to the dictionary
+	 * (and writing a record for it) if it is not already present.
+	 */
+	private int identify(Map<String, Integer> dictionary, int type, String value) {
+		String string = (value == null) ? "" : value;
+		Integer identifier = dictionary.get(string);
+		if (identifier != null) return identifier;
+
+		identifier = dictionary.size();
+		dictionary.put(string, identifier);
+
+		this.record.length = 0;
+		this.record.write(type);
+		this.record.write(string.getBytes(StandardCharsets.UTF_8));
+		this.flush();
+		return identifier;
+	}
+
+	/**
+	 * Appends the record that has been built to the output, prefixed with its length.
+	 */
+	private void flush() {
+		this.output.varint(this.record.length);
+		this.output.put(this.record.bytes, 0, this.record.length);
+	}
+
+	/**
+	 * A growable array of bytes that each record is built in before its length is known, reused for every record.
+	 */
+	private static final class Buffer {
+
+		private byte[] bytes = new byte[256];
+		private int length;
+
+		private void write(int value) {
+			this.ensure(1);
+			this.bytes[this.length++] = (byte) value;
+		}
+
+		private void write(byte[] value) {
+			this.write(value, value.length);
+		}
+
+		private void write(byte[] value, int length) {
+			this.ensure(length);
+			System.arraycopy(value, 0, this.bytes, this.length, length);
+			this.length += length;
+		}
+
+		private void string(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			this.varint(bytes.length);
+			this.write(bytes);
+		}
+
+		private void varint(long value) {
+			this.ensure(10);
+			while ((value & ~0x7FL) != 0) {
+				this.bytes[this.length++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			this.bytes[this.length++] = (byte) value;
+		}
+
+		private void ensure(int length) {
+			if (this.length + length > this.bytes.length) this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.length + length));
+		}
+	}
+}
\ No newline at end of file
@@ -3,12 +3,15 @@ package sirius.stellar.logging.collect;
 import org.jetbrains.annotations.Contract;
 import sirius.stellar.facility.doctation.Internal;
 import sirius.stellar.logging.Logger;
+import sirius.stellar.logging.LoggerEvent;
 import sirius.stellar.logging.LoggerMessage;
 
 import java.io.PrintStream;
 import java.io.Serializable;
+import java.net.InetSocketAddress;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -65,6 +68,26 @@ public interface Collector extends AutoCloseable, Serializable {
 	 */
 	void collect(LoggerMessage message);
 
+	/**
+	 * Runs when a batch of logger messages is emitted.
+	 * <p>
+	 * The logging thread hands over every message it drained in a single pass (up to the size set by
+	 * {@link Logger#batch(int)}), in the order they were dispatched. By default, this simply invokes
+	 * {@link Collector#collect(LoggerMessage)} for each message, but collectors performing any I/O
+	 * should override this to amortize it over the whole batch, e.g., with a single write.
+	 * <p>
+	 * The provided list is reused by the logging thread after this method returns, and so it must not
+	 * be retained or modified. When {@link Logger#pooling(boolean)} is enabled, the events inside of it
+	 * are reused as well, so {@link LoggerEvent#message()} must be used to retain any of them; by default,
+	 * this is called for every event, so collectors that only override {@link Collector#collect(LoggerMessage)}
+	 * never need to be aware of this.
+	 *
+	 * @since 1u1
+	 */
+	default void collect(List<? extends LoggerEvent> events) {
+		for (LoggerEvent event : events) this.collect(event.message());
+	}
+
 	/**
 	 * Runs when this collector is closed.
 	 * <p>
@@ -158,6 +181,159 @@ public interface Collector extends AutoCloseable, Serializable {
 	 */
 	@Contract("null, null -> fail; !null, null -> fail; null, !null -> fail; !null, !null -> new")
 	static Collector file(Path path, Duration duration) {
-		return new FileCollector(path, duration);
+		return file(path, FileRolling.every(duration));
+	}
+
+	/**
+	 * Returns an instance that prints to log files.
+	 * <p>
+	 * Each message is written as a record of comma-separated values, with its time, level, thread, logger name and
+	 * text. Structured fields ({@link LoggerEvent#fields()}) and the diagnostic context ({@link LoggerEvent#context()})
+	 * are not written; {@link Collector#binary(Path, FileRolling)} writes both.
+	 *
+	 * @param path The root of where the files are output.
+	 * @param rolling When it rolls, and what happens to rolled files.
+	 *
+	 * @see Collector#file(Path, Duration)
+	 * @since 1u1
+	 */
+	@Contract("null, null -> fail; !null, null -> fail; null, !null -> fail; !null, !null -> new")
+	static Collector file(Path path, FileRolling rolling) {
+		if (path == null) throw new NullPointerException("Attempted to set file collector path to null");
+		if (rolling == null) throw new NullPointerException("Attempted to set file collector rolling to null");
+		return new FileCollector(path, rolling, false, new CsvFormat());
+	}
+
+	/**
+	 * Returns an instance that prints to log files, which are mapped into memory.
+	 * <p>
+	 * Rather than writing each batch of messages to the file, the file is extended in segments that are mapped
+	 * into memory, and messages are copied straight into them. This is considerably faster when logging heavily,
+	 * and messages are retained by the operating system even if the JVM crashes; however, the file is only
+	 * truncated to the length that was actually written when it is rolled or the collector is closed, so a
+	 * file left behind by a crash ends with zeroes. As with {@link Collector#file(Path, FileRolling)}, structured fields
+	 * and the diagnostic context are not written.
+	 *
+	 * @param path The root of where the files are output.
+	 * @param duration How often it rolls.
+	 *
+	 * @see Collector#file(Path, Duration)
+	 * @since 1u1
+	 */
+	@Contract("null, null -> fail; !null, null -> fail; null, !null -> fail; !null, !null -> new")
+	static Collector mapped(Path path, Duration duration) {
+		return mapped(path, FileRolling.every(duration));
+	}
+
+	/**
+	 * Returns an instance that prints to log files, which are mapped into memory.
+	 *
+	 * @param path The root of where the files are output.
+	 * @param rolling When it rolls, and what happens to rolled files.
+	 *
+	 * @see Collector#mapped(Path, Duration)
+	 * @since 1u1
+	 */
+	@Contract("null, null -> fail; !null, null -> fail; null, !null -> fail; !null, !null -> new")
+	static Collector mapped(Path path, FileRolling rolling) {
+		if (path == null) throw new NullPointerException("Attempted to set file collector path to null");
+		if (rolling == null) throw new NullPointerException("Attempted to set file collector rolling to null");
+		return new FileCollector(path, rolling, true, new CsvFormat());
+	}
+
+	/**
+	 * Returns an instance that prints to log files in a compact binary format, which are mapped into memory.
+	 * <p>
+	 * Each message is written as a record prefixed with its length, with the time encoded as the difference from the
+	 * previous message, and the names of loggers and threads each written once per file and then referred to by an
+	 * identifier, which takes up several times less space than {@link Collector#file(Path, FileRolling)}. Structured
+	 * fields and the diagnostic context are written too, with their keys referred to by an identifier in the same way.
+	 * The files can be read with {@link BinaryDecoder}, which can also be run from the command line to convert them
+	 * to text.
+	 *
+	 * @param path The root of where the files are output.
+	 * @param rolling When it rolls, and what happens to rolled files.
+	 *
+	 * @see Collector#mapped(Path, FileRolling)
+	 * @since 1u1
+	 */
+	@Contract("null, null -> fail; !null, null -> fail; null, !null -> fail; !null, !null -> new")
+	static Collector binary(Path path, FileRolling rolling) {
+		if (path == null) throw new NullPointerException("Attempted to set file collector path to null");
+		if (rolling == null) throw new NullPointerException("Attempted to set file collector rolling to null");
+		return new FileCollector(path, rolling, true, new BinaryFormat());
+	}
+
+	/**
+	 * Returns an instance that retains the most recent messages in memory, which can then be queried.
+	 * <p>
+	 * The text of the messages is stored in a direct buffer of the provided size, rather than on the heap,
+	 * and collecting a message does not allocate, so this can be left registered at all times to provide
+	 * the messages leading up to an incident without reading any files.
+	 *
+	 * @param records The maximum number of messages retained, rounded up to the next power of two.
+	 * @param bytes The maximum size of the text of the messages retained, encoded as UTF-8.
+	 *
+	 * @see MemoryCollector#tail(int)
+	 * @see MemoryCollector#since(java.time.Instant)
+	 * @since 1u1
+	 */
+	@Contract("_, _ -> new")
+	static MemoryCollector memory(int records, int bytes) {
+		if (records <= 0 || records > (1 << 30)) throw new UnsupportedOperationException("Memory collector records must be between 1 and 2^30");
+		if (bytes <= 0) throw new UnsupportedOperationException("Memory collector bytes must be between 1 and Integer#MAX_VALUE");
+		return new MemoryCollector(records, bytes);
+	}
+
+	/**
+	 * Returns an instance that sends messages to a relay, e.g., a syslog agent, over TCP.
+	 * <p>
+	 * Messages are sent in the format specified by RFC 5424, framed by prefixing each of them with their length as
+	 * specified by RFC 6587, with every batch written to the socket at once. While the relay cannot be reached,
+	 * messages are appended to the provided spool file instead, and connecting is attempted again with an exponential
+	 * backoff; once connected, everything spooled (including anything left from a previous run) is replayed first.
+	 * Only the logger name and thread are sent as structured data; structured fields ({@link LoggerEvent#fields()})
+	 * and the diagnostic context ({@link LoggerEvent#context()}) are not sent.
+	 * <p>
+	 * Writing to the socket blocks while the relay is not reading, so this should usually be registered with its own
+	 * queue, with {@link Logger#collector(Collector, int, sirius.stellar.logging.LoggerOverflow)}.
+	 *
+	 * @param address The address of the relay.
+	 * @param spool The file that messages are spooled to while the relay cannot be reached.
+	 * @param bytes The maximum size of the spool, beyond which messages are dropped.
+	 *
+	 * @see Collector#udp(InetSocketAddress, Path, long)
+	 * @since 1u1
+	 */
+	@Contract("null, _, _ -> fail; _, null, _ -> fail; _, _, _ -> new")
+	static NetworkCollector tcp(InetSocketAddress address, Path spool, long bytes) {
+		if (address == null) throw new NullPointerException("Attempted to set network collector address to null");
+		if (spool == null) throw new NullPointerException("Attempted to set network collector spool to null");
+		if (bytes <= 0) throw new UnsupportedOperationException("Network collector spool size must be between 1 and Long#MAX_VALUE");
+		return new NetworkCollector(address, false, spool, bytes);
+	}
+
+	/**
+	 * Returns an instance that sends messages to a relay, e.g., a syslog agent, over UDP.
+	 * <p>
+	 * Messages are sent in the format specified by RFC 5424, one message per datagram as specified by RFC 5426, and
+	 * are truncated if they do not fit into a datagram. Messages can only be spooled if sending them fails locally,
+	 * e.g., if the relay was reported to be unreachable for the previous datagram, as delivery is never acknowledged.
+	 * As with {@link Collector#tcp(InetSocketAddress, Path, long)}, structured fields and the diagnostic context are
+	 * not sent.
+	 *
+	 * @param address The address of the relay.
+	 * @param spool The file that messages are spooled to while the relay cannot be reached.
+	 * @param bytes The maximum size of the spool, beyond which messages are dropped.
+	 *
+	 * @see Collector#tcp(InetSocketAddress, Path, long)
+	 * @since 1u1
+	 */
+	@Contract("null, _, _ -> fail; _, null, _ -> fail; _, _, _ -> new")
+	static NetworkCollector udp(InetSocketAddress address, Path spool, long bytes) {
+		if (address == null) throw new NullPointerException("Attempted to set network collector address to null");
+		if (spool == null) throw new NullPointerException("Attempted to set network collector spool to null");
+		if (bytes <= 0) throw new UnsupportedOperationException("Network collector spool size must be between 1 and Long#MAX_VALUE");
+		return new NetworkCollector(address, true, spool, bytes);
 	}
 }
\ No newline at end of file
@@ -4,14 +4,26 @@ import sirius.stellar.facility.Strings;
 import sirius.stellar.facility.doctation.Internal;
 import sirius.stellar.logging.Logger;
 import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerEvent;
 import sirius.stellar.logging.LoggerMessage;
 
+import java.io.Console;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Instant;
-import java.util.Date;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.Locale;
 import java.util.function.Consumer;
 
@@ -24,6 +36,11 @@ import static sirius.stellar.facility.terminal.TerminalColor.*;
  * Only one instance of this class should ever be created as when creating
  * an instance, the {@link System#setOut(PrintStream)} method as well as
  * the {@link System#setErr(PrintStream)} method should be called.
+ * <p>
+ * Each batch is rendered into a {@link FileBuffer} and written to the standard output file descriptor with
+ * a single write, rather than through a {@link PrintStream}. Everything surrounding the thread, name and text
+ * of each line (including the colors) is rendered once per level in advance, and the time is only formatted
+ * once per second. Colors are left out if the standard output is not a terminal, or if {@code NO_COLOR} is set.
  */
 @Internal
 final class ConsoleCollector implements Collector {
@@ -31,10 +48,46 @@ final class ConsoleCollector implements Collector {
 	@Serial
 	private static final long serialVersionUID = -6081062057103191874L;
 
-	private final PrintStream stream;
-
-	private ConsoleCollector(PrintStream stream) {
-		this.stream = stream;
+	private static final DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+	private final FileChannel channel;
+	private final boolean colored;
+	private final FileBuffer buffer;
+
+	private final byte[] open;
+	private final byte[][] levels;
+	private final byte[] separator;
+	private final byte[] close;
+	private final byte[] line;
+
+	private long second = Long.MIN_VALUE;
+	private byte[] time;
+
+	private ConsoleCollector(FileChannel channel, boolean colored) {
+		this.channel = channel;
+		this.colored = colored;
+		this.buffer = new FileBuffer();
+
+		String dim = colored ? BLACK.foreground().bright().toString() : "";
+		String plain = colored ? WHITE.foreground().dark().toString() : "";
+		String text = colored ? DEFAULT.foreground().bright().toString() : "";
+
+		this.open = this.bytes(dim + "[" + plain);
+		this.separator = this.bytes(" " + dim + "| " + plain);
+		this.close = this.bytes(dim + "] " + text);
+		this.line = this.bytes(System.lineSeparator());
+
+		this.levels = new byte[LoggerLevel.values().length][];
+		for (LoggerLevel level : LoggerLevel.values()) {
+			String color = !colored ? "" : switch (level) {
+				case ALL, INFORMATION -> BLUE.foreground().bright().toString();
+				case WARNING -> YELLOW.foreground().bright().toString();
+				case ERROR, STACKTRACE -> RED.foreground().bright().toString();
+				case DEBUGGING, CONFIGURATION -> MAGENTA.foreground().bright().toString();
+				case OFF -> "";
+			};
+			this.levels[level.ordinal()] = this.bytes(" " + dim + "| " + plain + color + level.display() + " " + dim + "| " + plain);
+		}
 	}
 
 	/**
@@ -46,37 +99,98 @@ final class ConsoleCollector implements Collector {
 	 * that will pass messages through to the logger at appropriate levels.
 	 */
 	public static ConsoleCollector get() {
-		ConsoleCollector collector = new ConsoleCollector(System.out);
-		System.setOut(new DelegatePrintStream(text -> Logger.dispatch(Instant.now(), LoggerLevel.INFORMATION, Thread.currentThread().getName(), "stdout", text)));
-		System.setErr(new DelegatePrintStream(text -> Logger.dispatch(Instant.now(), LoggerLevel.ERROR, Thread.currentThread().getName(), "stderr", text)));
+		System.out.flush();
+		boolean colored = terminal() && System.getenv("NO_COLOR") == null;
+		ConsoleCollector collector = new ConsoleCollector(new FileOutputStream(FileDescriptor.out).getChannel(), colored);
+		System.setOut(new DelegatePrintStream(text -> Logger.dispatch(LoggerLevel.INFORMATION, Thread.currentThread().getName(), "stdout", text)));
+		System.setErr(new DelegatePrintStream(text -> Logger.dispatch(LoggerLevel.ERROR, Thread.currentThread().getName(), "stderr", text)));
 		return collector;
 	}
 
+	/**
+	 * Returns whether the standard output is a terminal.
+	 * <p>
+	 * Where the target of the standard output descriptor can be read (i.e., on Linux), it is checked directly.
+	 * Otherwise, {@code Console.isTerminal()} is used where it is available (from Java 22, where a console is
+	 * returned even if the standard output is redirected), and before that, whether there is a console at all.
+	 */
+	private static boolean terminal() {
+		try {
+			Path descriptor = Path.of("/proc/self/fd/1");
+			if (Files.isSymbolicLink(descriptor)) {
+				String target = Files.readSymbolicLink(descriptor).toString();
+				return target.startsWith("/dev/pts/") || target.startsWith("/dev/tty");
+			}
+		} catch (IOException | UnsupportedOperationException | SecurityException exception) {
+			assert true; // the descriptor cannot be read on this platform, so fall back to the console
+		}
+
+		Console console = System.console();
+		if (console == null) return false;
+		try {
+			return (boolean) Console.class.getMethod("isTerminal").invoke(console);
+		} catch (NoSuchMethodException exception) {
+			return true; // before Java 22, a console is only returned if both the standard input and output are terminals
+		} catch (ReflectiveOperationException exception) {
+			return false;
+		}
+	}
+
 	@Override
 	public void collect(LoggerMessage message) {
-		this.stream.println(format(
-				"{5}[{6}{0,date,dd/MM/yyyy HH:mm:ss} {5}| {6}{1} {5}| {6}{2} {5}| {6}{3}{5}] {7}{4}",
-				Date.from(message.time()),
-				switch (message.level()) {
-					case ALL, INFORMATION -> BLUE.foreground().bright() + message.level().display();
-					case WARNING -> YELLOW.foreground().bright() + message.level().display();
-					case ERROR, STACKTRACE -> RED.foreground().bright() + message.level().display();
-					case DEBUGGING, CONFIGURATION -> MAGENTA.foreground().bright() + message.level().display();
-					case OFF -> message.level().display();
-				},
-				message.thread(),
-				message.name(),
-				message.text(),
-
-				BLACK.foreground().bright(),
-				WHITE.foreground().dark(),
-				DEFAULT.foreground().bright()
-		));
+		this.collect(List.of(message));
+	}
+
+	@Override
+	public void collect(List<? extends LoggerEvent> events) {
+		this.buffer.clear();
+		for (LoggerEvent event : events) this.render(event);
+
+		try {
+			ByteBuffer buffer = this.buffer.flip();
+			while (buffer.hasRemaining()) this.channel.write(buffer);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to write to console", exception);
+		}
+	}
+
+	/**
+	 * Renders the provided event as a line of console output into the buffer.
+	 */
+	private void render(LoggerEvent event) {
+		this.buffer.put(this.open);
+		this.buffer.put(this.time(event.nanos()));
+		this.buffer.put(this.levels[event.level().ordinal()]);
+		this.buffer.utf8(event.thread(), false);
+		this.buffer.put(this.separator);
+		this.buffer.utf8(event.name(), false);
+		this.buffer.put(this.close);
+		this.buffer.utf8(event.text(), false);
+		this.buffer.put(this.line);
+	}
+
+	/**
+	 * Returns the provided time formatted in the time zone of the system, which is cached until the second changes.
+	 */
+	private byte[] time(long nanos) {
+		long second = Math.floorDiv(nanos, 1_000_000_000L);
+		if (second == this.second) return this.time;
+
+		this.second = second;
+		this.time = this.bytes(formatter.format(Instant.ofEpochSecond(second).atZone(ZoneId.systemDefault())));
+		return this.time;
+	}
+
+	/**
+	 * Returns the provided string encoded as UTF-8.
+	 */
+	private byte[] bytes(String string) {
+		return string.getBytes(StandardCharsets.UTF_8);
 	}
 
 	@Override
 	public String toString() {
-		return format("ConsoleCollector[stream={0}]", this.stream.toString());
+		return format("ConsoleCollector[channel={0}, colored={1}]", this.channel.toString(), this.colored);
 	}
 }
 
@@ -0,0 +1,194 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serial;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Implementation of {@link FileFormat} that writes a record of comma-separated values for each event, as
+ * specified by RFC 4180; every field is quoted, quotes are escaped by doubling them, line breaks are kept
+ * inside the quoted field, and records end with {@code CRLF}.
+ * <p>
+ * Each record is encoded in a single pass straight into the {@link FileBuffer}. The time is written in
+ * the same format as {@link Instant#toString()}, with the date and time up to the second cached, as it
+ * is usually the same as the previous record.
+ * <p>
+ * Only the time, level, thread, logger name and text are written; the structured fields and the diagnostic
+ * context of the event are not, as they would not fit into a fixed set of columns.
+ */
+@Internal
+final class CsvFormat implements FileFormat {
+
+	@Serial
+	private static final long serialVersionUID = 6021731569263117083L;
+
+	private static final byte[] HEADER = "\"time\",\"level\",\"thread\",\"name\",\"text\"\r\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] SEPARATOR = "\",\"".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] TERMINATOR = "\"\r\n".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[][] LEVELS = new byte[LoggerLevel.values().length][];
+	private static final Map<String, LoggerLevel> DISPLAYS = new HashMap<>();
+
+	static {
+		for (LoggerLevel level : LoggerLevel.values()) {
+			LEVELS[level.ordinal()] = level.toString().getBytes(StandardCharsets.UTF_8);
+			DISPLAYS.put(level.toString(), level);
+		}
+	}
+
+	private final byte[] prefix = new byte[19];
+	private long second = Long.MIN_VALUE;
+
+	@Override
+	public String extension() {
+		return ".csv";
+	}
+
+	@Override
+	public byte[] header() {
+		return HEADER.clone();
+	}
+
+	@Override
+	public void encode(LoggerEvent event, FileBuffer buffer) {
+		buffer.put('"');
+		this.time(event.nanos(), buffer);
+		buffer.put(SEPARATOR);
+		buffer.put(LEVELS[event.level().ordinal()]);
+		buffer.put(SEPARATOR);
+		buffer.utf8(event.thread(), true);
+		buffer.put(SEPARATOR);
+		buffer.utf8(event.name(), true);
+		buffer.put(SEPARATOR);
+		buffer.utf8(event.text(), true);
+		buffer.put(TERMINATOR);
+	}
+
+	@Override
+	public void block(FileBuffer buffer) {
+		assert true; // every record is encoded on its own, so blocks can start at any record
+	}
+
+	/**
+	 * Decodes the record at the position of the provided buffer, advancing past it.
+	 * The position is left as it was if the buffer does not contain a complete, valid record at its position.
+	 *
+	 * @return The message, or null if there is no complete, valid record, e.g., at the end of the file.
+	 */
+	static LoggerMessage decode(ByteBuffer buffer) {
+		int start = buffer.position();
+		String[] fields = new String[5];
+		ByteArrayOutputStream field = new ByteArrayOutputStream();
+
+		for (int i = 0; i < fields.length; i++) {
+			if (!buffer.hasRemaining() || buffer.get() != '"') return reset(buffer, start);
+			while (true) {
+				if (!buffer.hasRemaining()) return reset(buffer, start);
+				byte value = buffer.get();
+				if (value != '"') {
+					field.write(value);
+					continue;
+				}
+				if (!buffer.hasRemaining()) return reset(buffer, start);
+				if (buffer.get(buffer.position()) != '"') break;
+				buffer.get();
+				field.write('"');
+			}
+			fields[i] = field.toString(StandardCharsets.UTF_8);
+			field.reset();
+
+			if (i < fields.length - 1 && (!buffer.hasRemaining() || buffer.get() != ',')) return reset(buffer, start);
+		}
+		if (buffer.remaining() < 2 || buffer.get() != '\r' || buffer.get() != '\n') return reset(buffer, start);
+
+		LoggerLevel level = DISPLAYS.get(fields[1]);
+		if (level == null) return reset(buffer, start);
+		try {
+			return new LoggerMessage(Instant.parse(fields[0]), level, fields[2], fields[3], fields[4]);
+		} catch (DateTimeParseException exception) {
+			return reset(buffer, start);
+		}
+	}
+
+	/**
+	 * Returns the provided buffer to the provided position, returning null for convenience.
+	 */
+	private static LoggerMessage reset(ByteBuffer buffer, int position) {
+		buffer.position(position);
+		return null;
+	}
+
+	/**
+	 * Appends the provided time in the same format as {@link Instant#toString()}, falling back to it
+	 * for years that cannot be written with four digits.
+	 */
+	private void time(long nanos, FileBuffer buffer) {
+		long seconds = Math.floorDiv(nanos, 1_000_000_000L);
+		int nano = (int) Math.floorMod(nanos, 1_000_000_000L);
+
+		if (seconds != this.second && !this.prefix(seconds)) {
+			buffer.utf8(Instant.ofEpochSecond(seconds, nano).toString(), false);
+			return;
+		}
+		buffer.put(this.prefix);
+
+		if (nano != 0) {
+			buffer.put('.');
+			if (nano % 1_000_000 == 0) buffer.digits(nano / 1_000_000, 3);
+			else if (nano % 1_000 == 0) buffer.digits(nano / 1_000, 6);
+			else buffer.digits(nano, 9);
+		}
+		buffer.put('Z');
+	}
+
+	/**
+	 * Caches the date and time up to the provided second as {@code yyyy-MM-ddTHH:mm:ss}, converting the
+	 * number of days since the epoch to a civil date without going through {@link java.time}.
+	 *
+	 * @return Whether the year could be written with four digits.
+	 */
+	private boolean prefix(long seconds) {
+		long days = Math.floorDiv(seconds, 86_400L);
+		int time = (int) Math.floorMod(seconds, 86_400L);
+
+		long shifted = days + 719_468L;
+		long era = Math.floorDiv(shifted, 146_097L);
+		long day = shifted - era * 146_097L;
+		long year = (day - day / 1_460 + day / 36_524 - day / 146_096) / 365;
+		long dayOfYear = day - (365 * year + year / 4 - year / 100);
+		long shiftedMonth = (5 * dayOfYear + 2) / 153;
+		long dayOfMonth = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		long month = (shiftedMonth < 10) ? shiftedMonth + 3 : shiftedMonth - 9;
+		year += era * 400 + ((month <= 2) ? 1 : 0);
+		if (year < 0 || year > 9999) return false;
+
+		this.write(0, year, 4, '-');
+		this.write(5, month, 2, '-');
+		this.write(8, dayOfMonth, 2, 'T');
+		this.write(11, time / 3600, 2, ':');
+		this.write(14, (time / 60) % 60, 2, ':');
+		this.write(17, time % 60, 2, (char) 0);
+		this.second = seconds;
+		return true;
+	}
+
+	/**
+	 * Writes the provided value into the cached prefix at the provided offset, followed by the provided separator.
+	 */
+	private void write(int offset, long value, int width, char separator) {
+		for (int i = width - 1; i >= 0; i--) {
+			this.prefix[offset + i] = (byte) ('0' + (value % 10));
+			value /= 10;
+		}
+		if (separator != 0) this.prefix[offset + width] = (byte) separator;
+	}
+}
\ No newline at end of file
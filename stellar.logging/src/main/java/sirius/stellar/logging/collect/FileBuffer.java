@@ -0,0 +1,150 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.facility.doctation.Internal;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A reusable, growable direct buffer that a {@link FileFormat} encodes a batch of events into, which is then
+ * written to the file by {@link FileCollector} without being copied into a temporary direct buffer first.
+ * <p>
+ * Strings are encoded as UTF-8 one character at a time, straight into the buffer, rather than through an
+ * intermediate array. Unpaired surrogates are encoded as {@code ?}, the same as {@link String#getBytes}.
+ */
+@Internal
+final class FileBuffer {
+
+	private static final int INITIAL = 64 * 1024;
+	private static final int RETAINED = 1024 * 1024;
+
+	private ByteBuffer buffer = ByteBuffer.allocateDirect(INITIAL);
+
+	/**
+	 * Appends the provided byte.
+	 */
+	void put(int value) {
+		this.ensure(1);
+		this.buffer.put((byte) value);
+	}
+
+	/**
+	 * Appends the provided bytes.
+	 */
+	void put(byte[] value) {
+		this.put(value, 0, value.length);
+	}
+
+	/**
+	 * Appends the provided range of bytes.
+	 */
+	void put(byte[] value, int offset, int length) {
+		this.ensure(length);
+		this.buffer.put(value, offset, length);
+	}
+
+	/**
+	 * Appends the remaining bytes of the provided buffer.
+	 */
+	void put(ByteBuffer value) {
+		this.ensure(value.remaining());
+		this.buffer.put(value);
+	}
+
+	/**
+	 * Appends the provided value as an unsigned varint, seven bits at a time.
+	 */
+	void varint(long value) {
+		this.ensure(10);
+		while ((value & ~0x7FL) != 0) {
+			this.buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+		this.buffer.put((byte) value);
+	}
+
+	/**
+	 * Appends the provided value as exactly the provided number of decimal digits, padded with zeroes.
+	 * The value must not be negative, nor have more digits than that.
+	 */
+	void digits(long value, int width) {
+		this.ensure(width);
+		int start = this.buffer.position();
+		for (int i = width - 1; i >= 0; i--) {
+			this.buffer.put(start + i, (byte) ('0' + (value % 10)));
+			value /= 10;
+		}
+		this.buffer.position(start + width);
+	}
+
+	/**
+	 * Appends the provided characters encoded as UTF-8, doubling any quotes if the value is quoted.
+	 * The string {@code null} is appended if the value is null.
+	 */
+	void utf8(CharSequence value, boolean quoted) {
+		if (value == null) value = "null";
+		int length = value.length();
+		this.ensure(length * 3);
+
+		for (int i = 0; i < length; i++) {
+			char character = value.charAt(i);
+			if (character < 0x80) {
+				if (character == '"' && quoted) this.buffer.put((byte) '"');
+				this.buffer.put((byte) character);
+			} else if (character < 0x800) {
+				this.buffer.put((byte) (0xC0 | (character >> 6)));
+				this.buffer.put((byte) (0x80 | (character & 0x3F)));
+			} else if (Character.isSurrogate(character)) {
+				char low = (i + 1 < length) ? value.charAt(i + 1) : 0;
+				if (!Character.isHighSurrogate(character) || !Character.isLowSurrogate(low)) {
+					this.buffer.put((byte) '?');
+					continue;
+				}
+				int point = Character.toCodePoint(character, low);
+				i++;
+				this.buffer.put((byte) (0xF0 | (point >> 18)));
+				this.buffer.put((byte) (0x80 | ((point >> 12) & 0x3F)));
+				this.buffer.put((byte) (0x80 | ((point >> 6) & 0x3F)));
+				this.buffer.put((byte) (0x80 | (point & 0x3F)));
+			} else {
+				this.buffer.put((byte) (0xE0 | (character >> 12)));
+				this.buffer.put((byte) (0x80 | ((character >> 6) & 0x3F)));
+				this.buffer.put((byte) (0x80 | (character & 0x3F)));
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of bytes appended since this buffer was last cleared.
+	 */
+	int position() {
+		return this.buffer.position();
+	}
+
+	/**
+	 * Returns the underlying buffer, flipped so that everything appended since it was last cleared can be read.
+	 */
+	ByteBuffer flip() {
+		return this.buffer.flip();
+	}
+
+	/**
+	 * Clears this buffer for reuse, releasing it if it has grown far larger than usual.
+	 */
+	void clear() {
+		if (this.buffer.capacity() > RETAINED) this.buffer = ByteBuffer.allocateDirect(INITIAL);
+		this.buffer.clear();
+	}
+
+	/**
+	 * Grows the underlying buffer if there is not enough space remaining for the provided number of bytes.
+	 * Three bytes per character is enough for any string, as only surrogate pairs are encoded with four.
+	 */
+	private void ensure(int length) {
+		if (this.buffer.remaining() >= length) return;
+
+		int capacity = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(this.buffer.capacity() * 2L, (long) this.buffer.position() + length));
+		ByteBuffer buffer = ByteBuffer.allocateDirect(capacity);
+		buffer.put(this.buffer.flip());
+		this.buffer = buffer;
+	}
+}
\ No newline at end of file
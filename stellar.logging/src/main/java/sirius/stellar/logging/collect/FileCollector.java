@@ -1,86 +1,181 @@
 package sirius.stellar.logging.collect;
 
 import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerEvent;
 import sirius.stellar.logging.LoggerMessage;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.io.Serial;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
-import java.time.Duration;
 import java.time.Instant;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
 
 /**
- * Implementation of {@link Collector} that prints to log files.
+ * Implementation of {@link Collector} that prints to log files, in the provided {@link FileFormat}.
+ * <p>
+ * When mapped, the file is extended in fixed-size segments that are mapped into memory with
+ * {@link FileChannel#map}, and lines are copied straight into the mapped segment rather than written with a
+ * system call; the next segment is mapped once the current one is half full, so that switching segments
+ * never waits for a mapping to be created. The pages belong to the operating system, so anything copied
+ * into them is retained even if the JVM crashes, however, the file is only truncated to the length
+ * actually written when it is closed or rolled, so a file left behind by a crash ends with zeroes.
+ * <p>
+ * Files are rolled according to a {@link FileRolling}; compressing rolled files and deleting the files that
+ * are no longer retained is done with {@link Collector#task}, one roll at a time, so the logging thread never
+ * waits for it. Only files with names created by this collector are ever deleted.
+ * <p>
+ * Every file is written with a sidecar {@link FileIndex} of the blocks it is split into, which is deleted along with
+ * the file, so that {@link FileRangeReader} can read a range of time without scanning the whole file.
  */
 @Internal
 final class FileCollector implements Collector {
 
 	@Serial
 	private static final long serialVersionUID = 4479392734705305030L;
+	private static final int SEGMENT = 8 * 1024 * 1024;
 
 	private final Path path;
-	private final Duration duration;
+	private final FileRolling rolling;
+	private final boolean mapped;
+	private final FileFormat format;
+	private final FileBuffer buffer;
 
 	private final AtomicBoolean closing;
 	private final AtomicBoolean writing;
+	private final ReentrantLock housekeeping;
 
 	private FileChannel channel;
+	private FileIndex index;
 	private Instant rolled;
+	private volatile Path file;
+	private long written;
 
-	FileCollector(Path path, Duration duration) {
+	private MappedByteBuffer segment;
+	private MappedByteBuffer ahead;
+	private long base;
+
+	FileCollector(Path path, FileRolling rolling, boolean mapped, FileFormat format) {
 		this.path = path;
-		this.duration = duration;
+		this.rolling = rolling;
+		this.mapped = mapped;
+		this.format = format;
+		this.buffer = new FileBuffer();
 
 		this.closing = new AtomicBoolean();
 		this.writing = new AtomicBoolean();
+		this.housekeeping = new ReentrantLock();
 
 		this.roll();
 	}
 
 	@Override
 	public void collect(LoggerMessage message) {
+		this.collect(List.of(message));
+	}
+
+	@Override
+	public void collect(List<? extends LoggerEvent> events) {
 		try {
 			if (this.closing.get()) return;
 			this.writing.set(true);
 
-			if (this.rolled.plus(this.duration).isBefore(Instant.now())) this.roll();
+			if (this.rolled.plus(this.rolling.duration()).isBefore(Instant.now())) this.roll();
 
-			byte[] text = ("\"" +
-					message.time() + "\",\"" +
-					message.level() + "\",\"" +
-					message.thread() + "\",\"" +
-					message.name() + "\",\"" +
-					Arrays.stream(message.text()
-							.replaceAll("\"", "`")
-							.replaceAll("'", "`")
-							.split("\n"))
-							.map(string -> "'" + string + "'")
-							.collect(Collectors.joining()) +
-			"\"\n").getBytes(StandardCharsets.UTF_8);
+			long position = this.position();
+			this.buffer.clear();
+			for (LoggerEvent event : events) {
+				if (this.index.boundary(event.nanos())) {
+					this.index.start(position + this.buffer.position(), event.nanos());
+					this.format.block(this.buffer);
+				}
+				this.format.encode(event, this.buffer);
+				this.index.add(event);
+			}
+			ByteBuffer buffer = this.buffer.flip();
 
-			int written = this.channel.write(ByteBuffer.wrap(text));
-			if (written != text.length) throw new IllegalStateException("Failed to append to file (written length does not match expected length)");
-
-			this.writing.set(false);
+			if (this.mapped) {
+				this.append(buffer);
+			} else {
+				int length = buffer.remaining();
+				while (buffer.hasRemaining()) this.channel.write(buffer);
+				this.written += length;
+			}
+			this.index.flush();
+			if (this.position() >= this.rolling.size()) this.roll();
 		} catch (IOException exception) {
 			throw new IllegalStateException("Failed to append to file", exception);
+		} finally {
+			this.writing.set(false);
 		}
 	}
 
+	/**
+	 * Copies the provided bytes into the mapped segments of the file, moving on to the next segment when the current one
+	 * is full, and mapping the segment after that ahead of time.
+	 */
+	private void append(ByteBuffer bytes) throws IOException {
+		int limit = bytes.limit();
+		while (bytes.hasRemaining()) {
+			if (!this.segment.hasRemaining()) {
+				this.base += SEGMENT;
+				this.segment = (this.ahead == null) ? this.map(this.base) : this.ahead;
+				this.ahead = null;
+			}
+			bytes.limit(bytes.position() + Math.min(this.segment.remaining(), limit - bytes.position()));
+			this.segment.put(bytes);
+			bytes.limit(limit);
+		}
+		if (this.ahead == null && this.segment.position() >= SEGMENT / 2) this.ahead = this.map(this.base + SEGMENT);
+	}
+
+	/**
+	 * Maps the segment of the file starting at the provided offset, extending the file if required.
+	 */
+	private MappedByteBuffer map(long offset) throws IOException {
+		return this.channel.map(FileChannel.MapMode.READ_WRITE, offset, SEGMENT);
+	}
+
+	/**
+	 * Returns the length of the current file that has actually been written.
+	 */
+	private long position() {
+		return this.mapped ? this.base + this.segment.position() : this.written;
+	}
+
+	/**
+	 * Closes the current file, truncating it to the length actually written if it is mapped, and its index.
+	 */
+	private void finish() throws IOException {
+		if (this.channel == null || !this.channel.isOpen()) return;
+		long length = this.position();
+		if (this.mapped) {
+			this.segment = null;
+			this.ahead = null;
+			this.channel.truncate(length);
+		}
+		this.channel.close();
+		this.index.close(length);
+	}
+
 	@Override
 	public void close() throws IOException {
 		this.closing.set(true);
 		while (this.writing.get()) Thread.onSpinWait();
-		this.channel.close();
+		this.finish();
 	}
 
 	/**
@@ -90,19 +185,88 @@ final class FileCollector implements Collector {
 	 */
 	private void roll() {
 		try {
-			if (this.channel != null && this.channel.isOpen()) this.channel.close();
+			this.finish();
 			this.rolled = Instant.now();
 
-			Path file = this.path.resolve(this.rolled.toEpochMilli() + "-" + UUID.randomUUID() + ".csv");
+			Path previous = this.file;
+			Path file = this.path.resolve(this.rolled.toEpochMilli() + "-" + UUID.randomUUID() + this.format.extension());
 			Files.createDirectories(this.path);
 			Files.createFile(file);
-			this.channel = FileChannel.open(file, StandardOpenOption.APPEND);
+			this.file = file;
+			if (previous != null) this.task(() -> this.housekeep(previous));
 
-			byte[] header = "\"time\",\"level\",\"thread\",\"name\",\"text\"\n".getBytes(StandardCharsets.UTF_8);
+			byte[] header = this.format.header();
+			this.index = new FileIndex(FileIndex.of(file), header.length);
+			if (this.mapped) {
+				this.channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+				this.base = 0;
+				this.segment = this.map(0);
+				this.append(ByteBuffer.wrap(header));
+				return;
+			}
+
+			this.channel = FileChannel.open(file, StandardOpenOption.APPEND);
+			this.written = header.length;
 			int written = this.channel.write(ByteBuffer.wrap(header));
 			if (written != header.length) throw new IllegalStateException("Failed to write header to file while rolling collector (written length does not match expected length)");
 		} catch (IOException exception) {
 			throw new IllegalStateException("Failed to roll collector", exception);
 		}
 	}
+
+	/**
+	 * Compresses the provided file that has just been rolled (if enabled), and then deletes the oldest files
+	 * until the retention limits are met. This is run with {@link Collector#task}, one roll at a time.
+	 */
+	private Void housekeep(Path rolled) throws IOException {
+		this.housekeeping.lock();
+		try {
+			if (this.rolling.compressed()) this.compress(rolled);
+
+			List<Path> files = new ArrayList<>();
+			try (Stream<Path> stream = Files.list(this.path)) {
+				stream.filter(this::created).sorted().forEach(files::add);
+			}
+
+			long bytes = 0;
+			for (Path file : files) if (!file.equals(this.file)) bytes += Files.size(file);
+
+			for (int i = 0, count = files.size(); i < files.size() && (count > this.rolling.files() || bytes > this.rolling.bytes()); i++) {
+				Path file = files.get(i);
+				if (file.equals(this.file)) continue;
+
+				long size = Files.size(file);
+				Files.deleteIfExists(file);
+				Files.deleteIfExists(FileIndex.of(file));
+				bytes -= size;
+				count--;
+			}
+			return null;
+		} finally {
+			this.housekeeping.unlock();
+		}
+	}
+
+	/**
+	 * Compresses the provided file with gzip, replacing it with a file of the same name with {@code .gz} appended.
+	 * The compressed file is written under a temporary name first, so it is never mistaken for a complete one.
+	 */
+	private void compress(Path file) throws IOException {
+		Path temporary = file.resolveSibling(file.getFileName() + ".gz.tmp");
+		try (InputStream input = Files.newInputStream(file);
+			 OutputStream output = new GZIPOutputStream(Files.newOutputStream(temporary))) {
+			input.transferTo(output);
+		}
+		Files.move(temporary, file.resolveSibling(file.getFileName() + ".gz"), StandardCopyOption.ATOMIC_MOVE);
+		Files.delete(file);
+	}
+
+	/**
+	 * Returns whether the provided file has a name that could have been created by this collector.
+	 */
+	private boolean created(Path file) {
+		String name = file.getFileName().toString();
+		String extension = this.format.extension();
+		return (name.endsWith(extension) || name.endsWith(extension + ".gz")) && !name.isEmpty() && Character.isDigit(name.charAt(0));
+	}
 }
\ No newline at end of file
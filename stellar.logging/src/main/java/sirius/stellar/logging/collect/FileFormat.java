@@ -0,0 +1,41 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerEvent;
+
+import java.io.Serializable;
+
+/**
+ * Represents how {@link FileCollector} encodes events into the files it writes.
+ * <p>
+ * Formats may hold state that depends on what has already been written to the current file, e.g., dictionaries,
+ * and are only ever used by one thread at a time. {@link FileFormat#header()} is called whenever a new file is
+ * started, and must reset any such state.
+ */
+@Internal
+interface FileFormat extends Serializable {
+
+	/**
+	 * Returns the extension of the files written in this format, including the leading dot.
+	 */
+	String extension();
+
+	/**
+	 * Returns the bytes that every file starts with, resetting any state held for the previous file.
+	 */
+	byte[] header();
+
+	/**
+	 * Appends the provided event to the provided buffer.
+	 */
+	void encode(LoggerEvent event, FileBuffer buffer);
+
+	/**
+	 * Starts a new block of the file, appending anything required to the provided buffer, so that the events
+	 * encoded from here onwards can be decoded without reading anything before it (other than the header).
+	 * This must reset any state that encoding an event depends on.
+	 *
+	 * @see FileIndex
+	 */
+	void block(FileBuffer buffer);
+}
\ No newline at end of file
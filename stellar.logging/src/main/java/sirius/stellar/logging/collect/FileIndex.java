@@ -0,0 +1,134 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.facility.doctation.Internal;
+import sirius.stellar.logging.LoggerEvent;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes the sidecar index of a file written by {@link FileCollector}, which is read by {@link FileRangeReader}.
+ * <p>
+ * The file is split into blocks, each starting whenever {@link FileIndex#RECORDS} events have been written to the
+ * previous block, or an event is logged in a different second to the first event of the previous block, and each
+ * block is started with {@link FileFormat#block(FileBuffer)} so that it can be decoded on its own. The index starts
+ * with {@link FileIndex#MAGIC}, {@link FileIndex#VERSION} and the offset of the first block in the file as a long,
+ * followed by an entry of {@link FileIndex#ENTRY} bytes for each block, once it is complete:
+ * <ul>
+ *     <li>the offsets of the start and the end of the block in the file, as longs;</li>
+ *     <li>the earliest and the latest time of the events in the block, in nanoseconds since the epoch, as longs;</li>
+ *     <li>the latest time of the events in the block and every block before it, as a long, which unlike the other
+ *     times never decreases from one entry to the next, so that entries can be searched by time;</li>
+ *     <li>the number of events in the block, as an int;</li>
+ *     <li>a bitmap of the levels of the events in the block, with a bit set for each ordinal, as an int.</li>
+ * </ul>
+ * Entries are written at the end of every batch that completes a block, so a block that was not yet complete
+ * when the file was last written to (e.g., if the JVM crashed) is not indexed, and is instead read in full.
+ */
+@Internal
+final class FileIndex {
+
+	static final byte[] MAGIC = {'S', 'I', 'D', 'X'};
+	static final int VERSION = 1;
+	static final int HEADER = MAGIC.length + 1 + Long.BYTES;
+	static final int ENTRY = 5 * Long.BYTES + 2 * Integer.BYTES;
+	static final int RECORDS = 1024;
+
+	private final FileChannel channel;
+	private final ByteBuffer entries = ByteBuffer.allocate(64 * ENTRY);
+
+	private long offset;
+	private long second;
+	private long earliest;
+	private long latest;
+	private long maximum = Long.MIN_VALUE;
+	private int count;
+	private int levels;
+
+	/**
+	 * Creates the provided index file for a file whose first block starts at the provided offset.
+	 */
+	FileIndex(Path path, long start) throws IOException {
+		this.channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER).put(MAGIC).put((byte) VERSION).putLong(start).flip();
+		while (header.hasRemaining()) this.channel.write(header);
+	}
+
+	/**
+	 * Returns the path of the index of the provided file, which may have been compressed since it was written.
+	 */
+	static Path of(Path file) {
+		String name = file.getFileName().toString();
+		if (name.endsWith(".gz")) name = name.substring(0, name.length() - ".gz".length());
+		return file.resolveSibling(name + ".idx");
+	}
+
+	/**
+	 * Returns whether a new block must be started before an event logged at the provided time is written.
+	 */
+	boolean boundary(long nanos) {
+		return this.count == 0 || this.count >= RECORDS || Math.floorDiv(nanos, 1_000_000_000L) != this.second;
+	}
+
+	/**
+	 * Starts a new block at the provided offset of the file, for an event logged at the provided time, completing
+	 * the current block (which ends at the same offset) if it contains any events.
+	 */
+	void start(long offset, long nanos) throws IOException {
+		if (this.count != 0) this.complete(offset);
+		this.offset = offset;
+		this.second = Math.floorDiv(nanos, 1_000_000_000L);
+		this.earliest = Long.MAX_VALUE;
+		this.latest = Long.MIN_VALUE;
+		this.count = 0;
+		this.levels = 0;
+	}
+
+	/**
+	 * Adds the provided event, which has just been written, to the current block.
+	 */
+	void add(LoggerEvent event) {
+		long nanos = event.nanos();
+		this.earliest = Math.min(this.earliest, nanos);
+		this.latest = Math.max(this.latest, nanos);
+		this.count++;
+		this.levels |= 1 << event.level().ordinal();
+	}
+
+	/**
+	 * Writes the entries of the blocks completed since this was last called.
+	 */
+	void flush() throws IOException {
+		this.entries.flip();
+		while (this.entries.hasRemaining()) this.channel.write(this.entries);
+		this.entries.clear();
+	}
+
+	/**
+	 * Completes the current block at the provided offset, the length of the file, and closes the index.
+	 */
+	void close(long end) throws IOException {
+		try {
+			if (this.count != 0) this.complete(end);
+			this.flush();
+		} finally {
+			this.channel.close();
+		}
+	}
+
+	/**
+	 * Completes the current block, which ends at the provided offset, queueing its entry to be written.
+	 */
+	private void complete(long end) throws IOException {
+		if (!this.entries.hasRemaining()) this.flush();
+
+		this.maximum = Math.max(this.maximum, this.latest);
+		this.entries.putLong(this.offset).putLong(end)
+				.putLong(this.earliest).putLong(this.latest).putLong(this.maximum)
+				.putInt(this.count).putInt(this.levels);
+	}
+}
\ No newline at end of file
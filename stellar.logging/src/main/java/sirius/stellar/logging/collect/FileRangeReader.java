@@ -0,0 +1,253 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Reads the messages logged within a range of time from a file written by {@link Collector#file(Path, FileRolling)},
+ * {@link Collector#mapped(Path, FileRolling)} or {@link Collector#binary(Path, FileRolling)}, using the sidecar index
+ * written alongside it, rather than scanning the whole file.
+ * <p>
+ * Every file is split into blocks of up to a thousand messages, each logged within the same second, and the index
+ * records where each block starts and ends, the range of time it covers and which levels it contains. The first block
+ * that could contain a message in the range is found with a binary search, and any block that does not overlap with
+ * the range, or does not contain any of the requested levels, is skipped without being read. The file is mapped into
+ * memory for reading, unless it has been compressed, in which case it is decompressed up to each block instead.
+ * <p>
+ * Files that are still being written to can be read as well, and any messages written since the last complete block
+ * are always read in full.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public final class FileRangeReader implements AutoCloseable {
+
+	private static final int WINDOW = 64 * 1024 * 1024;
+
+	private final Path file;
+	private final boolean binary;
+	private final long start;
+
+	private final long[] offsets;
+	private final long[] ends;
+	private final long[] earliest;
+	private final long[] latest;
+	private final long[] maximums;
+	private final int[] levels;
+
+	private FileChannel channel;
+	private MappedByteBuffer window;
+	private long windowed;
+
+	private InputStream input;
+	private long position;
+
+	private FileRangeReader(Path file, boolean binary, ByteBuffer index) throws IOException {
+		this.file = file;
+		this.binary = binary;
+
+		byte[] magic = new byte[FileIndex.MAGIC.length];
+		if (index.remaining() < FileIndex.HEADER) throw new IOException("Not a log file index");
+		index.get(magic);
+		if (!Arrays.equals(magic, FileIndex.MAGIC)) throw new IOException("Not a log file index");
+		if (index.get() != FileIndex.VERSION) throw new IOException("Unsupported log file index version");
+		this.start = index.getLong();
+
+		int count = index.remaining() / FileIndex.ENTRY;
+		this.offsets = new long[count];
+		this.ends = new long[count];
+		this.earliest = new long[count];
+		this.latest = new long[count];
+		this.maximums = new long[count];
+		this.levels = new int[count];
+
+		for (int i = 0; i < count; i++) {
+			this.offsets[i] = index.getLong();
+			this.ends[i] = index.getLong();
+			this.earliest[i] = index.getLong();
+			this.latest[i] = index.getLong();
+			this.maximums[i] = index.getLong();
+			index.getInt();
+			this.levels[i] = index.getInt();
+		}
+	}
+
+	/**
+	 * Opens the provided file for reading, which may have been compressed, along with its index.
+	 *
+	 * @throws IOException If the file or its index could not be read, or the file is not in a known format.
+	 * @since 1u1
+	 */
+	public static FileRangeReader open(Path path) throws IOException {
+		if (path == null) throw new NullPointerException("Attempted to open null file");
+
+		String name = path.getFileName().toString();
+		if (name.endsWith(".gz")) name = name.substring(0, name.length() - ".gz".length());
+
+		boolean binary;
+		if (name.endsWith(new BinaryFormat().extension())) binary = true;
+		else if (name.endsWith(new CsvFormat().extension())) binary = false;
+		else throw new IOException(format("Unknown log file format of {0}", path));
+
+		return new FileRangeReader(path, binary, ByteBuffer.wrap(Files.readAllBytes(FileIndex.of(path))));
+	}
+
+	/**
+	 * Returns the messages logged at or after {@code from} and at or before {@code to}, at any level.
+	 * @see FileRangeReader#read(Instant, Instant, Set)
+	 * @since 1u1
+	 */
+	public Stream<LoggerMessage> read(Instant from, Instant to) {
+		return this.read(from, to, EnumSet.allOf(LoggerLevel.class));
+	}
+
+	/**
+	 * Returns the messages logged at or after {@code from} and at or before {@code to}, at any of the provided levels,
+	 * in the order they were written.
+	 * <p>
+	 * The file is read as the stream is consumed, one block at a time, so the stream must be consumed (only once, and
+	 * not in parallel) before this reader is closed. Any failure to read the file is thrown from the stream as an
+	 * {@link UncheckedIOException}.
+	 *
+	 * @since 1u1
+	 */
+	public Stream<LoggerMessage> read(Instant from, Instant to, Set<LoggerLevel> levels) {
+		if (from == null) throw new NullPointerException("Attempted to read from null time");
+		if (to == null) throw new NullPointerException("Attempted to read to null time");
+		if (levels == null) throw new NullPointerException("Attempted to read null levels");
+
+		long since = nanos(from);
+		long until = nanos(to);
+		int mask = 0;
+		for (LoggerLevel level : levels) mask |= 1 << level.ordinal();
+
+		List<long[]> blocks = new ArrayList<>();
+		for (int i = this.search(since); i < this.offsets.length; i++) {
+			if ((this.levels[i] & mask) == 0) continue;
+			if (this.latest[i] < since || this.earliest[i] > until) continue;
+			blocks.add(new long[] {this.offsets[i], this.ends[i] - this.offsets[i]});
+		}
+		blocks.add(new long[] {(this.ends.length == 0) ? this.start : this.ends[this.ends.length - 1], -1});
+
+		return blocks.stream()
+				.flatMap(block -> this.decode(block[0], block[1]).stream())
+				.filter(message -> levels.contains(message.level()) && message.nanos() >= since && message.nanos() <= until);
+	}
+
+	/**
+	 * Returns the index of the first block that could contain a message logged at or after the provided time, i.e.,
+	 * the first block where the latest time of it and every block before it is at or after that time.
+	 */
+	private int search(long nanos) {
+		int low = 0;
+		int high = this.maximums.length;
+		while (low < high) {
+			int middle = (low + high) >>> 1;
+			if (this.maximums[middle] < nanos) low = middle + 1;
+			else high = middle;
+		}
+		return low;
+	}
+
+	/**
+	 * Decodes every message in the block of the provided length at the provided offset of the file, or from the provided
+	 * offset to the end of the file if the length is negative.
+	 */
+	private List<LoggerMessage> decode(long offset, long length) {
+		try {
+			ByteBuffer block = this.block(offset, length);
+			List<LoggerMessage> messages = new ArrayList<>();
+
+			if (!this.binary) {
+				for (LoggerMessage message; (message = CsvFormat.decode(block)) != null; ) messages.add(message);
+				return messages;
+			}
+
+			byte[] bytes = new byte[block.remaining()];
+			block.get(bytes);
+			BinaryDecoder decoder = new BinaryDecoder(new ByteArrayInputStream(bytes), false);
+			try {
+				for (LoggerMessage message; (message = decoder.next()) != null; ) messages.add(message);
+			} catch (EOFException exception) {
+				assert true; // the end of a file that is still being written to can contain a truncated record
+			}
+			return messages;
+		} catch (IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Returns the contents of the file in the provided range, as with {@link FileRangeReader#decode(long, long)}.
+	 * <p>
+	 * Files are mapped into memory a window at a time, which is only mapped again once a block outside of it is read,
+	 * so reading neighbouring blocks does not map the file again for each of them. Compressed files are decompressed
+	 * from the start (once), skipping over anything up to each block, as blocks are always read in order.
+	 */
+	private ByteBuffer block(long offset, long length) throws IOException {
+		if (this.file.getFileName().toString().endsWith(".gz")) {
+			if (this.input == null) this.input = new GZIPInputStream(Files.newInputStream(this.file));
+			if (offset < this.position) throw new IllegalStateException("Attempted to read compressed log file out of order");
+
+			this.input.skipNBytes(offset - this.position);
+			byte[] bytes = (length < 0) ? this.input.readAllBytes() : this.input.readNBytes((int) length);
+			this.position = offset + bytes.length;
+			return ByteBuffer.wrap(bytes);
+		}
+
+		if (this.channel == null) this.channel = FileChannel.open(this.file, StandardOpenOption.READ);
+		long size = this.channel.size();
+		if (length < 0) length = Math.max(0, size - offset);
+
+		if (this.window == null || offset < this.windowed || offset + length > this.windowed + this.window.capacity()) {
+			this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, offset, Math.min(size - offset, Math.max(WINDOW, length)));
+			this.windowed = offset;
+		}
+		return this.window.slice((int) (offset - this.windowed), (int) length);
+	}
+
+	/**
+	 * Returns the provided time in nanoseconds since the epoch, clamped to the range of a {@code long}.
+	 */
+	private static long nanos(Instant time) {
+		try {
+			return Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000_000L), time.getNano());
+		} catch (ArithmeticException exception) {
+			return time.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.window = null;
+		if (this.channel != null) this.channel.close();
+		if (this.input != null) this.input.close();
+	}
+
+	@Override
+	public String toString() {
+		return format("FileRangeReader[file={0}, blocks={1}]", this.file, this.offsets.length);
+	}
+}
\ No newline at end of file
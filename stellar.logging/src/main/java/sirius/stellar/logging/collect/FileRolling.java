@@ -0,0 +1,84 @@
+package sirius.stellar.logging.collect;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+
+/**
+ * Represents when the files written by {@link Collector#file(java.nio.file.Path, FileRolling)} are rolled, and
+ * what happens to them afterward.
+ * <p>
+ * Files are rolled when they have been written to for the provided duration, or when they reach the provided
+ * size, whichever comes first. Once a file has been rolled, it is optionally compressed with gzip, and then the
+ * oldest files in the directory are deleted until no more than the provided number of files (including the one
+ * currently being written to) and total bytes (excluding it) remain; this is done with {@link Collector#task}, so the logging
+ * thread never waits for it.
+ * <p>
+ * Instances are immutable; every method that configures a value returns a copy.
+ *
+ * @param duration How long a file is written to before it is rolled.
+ * @param size The size at which a file is rolled, in bytes.
+ * @param files The maximum number of files retained, including the one currently being written to.
+ * @param bytes The maximum total size of the rolled files retained, in bytes.
+ * @param compressed Whether rolled files are compressed with gzip.
+ *
+ * @since 1u1
+ * @author Mechite
+ */
+public record FileRolling(Duration duration, long size, int files, long bytes, boolean compressed) implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1736452950378230517L;
+
+	public FileRolling {
+		if (duration == null) throw new NullPointerException("Attempted to set rolling duration to null");
+		if (duration.isNegative() || duration.isZero()) throw new UnsupportedOperationException("Rolling duration must be positive");
+		if (size <= 0) throw new UnsupportedOperationException("Rolling size must be positive");
+		if (files <= 0) throw new UnsupportedOperationException("Retained file count must be positive");
+		if (bytes <= 0) throw new UnsupportedOperationException("Retained byte count must be positive");
+	}
+
+	/**
+	 * Returns an instance that rolls after the provided duration, without any size limit,
+	 * retention limit or compression.
+	 *
+	 * @since 1u1
+	 */
+	public static FileRolling every(Duration duration) {
+		return new FileRolling(duration, Long.MAX_VALUE, Integer.MAX_VALUE, Long.MAX_VALUE, false);
+	}
+
+	/**
+	 * Returns a copy of this instance that also rolls when a file reaches the provided size, in bytes.
+	 * @since 1u1
+	 */
+	public FileRolling size(long value) {
+		return new FileRolling(this.duration, value, this.files, this.bytes, this.compressed);
+	}
+
+	/**
+	 * Returns a copy of this instance that retains no more than the provided number of files.
+	 * @since 1u1
+	 */
+	public FileRolling files(int value) {
+		return new FileRolling(this.duration, this.size, value, this.bytes, this.compressed);
+	}
+
+	/**
+	 * Returns a copy of this instance that retains no more than the provided total number of bytes of rolled files.
+	 * The file currently being written to is not counted, as a mapped file is extended ahead of what is written.
+	 *
+	 * @since 1u1
+	 */
+	public FileRolling bytes(long value) {
+		return new FileRolling(this.duration, this.size, this.files, value, this.compressed);
+	}
+
+	/**
+	 * Returns a copy of this instance that compresses rolled files with gzip, or does not.
+	 * @since 1u1
+	 */
+	public FileRolling compressed(boolean value) {
+		return new FileRolling(this.duration, this.size, this.files, this.bytes, value);
+	}
+}
\ No newline at end of file
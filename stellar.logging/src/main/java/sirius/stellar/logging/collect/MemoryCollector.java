@@ -0,0 +1,407 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.logging.LoggerContext;
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerFields;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Represents a collector that retains the most recent messages in memory, so that they can be queried
+ * while the application is running, e.g., from an administrative endpoint when an incident starts.
+ * <p>
+ * The text of each message is encoded as UTF-8 into a fixed-size direct buffer, used as a ring, and every
+ * other field is stored in preallocated arrays, so collecting a message never allocates; the names of
+ * threads and loggers are retained by reference, as they are shared by every message logged with them, as
+ * are the structured fields and diagnostic context of each message, which are immutable.
+ * Once either the number of messages or the size of their text reaches the capacity it was created
+ * with, the oldest messages are overwritten. Each message also refers to the previous message at the
+ * same level, and to the previous message with the same name, so queries for specific levels only visit
+ * messages at those levels, and queries for a prefix of names only visit messages with a matching name.
+ * The most recent message of each name is found with a table of names, which is only ever as large as
+ * four times the number of messages, and is rebuilt without the names of messages that have since been
+ * overwritten whenever it is half full.
+ * <p>
+ * Queries return new {@link LoggerMessage} instances, oldest first, and can be made from any thread.
+ *
+ * @see Collector#memory(int, int)
+ * @since 1u1
+ * @author Mechite
+ */
+public final class MemoryCollector implements Collector {
+
+	private static final LoggerLevel[] values = LoggerLevel.values();
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final FileBuffer buffer = new FileBuffer();
+	private final ByteBuffer ring;
+	private final int mask;
+
+	private final long[] nanos;
+	private final long[] offsets;
+	private final int[] lengths;
+	private final byte[] ordinals;
+	private final long[] previous;
+	private final long[] siblings;
+	private final long[] identifiers;
+	private final String[] threads;
+	private final String[] names;
+	private final String[] carriers;
+	private final LoggerFields[] fields;
+	private final LoggerContext[] contexts;
+
+	private final long[] latest = new long[values.length];
+	private String[] keys;
+	private long[] heads;
+	private String[] spareKeys;
+	private long[] spareHeads;
+	private int count;
+	private long next;
+	private long oldest;
+	private long head;
+
+	MemoryCollector(int records, int bytes) {
+		int capacity = Integer.highestOneBit(records);
+		if (capacity < records) capacity <<= 1;
+
+		this.ring = ByteBuffer.allocateDirect(bytes);
+		this.mask = capacity - 1;
+		this.nanos = new long[capacity];
+		this.offsets = new long[capacity];
+		this.lengths = new int[capacity];
+		this.ordinals = new byte[capacity];
+		this.previous = new long[capacity];
+		this.siblings = new long[capacity];
+		this.identifiers = new long[capacity];
+		this.threads = new String[capacity];
+		this.names = new String[capacity];
+		this.carriers = new String[capacity];
+		this.fields = new LoggerFields[capacity];
+		this.contexts = new LoggerContext[capacity];
+		Arrays.fill(this.latest, -1);
+
+		int table = Math.min(capacity, 1 << 28) << 2;
+		this.keys = new String[table];
+		this.heads = new long[table];
+		this.spareKeys = new String[table];
+		this.spareHeads = new long[table];
+	}
+
+	@Override
+	public void collect(LoggerMessage message) {
+		this.collect(List.of(message));
+	}
+
+	@Override
+	public void collect(List<? extends LoggerEvent> events) {
+		this.lock.lock();
+		try {
+			for (LoggerEvent event : events) this.append(event);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Appends the provided event, overwriting the oldest messages if there is not enough space for it.
+	 * Text that does not fit into the ring at all is truncated, at the boundary of a character.
+	 */
+	private void append(LoggerEvent event) {
+		this.buffer.clear();
+		this.buffer.utf8(event.text(), false);
+		ByteBuffer source = this.buffer.flip();
+
+		int length = source.remaining();
+		if (length > this.ring.capacity()) {
+			length = this.ring.capacity();
+			while (length > 0 && (source.get(length) & 0xC0) == 0x80) length--;
+		}
+
+		int start = (int) (this.head % this.ring.capacity());
+		int first = Math.min(length, this.ring.capacity() - start);
+		this.ring.put(start, source, 0, first);
+		if (first < length) this.ring.put(0, source, first, length - first);
+
+		long offset = this.head;
+		this.head += length;
+		while (this.oldest < this.next && this.offsets[this.slot(this.oldest)] < this.head - this.ring.capacity()) this.oldest++;
+
+		long sequence = this.next++;
+		int slot = this.slot(sequence);
+		int ordinal = event.level().ordinal();
+
+		this.nanos[slot] = event.nanos();
+		this.offsets[slot] = offset;
+		this.lengths[slot] = length;
+		this.ordinals[slot] = (byte) ordinal;
+		this.previous[slot] = this.latest[ordinal];
+		this.identifiers[slot] = event.threadId();
+		this.threads[slot] = event.thread();
+		this.names[slot] = event.name();
+		this.siblings[slot] = (event.name() == null) ? -1 : this.link(event.name(), sequence);
+		this.carriers[slot] = event.carrier();
+		this.fields[slot] = event.fields();
+		this.contexts[slot] = event.context();
+
+		this.latest[ordinal] = sequence;
+		this.oldest = Math.max(this.oldest, this.next - this.mask - 1);
+	}
+
+	/**
+	 * Returns up to the provided number of the most recent messages.
+	 * @since 1u1
+	 */
+	public List<LoggerMessage> tail(int count) {
+		return this.query(EnumSet.allOf(LoggerLevel.class), "", Instant.MIN, count);
+	}
+
+	/**
+	 * Returns every message retained that was logged at or after the provided time.
+	 * <p>
+	 * Messages are visited from the most recent, stopping at the first one logged before the provided time,
+	 * so messages logged out of order (e.g., with a clock that was adjusted backwards) may be left out.
+	 *
+	 * @since 1u1
+	 */
+	public List<LoggerMessage> since(Instant time) {
+		return this.query(EnumSet.allOf(LoggerLevel.class), "", time, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Returns up to the provided number of the most recent messages that match all the provided filters.
+	 *
+	 * @param levels The levels of the messages to return.
+	 * @param prefix The prefix of the names of the loggers of the messages to return, which may be empty. Names are
+	 * hierarchical, with each segment separated by a dot, so {@code com.example} matches {@code com.example} and
+	 * {@code com.example.Example}, but not {@code com.examples}.
+	 * @param time The time at or after which the messages to return were logged, as with {@link MemoryCollector#since(Instant)}.
+	 * @param count The maximum number of messages to return.
+	 *
+	 * @since 1u1
+	 */
+	public List<LoggerMessage> query(Set<LoggerLevel> levels, String prefix, Instant time, int count) {
+		if (levels == null) throw new NullPointerException("Attempted to query memory collector with null levels");
+		if (prefix == null) throw new NullPointerException("Attempted to query memory collector with null prefix");
+		if (time == null) throw new NullPointerException("Attempted to query memory collector with null time");
+		if (count < 0) throw new UnsupportedOperationException("Memory collector query count must be between 0 and Integer#MAX_VALUE");
+
+		long since = nanos(time);
+
+		List<LoggerMessage> messages = new ArrayList<>();
+		this.lock.lock();
+		try {
+			if (!prefix.isEmpty()) {
+				this.query(levels, prefix, since, count, messages);
+				Collections.reverse(messages);
+				return messages;
+			}
+
+			long[] cursors = new long[values.length];
+			for (int i = 0; i < cursors.length; i++) cursors[i] = levels.contains(values[i]) ? this.latest[i] : -1;
+
+			while (messages.size() < count) {
+				int ordinal = -1;
+				for (int i = 0; i < cursors.length; i++) {
+					if (cursors[i] < this.oldest) continue;
+					if (ordinal == -1 || cursors[i] > cursors[ordinal]) ordinal = i;
+				}
+				if (ordinal == -1) break;
+
+				long sequence = cursors[ordinal];
+				int slot = this.slot(sequence);
+				cursors[ordinal] = this.previous[slot];
+				if (this.nanos[slot] < since) break;
+				messages.add(this.message(slot));
+			}
+		} finally {
+			this.lock.unlock();
+		}
+		Collections.reverse(messages);
+		return messages;
+	}
+
+	/**
+	 * Adds up to the provided number of the most recent messages with a name matching the provided prefix to the
+	 * provided list, most recent first, by merging the chains of every matching name in the table of names.
+	 * Messages at other levels are visited too, but not decoded.
+	 */
+	private void query(Set<LoggerLevel> levels, String prefix, long since, int count, List<LoggerMessage> messages) {
+		long[] heap = new long[16];
+		int size = 0;
+		for (int i = 0; i < this.keys.length; i++) {
+			String key = this.keys[i];
+			if (key == null || this.heads[i] < this.oldest || !matches(key, prefix)) continue;
+			if (size == heap.length) heap = Arrays.copyOf(heap, size * 2);
+			heap[size] = this.heads[i];
+			up(heap, size++);
+		}
+
+		while (size > 0 && messages.size() < count) {
+			int slot = this.slot(heap[0]);
+			if (this.nanos[slot] < since) break;
+
+			long sibling = this.siblings[slot];
+			heap[0] = (sibling >= this.oldest) ? sibling : heap[--size];
+			down(heap, size, 0);
+
+			if (levels.contains(values[this.ordinals[slot]])) messages.add(this.message(slot));
+		}
+	}
+
+	/**
+	 * Makes the provided sequence the most recent message with the provided name in the table of names.
+	 * @return The sequence of the previous message with the name, or {@code -1} if there is none.
+	 */
+	private long link(String name, long sequence) {
+		int mask = this.keys.length - 1;
+		int hash = name.hashCode();
+		for (int i = (hash ^ (hash >>> 16)) & mask; ; i = (i + 1) & mask) {
+			String key = this.keys[i];
+			if (key == null) {
+				this.keys[i] = name;
+				this.heads[i] = sequence;
+				if (++this.count > this.keys.length >> 1) this.rebuild();
+				return -1;
+			}
+			if (key == name || key.equals(name)) {
+				long previous = this.heads[i];
+				this.heads[i] = sequence;
+				return previous;
+			}
+		}
+	}
+
+	/**
+	 * Rebuilds the table of names into the spare table, without the names whose most recent message has been
+	 * overwritten, and swaps the two. There are never more names left than messages retained, so this leaves the
+	 * table at most a quarter full.
+	 */
+	private void rebuild() {
+		Arrays.fill(this.spareKeys, null);
+		int mask = this.spareKeys.length - 1;
+		int count = 0;
+
+		for (int i = 0; i < this.keys.length; i++) {
+			String key = this.keys[i];
+			if (key == null || this.heads[i] < this.oldest) continue;
+
+			int hash = key.hashCode();
+			int index = (hash ^ (hash >>> 16)) & mask;
+			while (this.spareKeys[index] != null) index = (index + 1) & mask;
+			this.spareKeys[index] = key;
+			this.spareHeads[index] = this.heads[i];
+			count++;
+		}
+
+		String[] keys = this.keys;
+		long[] heads = this.heads;
+		this.keys = this.spareKeys;
+		this.heads = this.spareHeads;
+		this.spareKeys = keys;
+		this.spareHeads = heads;
+		this.count = count;
+	}
+
+	/**
+	 * Returns whether the provided name is the provided prefix, or is below it.
+	 */
+	private static boolean matches(String name, String prefix) {
+		return name.startsWith(prefix) && (name.length() == prefix.length() || name.charAt(prefix.length()) == '.');
+	}
+
+	/**
+	 * Moves the sequence at the provided index of the heap up, until its parent is more recent.
+	 */
+	private static void up(long[] heap, int index) {
+		long sequence = heap[index];
+		while (index > 0) {
+			int parent = (index - 1) >>> 1;
+			if (heap[parent] >= sequence) break;
+			heap[index] = heap[parent];
+			index = parent;
+		}
+		heap[index] = sequence;
+	}
+
+	/**
+	 * Moves the sequence at the provided index of the heap down, until both of its children are older.
+	 */
+	private static void down(long[] heap, int size, int index) {
+		if (size == 0) return;
+		long sequence = heap[index];
+		while (true) {
+			int child = (index << 1) + 1;
+			if (child >= size) break;
+			if (child + 1 < size && heap[child + 1] > heap[child]) child++;
+			if (heap[child] <= sequence) break;
+			heap[index] = heap[child];
+			index = child;
+		}
+		heap[index] = sequence;
+	}
+
+	/**
+	 * Returns the number of messages currently retained.
+	 * @since 1u1
+	 */
+	public int size() {
+		this.lock.lock();
+		try {
+			return (int) (this.next - this.oldest);
+		} finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Decodes the message in the provided slot, which must be retained.
+	 */
+	private LoggerMessage message(int slot) {
+		int length = this.lengths[slot];
+		int start = (int) (this.offsets[slot] % this.ring.capacity());
+		int first = Math.min(length, this.ring.capacity() - start);
+
+		byte[] bytes = new byte[length];
+		this.ring.get(start, bytes, 0, first);
+		if (first < length) this.ring.get(0, bytes, first, length - first);
+
+		String text = new String(bytes, StandardCharsets.UTF_8);
+		return new LoggerMessage(this.nanos[slot], values[this.ordinals[slot]], this.threads[slot], this.names[slot], text, this.identifiers[slot], this.carriers[slot], this.fields[slot], this.contexts[slot]);
+	}
+
+	/**
+	 * Returns the provided time in nanoseconds since the epoch, clamped to the range of a {@code long}.
+	 */
+	private static long nanos(Instant time) {
+		try {
+			return Math.addExact(Math.multiplyExact(time.getEpochSecond(), 1_000_000_000L), time.getNano());
+		} catch (ArithmeticException exception) {
+			return time.isBefore(Instant.EPOCH) ? Long.MIN_VALUE : Long.MAX_VALUE;
+		}
+	}
+
+	/**
+	 * Returns the slot of the arrays that the message with the provided sequence is stored in.
+	 */
+	private int slot(long sequence) {
+		return (int) (sequence & this.mask);
+	}
+
+	@Override
+	public String toString() {
+		return format("MemoryCollector[records={0}, bytes={1}]", this.mask + 1, this.ring.capacity());
+	}
+}
\ No newline at end of file
@@ -0,0 +1,459 @@
+package sirius.stellar.logging.collect;
+
+import sirius.stellar.logging.LoggerEvent;
+import sirius.stellar.logging.LoggerLevel;
+import sirius.stellar.logging.LoggerMessage;
+
+import java.io.IOException;
+import java.io.Serial;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ByteChannel;
+import java.nio.channels.DatagramChannel;
+import java.nio.channels.FileChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static sirius.stellar.facility.Strings.*;
+
+/**
+ * Implementation of {@link Collector} that sends messages to a relay (e.g., a syslog agent) as RFC 5424 messages,
+ * either over TCP with octet-counting framing as specified by RFC 6587, or over UDP with one message per datagram.
+ * <p>
+ * Each batch is encoded into a single buffer, which is written to the socket at once over TCP. If the relay cannot be
+ * reached, the batch is appended to a spool file instead, and connecting is attempted again with an exponential
+ * backoff (only when a batch is collected, so the logging thread is never occupied while waiting); once connected,
+ * everything spooled is replayed before anything else is sent. The spool uses the same framing as TCP, and is
+ * bounded, so batches that do not fit into it are dropped. Messages are delivered at least once, as a batch that
+ * fails to be written part of the way through is spooled in full. If the spool turns out to hold a malformed frame
+ * (e.g., bytes left in the file by something else), everything from that frame onward is discarded and counted as
+ * dropped, rather than replaying it.
+ * <p>
+ * The logger name and thread name are sent as structured data, with the private enterprise number reserved for
+ * documentation by RFC 5612, as {@code [stellar@32473 name="..." thread="..."]}.
+ * <p>
+ * The number of messages dropped because they did not fit into the spool is returned by {@link NetworkCollector#dropped()}.
+ *
+ * @see Collector#tcp(InetSocketAddress, Path, long)
+ * @see Collector#udp(InetSocketAddress, Path, long)
+ * @since 1u1
+ * @author Mechite
+ */
+public final class NetworkCollector implements Collector {
+
+	@Serial
+	private static final long serialVersionUID = 3381146097429261522L;
+
+	private static final int TIMEOUT = 1000;
+	private static final long INITIAL = TimeUnit.MILLISECONDS.toNanos(100);
+	private static final long MAXIMUM = TimeUnit.SECONDS.toNanos(30);
+	private static final int DATAGRAM = 65_507;
+	private static final int CHUNK = 1024 * 1024;
+
+	private static final byte[] VERSION = ">1 ".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] DATA = " - [stellar@32473 name=\"".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] THREAD = "\" thread=\"".getBytes(StandardCharsets.US_ASCII);
+	private static final byte[] BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+	private final InetSocketAddress address;
+	private final boolean datagram;
+	private final Path spool;
+	private final long bytes;
+	private final byte[] header;
+
+	private final FileBuffer buffer = new FileBuffer();
+	private final FileBuffer record = new FileBuffer();
+
+	private ByteChannel channel;
+	private FileChannel spooled;
+	private long replayed;
+	private long pending;
+	private int frames;
+	private volatile long dropped;
+
+	private long backoff = INITIAL;
+	private long attempt = System.nanoTime();
+
+	private long second = Long.MIN_VALUE;
+	private byte[] prefix;
+
+	NetworkCollector(InetSocketAddress address, boolean datagram, Path spool, long bytes) {
+		this.address = address;
+		this.datagram = datagram;
+		this.spool = spool;
+		this.bytes = bytes;
+		this.header = (" " + host() + " " + application() + " " + ProcessHandle.current().pid()).getBytes(StandardCharsets.US_ASCII);
+
+		try {
+			if (spool.getParent() != null) Files.createDirectories(spool.getParent());
+			this.spooled = FileChannel.open(spool, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to open network collector spool", exception);
+		}
+	}
+
+	@Override
+	public void collect(LoggerMessage message) {
+		this.collect(List.of(message));
+	}
+
+	@Override
+	public void collect(List<? extends LoggerEvent> events) {
+		this.buffer.clear();
+		for (LoggerEvent event : events) this.frame(event);
+		ByteBuffer bytes = this.buffer.flip();
+
+		try {
+			if (!this.connect() || !this.replay()) {
+				this.spool(bytes, events.size());
+				return;
+			}
+			try {
+				this.send(bytes);
+			} catch (IOException exception) {
+				this.disconnect();
+				this.spool(bytes.rewind(), events.size());
+			}
+		} catch (IOException exception) {
+			throw new IllegalStateException("Failed to spool messages for network collector", exception);
+		}
+	}
+
+	/**
+	 * Appends the provided event to the buffer as an RFC 5424 message, prefixed with its length and a space.
+	 * Messages that do not fit into a datagram are truncated at the boundary of a character.
+	 */
+	private void frame(LoggerEvent event) {
+		this.record.clear();
+		this.record.put('<');
+		this.number(this.record, 8 + severity(event.level()));
+		this.record.put(VERSION);
+		this.time(event.nanos());
+		this.record.put(this.header);
+		this.record.put(DATA);
+		this.escape(event.name());
+		this.record.put(THREAD);
+		this.escape(event.thread());
+		this.record.put('"');
+		this.record.put(']');
+		this.record.put(' ');
+		this.record.put(BOM);
+		this.record.utf8(event.text(), false);
+
+		ByteBuffer record = this.record.flip();
+		if (this.datagram && record.remaining() > DATAGRAM) {
+			int limit = DATAGRAM;
+			while (limit > 0 && (record.get(limit) & 0xC0) == 0x80) limit--;
+			record.limit(limit);
+		}
+		this.number(this.buffer, record.remaining());
+		this.buffer.put(' ');
+		this.buffer.put(record);
+	}
+
+	/**
+	 * Appends the provided time as an RFC 3339 timestamp with microseconds, or the nil value if the year cannot be
+	 * written with four digits; the date and time up to the second is cached, as it is usually the same as before.
+	 */
+	private void time(long nanos) {
+		long seconds = Math.floorDiv(nanos, 1_000_000_000L);
+		if (seconds != this.second) {
+			String time = Instant.ofEpochSecond(seconds).toString();
+			this.prefix = (time.length() == 20) ? time.substring(0, 19).getBytes(StandardCharsets.US_ASCII) : null;
+			this.second = seconds;
+		}
+		if (this.prefix == null) {
+			this.record.put('-');
+			return;
+		}
+		this.record.put(this.prefix);
+		this.record.put('.');
+		this.record.digits(Math.floorMod(nanos, 1_000_000_000L) / 1_000, 6);
+		this.record.put('Z');
+	}
+
+	/**
+	 * Appends the provided value as the value of a structured data parameter, escaping {@code "}, {@code \} and {@code ]}.
+	 */
+	private void escape(String value) {
+		if (value == null) value = "";
+		int start = 0;
+		for (int i = 0; i < value.length(); i++) {
+			char character = value.charAt(i);
+			if (character != '"' && character != '\\' && character != ']') continue;
+			this.record.utf8(value.substring(start, i), false);
+			this.record.put('\\');
+			this.record.put(character);
+			start = i + 1;
+		}
+		this.record.utf8((start == 0) ? value : value.substring(start), false);
+	}
+
+	/**
+	 * Appends the provided value, which must not be negative, as decimal digits.
+	 */
+	private void number(FileBuffer buffer, long value) {
+		int width = 1;
+		for (long remaining = value / 10; remaining != 0; remaining /= 10) width++;
+		buffer.digits(value, width);
+	}
+
+	/**
+	 * Connects to the relay if not already connected, unless the previous attempt failed too recently.
+	 * @return Whether this collector is connected.
+	 */
+	private boolean connect() {
+		if (this.channel != null) return true;
+		if (System.nanoTime() - this.attempt < 0) return false;
+
+		try {
+			if (this.datagram) {
+				this.channel = DatagramChannel.open().connect(this.address);
+			} else {
+				SocketChannel channel = SocketChannel.open();
+				try {
+					channel.socket().connect(this.address, TIMEOUT);
+				} catch (IOException exception) {
+					channel.close();
+					throw exception;
+				}
+				this.channel = channel;
+			}
+			this.backoff = INITIAL;
+			return true;
+		} catch (IOException exception) {
+			this.disconnect();
+			return false;
+		}
+	}
+
+	/**
+	 * Closes the connection to the relay, if any, delaying the next attempt to connect by the current backoff,
+	 * which is then doubled up to a maximum.
+	 */
+	private void disconnect() {
+		this.attempt = System.nanoTime() + this.backoff;
+		this.backoff = Math.min(this.backoff * 2, MAXIMUM);
+		if (this.channel == null) return;
+
+		try {
+			this.channel.close();
+		} catch (IOException exception) {
+			assert true; // the connection is being discarded either way
+		}
+		this.channel = null;
+	}
+
+	/**
+	 * Sends everything spooled that has not yet been replayed, a chunk at a time, truncating the spool once it has
+	 * all been replayed. If this fails, the connection is closed, and replaying continues from the last complete
+	 * message sent when connected again.
+	 *
+	 * @return Whether everything spooled has been replayed.
+	 */
+	private boolean replay() throws IOException {
+		long size = this.spooled.size();
+		if (this.replayed >= size) return true;
+
+		ByteBuffer chunk = ByteBuffer.allocate(CHUNK);
+		try {
+			while (this.replayed < size) {
+				chunk.clear();
+				chunk.limit((int) Math.min(chunk.capacity(), size - this.replayed));
+				while (chunk.hasRemaining()) if (this.spooled.read(chunk, this.replayed + chunk.position()) < 0) break;
+				chunk.flip();
+
+				int complete = this.complete(chunk);
+				boolean malformed = complete < 0;
+				if (malformed) complete = ~complete;
+
+				if (complete == 0 && !malformed) {
+					if (chunk.limit() < chunk.capacity()) break;
+					chunk = ByteBuffer.allocate(chunk.capacity() * 2);
+					continue;
+				}
+				this.send(chunk.limit(complete));
+				this.replayed += complete;
+				this.pending = Math.max(0, this.pending - this.frames);
+
+				if (malformed) {
+					this.dropped += Math.max(1, this.pending);
+					break;
+				}
+			}
+		} catch (IOException exception) {
+			this.disconnect();
+			return false;
+		}
+
+		this.spooled.truncate(0);
+		this.replayed = 0;
+		this.pending = 0;
+		return true;
+	}
+
+	/**
+	 * Returns the length of the complete frames at the start of the provided buffer, or the bitwise complement of that
+	 * length if they are followed by a malformed frame, i.e., one whose length is not made up of digits, or is zero or
+	 * larger than the spool could ever hold. The number of complete frames is held in {@link NetworkCollector#frames}.
+	 */
+	private int complete(ByteBuffer frames) {
+		int end = 0;
+		int position = 0;
+		this.frames = 0;
+
+		while (position < frames.limit()) {
+			int start = position;
+			long length = 0;
+			while (position < frames.limit() && frames.get(position) != ' ') {
+				byte digit = frames.get(position++);
+				if (digit < '0' || digit > '9' || position - start > 18) return ~end;
+				length = length * 10 + (digit - '0');
+			}
+			if (position >= frames.limit()) break;
+			if (position == start || length == 0 || length > this.bytes) return ~end;
+			if (position + 1 + length > frames.limit()) break;
+
+			position += 1 + (int) length;
+			end = position;
+			this.frames++;
+		}
+		return end;
+	}
+
+	/**
+	 * Sends the provided frames to the relay; over TCP, they are written as they are, and over UDP, each message is
+	 * sent as a datagram without the length prefixing it. Frames read from the spool must have been checked with
+	 * {@link NetworkCollector#complete(ByteBuffer)} first.
+	 */
+	private void send(ByteBuffer frames) throws IOException {
+		if (!this.datagram) {
+			while (frames.hasRemaining()) this.channel.write(frames);
+			return;
+		}
+
+		int limit = frames.limit();
+		while (frames.position() < limit) {
+			int length = 0;
+			while (frames.get(frames.position()) != ' ') length = length * 10 + (frames.get() - '0');
+			frames.get();
+			frames.limit(frames.position() + length);
+			this.channel.write(frames);
+			frames.position(frames.limit()).limit(limit);
+		}
+	}
+
+	/**
+	 * Appends the provided frames to the spool, unless that would exceed the maximum size of the spool, in which case
+	 * the provided number of messages are counted as dropped. If replaying stopped part of the way through, what has
+	 * been replayed is removed from the spool first, so that the file itself never grows past the maximum size.
+	 */
+	private void spool(ByteBuffer frames, int messages) throws IOException {
+		long size = this.spooled.size();
+		if (size + frames.remaining() > this.bytes && this.replayed != 0) size = this.compact();
+		if (size + frames.remaining() > this.bytes) {
+			this.dropped += messages;
+			return;
+		}
+		while (frames.hasRemaining()) size += this.spooled.write(frames, size);
+		this.pending += messages;
+	}
+
+	/**
+	 * Moves everything spooled that has not yet been replayed to the start of the spool, truncating the rest.
+	 * @return The size of the spool afterward.
+	 */
+	private long compact() throws IOException {
+		long size = this.spooled.size();
+		long read = this.replayed;
+		long written = 0;
+
+		ByteBuffer chunk = ByteBuffer.allocate(CHUNK);
+		while (read < size) {
+			chunk.clear();
+			int count = this.spooled.read(chunk, read);
+			if (count < 0) break;
+			chunk.flip();
+			while (chunk.hasRemaining()) written += this.spooled.write(chunk, written);
+			read += count;
+		}
+
+		this.spooled.truncate(written);
+		this.replayed = 0;
+		return written;
+	}
+
+	/**
+	 * Returns the number of messages dropped so far because they did not fit into the spool.
+	 * @since 1u1
+	 */
+	public long dropped() {
+		return this.dropped;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			if (this.connect()) this.replay();
+		} finally {
+			this.disconnect();
+			this.spooled.close();
+		}
+	}
+
+	/**
+	 * Returns the RFC 5424 severity of the provided level.
+	 */
+	private static int severity(LoggerLevel level) {
+		return switch (level) {
+			case ERROR, STACKTRACE -> 3;
+			case WARNING -> 4;
+			case INFORMATION -> 6;
+			default -> 7;
+		};
+	}
+
+	/**
+	 * Returns the name of this host, as allowed in the header of an RFC 5424 message, or the nil value.
+	 */
+	private static String host() {
+		try {
+			return printable(InetAddress.getLocalHost().getHostName(), 255);
+		} catch (IOException exception) {
+			return "-";
+		}
+	}
+
+	/**
+	 * Returns the name of the executable of this process, as allowed in the header of an RFC 5424 message, or the nil value.
+	 */
+	private static String application() {
+		String command = ProcessHandle.current().info().command().orElse("-");
+		return printable(Path.of(command).getFileName().toString(), 48);
+	}
+
+	/**
+	 * Returns the printable ASCII characters of the provided value up to the provided length, or the nil value if
+	 * there are none.
+	 */
+	private static String printable(String value, int length) {
+		StringBuilder builder = new StringBuilder();
+		for (int i = 0; i < value.length() && builder.length() < length; i++) {
+			char character = value.charAt(i);
+			if (character > ' ' && character < 127) builder.append(character);
+		}
+		return builder.isEmpty() ? "-" : builder.toString();
+	}
+
+	@Override
+	public String toString() {
+		return format("NetworkCollector[address={0}, datagram={1}, spool={2}, dropped={3}]", this.address, this.datagram, this.spool, this.dropped);
+	}
+}
\ No newline at end of file
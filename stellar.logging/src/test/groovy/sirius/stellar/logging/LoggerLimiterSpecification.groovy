@@ -0,0 +1,62 @@
+package sirius.stellar.logging
+
+import sirius.stellar.logging.collect.Collector
+import spock.lang.Specification
+
+import java.time.Duration
+import java.util.concurrent.CopyOnWriteArrayList
+
+class LoggerLimiterSpecification extends Specification {
+
+	static List<LoggerMessage> messages = new CopyOnWriteArrayList<>()
+
+	def setupSpec() {
+		Logger.synchronous()
+		Logger.collector({ LoggerMessage message -> messages << message } as Collector)
+	}
+
+	def setup() {
+		messages.clear()
+	}
+
+	//#region every(Duration)
+	def "every(Duration) keys each statement on its handle, so the same text logged with two handles is never suppressed"() {
+		when:
+			3.times {
+				Logger.of("com.acme.billing").every(Duration.ofHours(1)).warning("Failed to reach the database")
+				Logger.of("com.acme.shipping").every(Duration.ofHours(1)).warning("Failed to reach the database")
+			}
+		then:
+			messages*.name == ["com.acme.billing", "com.acme.shipping"]
+	}
+
+	def "every(Duration) keys each statement on its level, so the same text logged at two levels is never suppressed"() {
+		when:
+			3.times {
+				Logger.of("com.acme.levels").every(Duration.ofHours(1)).warning("Failed to reach the cache")
+				Logger.of("com.acme.levels").every(Duration.ofHours(1)).error("Failed to reach the cache")
+			}
+		then:
+			messages*.level == [LoggerLevel.WARNING, LoggerLevel.ERROR]
+	}
+
+	def "every(Duration) limits a text built for every call by its contents"() {
+		when:
+			5.times { i -> Logger.of("com.acme.built").every(Duration.ofHours(1)).information("Retrying " + "request".concat(i.toString()).substring(0, 7)) }
+		then:
+			messages*.text == ["Retrying request"]
+	}
+
+	def "every(Duration) and limited(int, Duration) do not reset each other for the same statement"() {
+		given:
+			def handle = Logger.of("com.acme.rates")
+		when:
+			5.times {
+				handle.every(Duration.ofHours(1)).information("Polling")
+				handle.limited(2, Duration.ofHours(1)).information("Polling")
+			}
+		then:
+			messages.size() == 3
+	}
+	//#endregion
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package sirius.stellar.logging
+
+import sirius.stellar.logging.collect.Collector
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+import java.util.concurrent.atomic.AtomicBoolean
+import java.util.concurrent.atomic.AtomicInteger
+
+class LoggerRingSpecification extends Specification {
+
+	static final Recorder recorder = new Recorder()
+
+	def setupSpec() {
+		Logger.collector(recorder)
+	}
+
+	def setup() {
+		recorder.reset()
+	}
+
+	def cleanup() {
+		recorder.release()
+		Logger.synchronous()
+		Logger.overflow(LoggerOverflow.BLOCK)
+		Logger.pooling(false)
+	}
+
+	//#region publish(...)
+	def "publish(...) from many threads hands over every message exactly once, in the order each thread dispatched them"() {
+		given:
+			Logger.ring(64, LoggerWaitStrategy.PARK)
+		when:
+			def threads = (0..<8).collect { t ->
+				Thread.start { 5000.times { i -> Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.concurrent", t + ":" + i) } }
+			}
+			threads*.join()
+			Logger.synchronous()
+		then:
+			recorder.messages.size() == 8 * 5000
+			recorder.messages.groupBy { it.text().split(":")[0] }.every { thread, messages ->
+				messages*.text().collect { it.split(":")[1] as int } == (0..<5000).toList()
+			}
+	}
+
+	def "publish(...) racing with close() collects every message that was accepted, and rejects every other one"() {
+		given:
+			def ring = new LoggerRing(16, LoggerWaitStrategy.YIELD, false)
+			def accepted = new AtomicInteger()
+			def start = new CountDownLatch(1)
+		when:
+			def threads = (0..<4).collect {
+				Thread.start {
+					start.await()
+					for (int i = 0; i < 100_000; i++) {
+						if (ring.publish(System.nanoTime(), LoggerLevel.INFORMATION, "thread", 1, null, "ring.closing", "Message", new Object[0], LoggerFields.empty(), LoggerContext.empty())) accepted.incrementAndGet()
+					}
+				}
+			}
+			start.countDown()
+			Thread.sleep(5)
+			ring.close()
+			threads*.join()
+		then:
+			accepted.get() > 0
+			recorder.messages.size() == accepted.get()
+			!ring.publish(System.nanoTime(), LoggerLevel.INFORMATION, "thread", 1, null, "ring.closing", "Message", new Object[0], LoggerFields.empty(), LoggerContext.empty())
+	}
+	//#endregion
+
+	//#region overflow(LoggerOverflow)
+	def "overflow(LoggerOverflow) with DROP_NEWEST drops every message dispatched while the ring is full, without waiting"() {
+		given:
+			Logger.ring(4, LoggerWaitStrategy.PARK)
+			Logger.overflow(LoggerOverflow.DROP_NEWEST)
+			def dropped = Logger.statistics().dropped(LoggerLevel.INFORMATION)
+		when:
+			recorder.block()
+			Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.blocked", "First")
+			recorder.await()
+			100.times { i -> Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.overflow", "Message " + i) }
+			def during = Logger.statistics().dropped(LoggerLevel.INFORMATION) - dropped
+			recorder.release()
+			Logger.synchronous()
+		then:
+			during >= 95 // a summary of the messages dropped by a previous feature may take up a slot
+			recorder.messages*.text() == ["First"] + (0..<(100 - during)).collect { "Message " + it }
+	}
+
+	def "overflow(LoggerOverflow) with BLOCK waits for a slot to be free, and never drops a message"() {
+		given:
+			Logger.ring(4, LoggerWaitStrategy.PARK)
+			Logger.overflow(LoggerOverflow.BLOCK)
+		when:
+			recorder.block()
+			Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.blocked", "First")
+			recorder.await()
+			def thread = Thread.start { 20.times { i -> Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.overflow", "Message " + i) } }
+			thread.join(200)
+			def waiting = thread.alive
+			recorder.release()
+			thread.join()
+			Logger.synchronous()
+		then:
+			waiting
+			recorder.messages*.text() == ["First"] + (0..<20).collect { "Message " + it }
+	}
+
+	def "overflow(LoggerOverflow) with RETAIN_ERRORS drops other levels while the ring is full, but waits for errors"() {
+		given:
+			Logger.ring(4, LoggerWaitStrategy.PARK)
+			Logger.overflow(LoggerOverflow.RETAIN_ERRORS)
+		when:
+			recorder.block()
+			Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.blocked", "First")
+			recorder.await()
+			def thread = Thread.start {
+				10.times { i -> Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.overflow", "Information " + i) }
+				3.times { i -> Logger.dispatch(LoggerLevel.ERROR, "thread", "ring.overflow", "Error " + i) }
+			}
+			thread.join(200)
+			def waiting = thread.alive
+			recorder.release()
+			thread.join()
+			Logger.synchronous()
+		then:
+			waiting
+			def informations = recorder.messages*.text().findAll { it.startsWith("Information") }
+			informations.size() >= 3 // a summary of the messages dropped by a previous feature may take up a slot
+			recorder.messages*.text() == ["First"] + (0..<informations.size()).collect { "Information " + it } + (0..<3).collect { "Error " + it }
+	}
+
+	def "overflow(LoggerOverflow) rejects DROP_OLDEST while a ring is used"() {
+		given:
+			Logger.ring(4, LoggerWaitStrategy.PARK)
+		when:
+			Logger.overflow(LoggerOverflow.DROP_OLDEST)
+		then:
+			thrown(UnsupportedOperationException)
+	}
+	//#endregion
+
+	//#region pooling(boolean)
+	def "pooling(boolean) hands over the slots of the ring, which hold each message until the batch is handed over"() {
+		given:
+			Logger.pooling(true)
+			Logger.ring(16, LoggerWaitStrategy.PARK)
+		when:
+			def threads = (0..<4).collect { t ->
+				Thread.start { 2000.times { i -> Logger.dispatch(LoggerLevel.INFORMATION, "thread", "ring.pooled", "Message {0} {1}", t.toString(), i.toString()) } }
+			}
+			threads*.join()
+			Logger.synchronous()
+		then:
+			recorder.pooled.get()
+			recorder.messages.size() == 4 * 2000
+			recorder.messages*.text().toSet() == (0..<4).collectMany { t -> (0..<2000).collect { i -> "Message " + t + " " + i } }.toSet()
+	}
+	//#endregion
+
+	/**
+	 * Represents a collector that records the messages with a name starting with {@code ring.}, optionally blocking the
+	 * logging thread on the first message named {@code ring.blocked} until released, so that the ring fills up behind it.
+	 */
+	private static final class Recorder implements Collector {
+
+		final List<LoggerMessage> messages = new CopyOnWriteArrayList<>()
+		final AtomicBoolean pooled = new AtomicBoolean()
+
+		volatile CountDownLatch entered
+		volatile CountDownLatch gate
+
+		@Override
+		void collect(LoggerMessage message) {
+			if (!message.name()?.startsWith("ring.")) return
+			if (message.name() == "ring.blocked" && this.gate != null) {
+				this.entered.countDown()
+				this.gate.await(10, TimeUnit.SECONDS)
+			}
+			this.messages << message
+		}
+
+		@Override
+		void collect(List<? extends LoggerEvent> events) {
+			for (LoggerEvent event : events) {
+				if (!(event instanceof LoggerMessage) && event.name()?.startsWith("ring.")) this.pooled.set(true)
+				this.collect(event.message())
+			}
+		}
+
+		void reset() {
+			this.messages.clear()
+			this.pooled.set(false)
+		}
+
+		void block() {
+			this.entered = new CountDownLatch(1)
+			this.gate = new CountDownLatch(1)
+		}
+
+		void await() {
+			this.entered.await(10, TimeUnit.SECONDS)
+		}
+
+		void release() {
+			this.gate?.countDown()
+			this.gate = null
+		}
+	}
+}
\ No newline at end of file
@@ -0,0 +1,147 @@
+package sirius.stellar.logging.collect
+
+import sirius.stellar.logging.LoggerContext
+import sirius.stellar.logging.LoggerFields
+import sirius.stellar.logging.LoggerLevel
+import sirius.stellar.logging.LoggerMessage
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import java.time.Instant
+
+class FileCollectorSpecification extends Specification {
+
+	@TempDir
+	Path directory
+
+	//#region collect(List)
+	def "collect(List) writes RFC 4180 records that can be parsed back to the original messages"() {
+		given:
+			def collector = mapped
+					? Collector.mapped(this.directory, FileRolling.every(Duration.ofHours(1)))
+					: Collector.file(this.directory, FileRolling.every(Duration.ofHours(1)))
+			def messages = texts.withIndex().collect { text, i ->
+				new LoggerMessage(Instant.parse("2024-02-29T23:59:59Z").plusNanos(i * 1_234_500L), LoggerLevel.values()[i % LoggerLevel.values().length], 'thread "' + i + '"', 'name,' + i, text)
+			}
+		when:
+			collector.collect(messages)
+			collector.close()
+			def records = parse(Files.readString(this.file(".csv"), StandardCharsets.UTF_8))
+		then:
+			records.first() == ["time", "level", "thread", "name", "text"]
+			records.drop(1) == messages.collect { [it.time().toString(), it.level().toString(), it.thread(), it.name(), it.text()] }
+		where:
+			mapped << [false, true]
+			texts = [
+					"Lorem ipsum dolor sit amet.",
+					'Lorem "ipsum" dolor, sit amet.',
+					"Lorem ipsum\ndolor sit\r\namet.",
+					"Lorem 'ipsum' dolor sit amet.",
+					"Lörem ïpsum dolor sit amet 😀.",
+					"\"\"",
+					""
+			]
+	}
+
+	def "collect(List) writes the structured fields and diagnostic context of each message to binary files"() {
+		given:
+			def collector = Collector.binary(this.directory, FileRolling.every(Duration.ofHours(1)))
+			def fields = LoggerFields.of(
+					["order", "latency", "ratio", "retried", "missing"] as String[],
+					["A-1", null, null, null, null] as Object[],
+					[0L, -42L, Double.doubleToRawLongBits(0.5d), 1L, 0L] as long[],
+					[LoggerFields.Type.OBJECT, LoggerFields.Type.LONG, LoggerFields.Type.DOUBLE, LoggerFields.Type.BOOLEAN, LoggerFields.Type.OBJECT] as LoggerFields.Type[],
+					5
+			)
+			def context = LoggerContext.of(["request"] as String[], [7] as Object[], ["outer", "inner"] as String[])
+			def messages = (0..<3).collect { i ->
+				new LoggerMessage(Instant.parse("2024-02-29T23:59:59Z").toEpochMilli() * 1_000_000L + i, LoggerLevel.WARNING, "thread", "name", "Lorem ipsum " + i, 1, null, (i == 1) ? null : fields, (i == 2) ? null : context)
+			}
+		when:
+			collector.collect(messages)
+			collector.close()
+			def decoded = BinaryDecoder.open(this.file(".slog")).withCloseable { decoder -> (0..<3).collect { decoder.next() } }
+		then:
+			decoded*.text() == messages*.text()
+			decoded[0].fields() == fields
+			decoded[0].context().map() == [request: "7"]
+			decoded[0].context().stack() == ["outer", "inner"]
+			decoded[1].fields().isEmpty()
+			decoded[1].context().map() == [request: "7"]
+			decoded[2].fields() == fields
+			decoded[2].context().isEmpty()
+	}
+	//#endregion
+
+	//#region FileRangeReader
+	def "FileRangeReader reads only the messages within the range and at the levels requested"() {
+		given:
+			def collector = binary
+					? Collector.binary(this.directory, FileRolling.every(Duration.ofHours(1)))
+					: Collector.mapped(this.directory, FileRolling.every(Duration.ofHours(1)))
+			def start = Instant.parse("2024-02-29T23:59:00Z")
+			def messages = (0..<20_000).collect { i ->
+				new LoggerMessage(start.plusMillis(i * 7), (i % 997 == 0) ? LoggerLevel.ERROR : LoggerLevel.INFORMATION, "thread", "name", "Lorem ipsum " + i)
+			}
+			def from = start.plusSeconds(30)
+			def to = start.plusSeconds(45)
+		when:
+			messages.collate(256).each { collector.collect(it) }
+			collector.close()
+			def reader = FileRangeReader.open(this.file(binary ? ".slog" : ".csv"))
+			def range = reader.read(from, to).toList()
+			def errors = reader.read(Instant.MIN, Instant.MAX, EnumSet.of(LoggerLevel.ERROR)).toList()
+			reader.close()
+		then:
+			Files.exists(this.directory.resolve(this.file(binary ? ".slog" : ".csv").fileName.toString() + ".idx"))
+			range == messages.findAll { !it.time().isBefore(from) && !it.time().isAfter(to) }
+			errors == messages.findAll { it.level() == LoggerLevel.ERROR }
+		where:
+			binary << [false, true]
+	}
+	//#endregion
+
+	/**
+	 * Returns the file written by the collector with the provided extension.
+	 */
+	private Path file(String extension) {
+		return Files.list(this.directory).withCloseable { it.filter { it.fileName.toString().endsWith(extension) }.findFirst().orElseThrow() }
+	}
+
+	/**
+	 * Parses the provided RFC 4180 document into its records, independently of the collector.
+	 */
+	private static List<List<String>> parse(String document) {
+		def records = []
+		def record = []
+		def field = new StringBuilder()
+		def quoted = false
+
+		for (int i = 0; i < document.length(); i++) {
+			char character = document.charAt(i)
+			if (quoted) {
+				if (character != ('"' as char)) field.append(character)
+				else if (i + 1 < document.length() && document.charAt(i + 1) == ('"' as char)) field.append(document.charAt(++i))
+				else quoted = false
+			} else if (character == ('"' as char)) {
+				quoted = true
+			} else if (character == (',' as char)) {
+				record << field.toString()
+				field.setLength(0)
+			} else if (character == ('\r' as char) && i + 1 < document.length() && document.charAt(i + 1) == ('\n' as char)) {
+				i++
+				record << field.toString()
+				field.setLength(0)
+				records << record
+				record = []
+			} else {
+				field.append(character)
+			}
+		}
+		return records
+	}
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package sirius.stellar.logging.collect
+
+import sirius.stellar.logging.LoggerLevel
+import sirius.stellar.logging.LoggerMessage
+import spock.lang.Specification
+import spock.lang.TempDir
+
+import java.nio.ByteBuffer
+import java.nio.channels.DatagramChannel
+import java.nio.channels.ServerSocketChannel
+import java.nio.channels.SocketChannel
+import java.nio.charset.StandardCharsets
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Instant
+import java.util.concurrent.CopyOnWriteArrayList
+
+class NetworkCollectorSpecification extends Specification {
+
+	@TempDir
+	Path directory
+
+	//#region collect(List)
+	def "collect(List) sends each message as an RFC 5424 message framed with its length"() {
+		given:
+			def relay = new Relay()
+			def collector = Collector.tcp(relay.address(), this.directory.resolve("spool"), 1024 * 1024)
+			def messages = (0..<500).collect { i -> new LoggerMessage(Instant.parse("2024-02-29T23:59:59.123456789Z"), LoggerLevel.WARNING, 'thread "' + i + '"', "name]" + i, "Lörem ipsum\n" + i) }
+		when:
+			messages.collate(64).each { collector.collect(it) }
+			collector.close()
+			def received = relay.await(messages.size())
+			relay.close()
+		then:
+			received.size() == messages.size()
+			received.every { it.startsWith("<12>1 2024-02-29T23:59:59.123456Z ") }
+			received.withIndex().every { message, i -> message.contains('[stellar@32473 name="name\\]' + i + '" thread="thread \\"' + i + '\\""]') }
+			received.withIndex().every { message, i -> message.endsWith("\uFEFFLörem ipsum\n" + i) }
+	}
+
+	def "collect(List) spools messages while the relay cannot be reached and replays them once it can"() {
+		given:
+			def unavailable = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.loopbackAddress, 0))
+			def address = (InetSocketAddress) unavailable.localAddress
+			unavailable.close()
+			def collector = Collector.tcp(address, this.directory.resolve("spool"), 1024 * 1024)
+		when:
+			(0..<100).each { i -> collector.collect(new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", "Spooled " + i)) }
+			def relay = new Relay(address)
+			Thread.sleep(500)
+			collector.collect(new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", "Sent"))
+			collector.close()
+			def received = relay.await(101)
+			relay.close()
+		then:
+			received.collect { it.substring(it.indexOf("\uFEFF") + 1) } == (0..<100).collect { "Spooled " + it } + ["Sent"]
+	}
+
+	def "collect(List) counts the messages that do not fit into the spool as dropped"() {
+		given:
+			def unavailable = ServerSocketChannel.open().bind(new InetSocketAddress(InetAddress.loopbackAddress, 0))
+			def address = (InetSocketAddress) unavailable.localAddress
+			unavailable.close()
+			def collector = Collector.tcp(address, this.directory.resolve("spool"), 1024)
+		when:
+			(0..<100).each { i -> collector.collect(new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", "Spooled " + i)) }
+			collector.close()
+		then:
+			collector.dropped() > 0
+			collector.dropped() < 100
+			Files.size(this.directory.resolve("spool")) <= 1024
+	}
+
+	def "collect(List) replays the spool up to a malformed frame, and discards the rest of it as dropped"() {
+		given:
+			def relay = new Relay()
+			def spool = this.directory.resolve("spool")
+			Files.write(spool, "7 Spooled-12x4 Corrupt".getBytes(StandardCharsets.US_ASCII))
+			def collector = Collector.tcp(relay.address(), spool, 1024 * 1024)
+		when:
+			collector.collect(new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", "Sent"))
+			collector.collect(new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", "Sent again"))
+			collector.close()
+			def received = relay.await(3)
+			relay.close()
+		then:
+			received[0] == "Spooled"
+			received.drop(1).collect { it.substring(it.indexOf("\uFEFF") + 1) } == ["Sent", "Sent again"]
+			collector.dropped() == 1
+			Files.size(spool) == 0
+	}
+
+	def "collect(List) truncates a message that does not fit into a datagram at the boundary of a character"() {
+		given:
+			def relay = DatagramChannel.open().bind(new InetSocketAddress(InetAddress.loopbackAddress, 0))
+			def collector = Collector.udp((InetSocketAddress) relay.localAddress, this.directory.resolve("spool"), 1024 * 1024)
+			def buffer = ByteBuffer.allocate(128 * 1024)
+		when:
+			collector.collect(new LoggerMessage(Instant.now(), LoggerLevel.INFORMATION, "thread", "name", "\uD83D\uDE80" * 40_000))
+			relay.receive(buffer)
+			collector.close()
+			relay.close()
+			def bytes = buffer.flip()
+		then:
+			bytes.remaining() <= 65_507
+			StandardCharsets.UTF_8.newDecoder().decode(bytes).toString().endsWith("\uD83D\uDE80")
+	}
+	//#endregion
+
+	/**
+	 * Represents a relay that accepts connections and decodes the RFC 6587 frames received from them.
+	 */
+	private static final class Relay implements Closeable {
+
+		final ServerSocketChannel server
+		final List<String> messages = new CopyOnWriteArrayList<>()
+		final Thread thread
+
+		Relay(InetSocketAddress address = new InetSocketAddress(InetAddress.loopbackAddress, 0)) {
+			this.server = ServerSocketChannel.open().bind(address)
+			this.thread = Thread.startVirtualThread {
+				try {
+					while (true) this.read(this.server.accept())
+				} catch (IOException ignored) {
+					assert true
+				}
+			}
+		}
+
+		InetSocketAddress address() {
+			return (InetSocketAddress) this.server.localAddress
+		}
+
+		List<String> await(int count) {
+			for (int i = 0; i < 100 && this.messages.size() < count; i++) Thread.sleep(50)
+			return this.messages
+		}
+
+		private void read(SocketChannel channel) {
+			def input = new DataInputStream(new BufferedInputStream(channel.socket().inputStream))
+			try {
+				while (true) {
+					def length = new StringBuilder()
+					for (int read = input.read(); read != (' ' as char); read = input.read()) {
+						if (read == -1) return
+						length.append((char) read)
+					}
+					def bytes = new byte[Integer.parseInt(length.toString())]
+					input.readFully(bytes)
+					this.messages << new String(bytes, StandardCharsets.UTF_8)
+				}
+			} finally {
+				channel.close()
+			}
+		}
+
+		@Override
+		void close() {
+			this.server.close()
+		}
+	}
+}
\ No newline at end of file